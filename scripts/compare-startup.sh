@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Compares startup time and memory of the JVM and native builds, and runs NativeImageSmokeTest against each.
+# Both run with the docker,fast-start profiles on an in-memory H2 database, so no Postgres is needed
+# (audit logs and mail fail quietly without Mongo and SMTP).
+#
+#   mvn -P fast-start package -DskipTests && cp target/ProjectTracker-0.0.1-SNAPSHOT.jar /tmp/app-jvm.jar
+#   mvn -P native,fast-start native:compile -DskipTests
+#   scripts/compare-startup.sh "java -Xmx512m -Dspring.aot.enabled=true -jar /tmp/app-jvm.jar" "target/project-tracker -Xmx512m"
+#
+# Note: the native profile enhances the entity classes in target/classes; run mvn clean before the next JVM build.
+set -euo pipefail
+
+PORT=${PORT:-18080}
+RUNS=${RUNS:-3}
+
+export SPRING_PROFILES_ACTIVE=docker,fast-start SERVER_PORT=$PORT
+export SPRING_DATASOURCE_URL="jdbc:h2:mem:compare;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+export SPRING_DATASOURCE_DRIVER_CLASS_NAME=org.h2.Driver SPRING_DATASOURCE_USERNAME=sa SPRING_DATASOURCE_PASSWORD=
+export SPRING_JPA_PROPERTIES_HIBERNATE_DIALECT=org.hibernate.dialect.H2Dialect LOGGING_LEVEL_ORG_MONGODB_DRIVER=OFF
+export POSTGRES_DB=compare POSTGRES_USER=sa POSTGRES_PASSWORD= MONGO_INITDB_DATABASE=compare
+export SMTP_HOST=localhost SMTP_PORT=25 SMTP_USERNAME=compare SMTP_PASSWORD=compare
+export NOTIFICATION_EMAIL_FROM=compare@example.com NOTIFICATION_EMAIL_SUBJECT_PREFIX=compare
+export GOOGLE_CLIENT_ID=compare GOOGLE_CLIENT_SECRET=compare
+
+rss_mb() {
+  awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$1/status"
+}
+
+measure() {
+  local command=$1 run=$2 log
+  log=$(mktemp)
+  $command > "$log" 2>&1 &
+  local pid=$!
+  # StartupReport logs this line once the application is ready
+  until grep -q "Startup: ready" "$log"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "Application exited during startup, log: $log" >&2
+      exit 1
+    fi
+    sleep 0.2
+  done
+  local ready_ms idle_rss smoke_result loaded_rss
+  ready_ms=$(sed -n 's/.*Startup: ready \([0-9]*\) ms.*/\1/p' "$log")
+  idle_rss=$(rss_mb "$pid")
+  smoke_result=FAILED
+  if ./mvnw -q test -Dtest=NativeImageSmokeTest -Dsurefire.failIfNoSpecifiedTests=false \
+      -Dsmoke.baseUrl="http://localhost:$PORT" > "$log.smoke" 2>&1; then
+    smoke_result=passed
+  fi
+  loaded_rss=$(rss_mb "$pid")
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  printf "%-10s %4d %10d %14d %16d %8s\n" "$3" "$run" "$ready_ms" "$idle_rss" "$loaded_rss" "$smoke_result"
+  rm -f "$log" "$log.smoke"
+}
+
+printf "%-10s %4s %10s %14s %16s %8s\n" build run "ready ms" "RSS ready MB" "RSS smoke MB" smoke
+for run in $(seq 1 "$RUNS"); do
+  measure "$1" "$run" jvm
+  measure "$2" "$run" native
+done
@@ -0,0 +1,55 @@
+package com.example.clb.projecttracker.benchmark;
+
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities shaped like the ones the services map, with their references already loaded.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark project");
+        project.setDeadline(LocalDate.now().plusMonths(6));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setVersion(0L);
+
+        Developer developer = new Developer();
+        developer.setId(1L);
+        developer.setName("Benchmark developer");
+        developer.setEmail("developer@example.com");
+        developer.setVersion(0L);
+
+        TaskStatus[] statuses = TaskStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i + ", long enough to look like a real one.");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setDueDate(LocalDate.now().plusDays(i % 60));
+            task.setProject(project);
+            task.setDeveloper(i % 4 == 0 ? null : developer);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
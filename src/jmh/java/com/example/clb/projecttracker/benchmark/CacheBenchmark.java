@@ -0,0 +1,99 @@
+package com.example.clb.projecttracker.benchmark;
+
+import com.example.clb.projecttracker.cache.CacheKeyPopularity;
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.config.CacheConfig;
+import com.example.clb.projecttracker.dto.TaskDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Caffeine setup of CacheConfig under concurrent reads mixed with writes' evictions.
+ * Keys follow a Zipf distribution over more ids than the cache holds, like hot and cold tasks.
+ * "evictKey" mirrors @CacheEvict(key = ...), "clearAll" mirrors @CacheEvict(allEntries = true).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int SAMPLES = 1 << 14;
+
+    @Param({"2000"})
+    public int keySpace;
+
+    private Cache cache;
+    private Long[] keys;
+    private TaskDto value;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = new AppProperties();
+        cache = new CacheConfig()
+                .cacheManager(new CacheKeyPopularity(appProperties), appProperties, new SimpleMeterRegistry(), Runnable::run)
+                .getCache("tasks");
+        value = new TaskDto();
+        keys = zipfKeys(keySpace, new Random(42));
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = new Random().nextInt(SAMPLES);
+
+        int next() {
+            position = (position + 1) & (SAMPLES - 1);
+            return position;
+        }
+    }
+
+    @Benchmark
+    @Group("evictKey")
+    @GroupThreads(3)
+    public Object evictKeyRead(Cursor cursor) {
+        return cache.get(keys[cursor.next()], () -> value);
+    }
+
+    @Benchmark
+    @Group("evictKey")
+    @GroupThreads(1)
+    public void evictKeyWrite(Cursor cursor) {
+        cache.evict(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("clearAll")
+    @GroupThreads(3)
+    public Object clearAllRead(Cursor cursor) {
+        return cache.get(keys[cursor.next()], () -> value);
+    }
+
+    @Benchmark
+    @Group("clearAll")
+    @GroupThreads(1)
+    public void clearAllWrite() {
+        cache.clear();
+    }
+
+    private static Long[] zipfKeys(int keySpace, Random random) {
+        double[] cumulative = new double[keySpace];
+        double sum = 0;
+        for (int i = 0; i < keySpace; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        Long[] samples = new Long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            double point = random.nextDouble() * sum;
+            int index = java.util.Arrays.binarySearch(cumulative, point);
+            samples[i] = (long) (index >= 0 ? index : -index - 1) + 1;
+        }
+        return samples;
+    }
+}
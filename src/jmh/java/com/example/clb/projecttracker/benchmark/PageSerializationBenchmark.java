@@ -0,0 +1,46 @@
+package com.example.clb.projecttracker.benchmark;
+
+import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.mapper.TaskMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a Page&lt;TaskDto&gt; response body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskDto> page;
+
+    @Setup
+    public void setUp() {
+        // WebMvcConfig uses @EnableWebMvc, so responses go through the converter's default builder, not Boot's ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<TaskDto> tasks = new TaskMapperImpl().toDto(BenchmarkData.tasks(pageSize));
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize, Sort.by("dueDate")), 1_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.clb.projecttracker.benchmark;
+
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.mapper.TaskMapperImpl;
+import com.example.clb.projecttracker.protobuf.SummaryProtobufCodec;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Page&lt;TaskSummaryDto&gt; response body in each negotiable format: encoding as the server does, and decoding
+ * into summaries as a Java client would. The payload size of each format is printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryFormatBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private Page<TaskSummaryDto> page;
+    private ObjectMapper objectMapper;
+    private ObjectReader pageReader;
+    private byte[] encoded;
+
+    // The part of a serialized Page that clients use
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PageBody(List<TaskSummaryDto> content, long totalElements) {
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        TaskMapperImpl mapper = new TaskMapperImpl();
+        List<TaskSummaryDto> summaries = BenchmarkData.tasks(pageSize).stream().map(mapper::toSummaryDto).toList();
+        page = new PageImpl<>(summaries, PageRequest.of(0, pageSize, Sort.by("dueDate")), 1_000);
+        // The builders of the converters @EnableWebMvc registers
+        objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> null;
+        };
+        pageReader = objectMapper != null ? objectMapper.readerFor(PageBody.class) : null;
+        encoded = encode();
+        System.out.printf("%n%s, %d summaries: %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (objectMapper != null) {
+            return objectMapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pageSize * 64);
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        SummaryProtobufCodec.writeTaskSummaries(page, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if (pageReader != null) {
+            return pageReader.readValue(encoded);
+        }
+        return SummaryProtobufCodec.readTaskSummaries(CodedInputStream.newInstance(encoded));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.clb.projecttracker.benchmark;
+
+import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.mapper.TaskMapper;
+import com.example.clb.projecttracker.mapper.TaskMapperImpl;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.service.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written TaskServiceImpl.mapToDto against the MapStruct TaskMapper for a single task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    // mapToDto is private; a constant method handle is inlined by the JIT like a direct call
+    private static final MethodHandle SERVICE_MAP_TO_DTO;
+
+    static {
+        try {
+            Method method = TaskServiceImpl.class.getDeclaredMethod("mapToDto", Task.class);
+            method.setAccessible(true);
+            SERVICE_MAP_TO_DTO = MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private TaskServiceImpl taskService;
+    private TaskMapper taskMapper;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // mapToDto does not touch the injected collaborators, so the service is created without them
+        taskService = new ObjenesisStd().newInstance(TaskServiceImpl.class);
+        taskMapper = new TaskMapperImpl();
+        task = BenchmarkData.tasks(2).get(1);
+    }
+
+    @Benchmark
+    public TaskDto serviceMapToDto() throws Throwable {
+        return (TaskDto) SERVICE_MAP_TO_DTO.invokeExact(taskService, task);
+    }
+
+    @Benchmark
+    public TaskDto mapperToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public TaskSummaryDto mapperToSummaryDto() {
+        return taskMapper.toSummaryDto(task);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Many users logging in at once (password hashing, token issuing) while others hit a cheap authenticated endpoint
+ * (token validation and user lookup on every request).
+ */
+final class AuthStormScenario implements Scenario {
+
+    private final LoadTarget target;
+    private final SeededData data;
+    private final List<String> tokens;
+
+    AuthStormScenario(LoadTarget target, SeededData data, List<String> tokens) {
+        this.target = target;
+        this.data = data;
+        this.tokens = tokens;
+    }
+
+    @Override
+    public String name() {
+        return "auth";
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        int user = random.nextInt(data.usernames().size());
+        if (random.nextInt(100) < 30) {
+            return new Operation("login", target.login(data.usernames().get(user), data.password()));
+        }
+        return new Operation("currentUser", target.get("/auth/me", tokens.get(user)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Read-heavy dashboard traffic: summaries, status counts and top developers, plus single task reads on popular tasks.
+ */
+final class DashboardScenario implements Scenario {
+
+    private final LoadTarget target;
+    private final SeededData data;
+    private final String token;
+    private final ZipfSampler projects;
+    private final ZipfSampler tasks;
+    private final ZipfSampler summaryPages;
+
+    DashboardScenario(LoadTarget target, SeededData data, String token) {
+        this.target = target;
+        this.data = data;
+        this.token = token;
+        this.projects = new ZipfSampler(data.projectIds().length, 1.1);
+        this.tasks = new ZipfSampler(data.taskIds().length, 1.1);
+        this.summaryPages = new ZipfSampler(Math.max(1, data.projectIds().length / 20), 1.5);
+    }
+
+    @Override
+    public String name() {
+        return "dashboard";
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            // Explicit sort: the endpoint's default "name,asc" is not a valid property path
+            return new Operation("projectSummaries",
+                    target.get("/api/projects/summaries?size=20&sort=name&page=" + summaryPages.next(random), token));
+        }
+        if (roll < 35) {
+            return new Operation("statusCountsOverall", target.get("/api/tasks/status-counts", token));
+        }
+        if (roll < 50) {
+            return new Operation("statusCountsByProject",
+                    target.get("/api/tasks/projects/" + project(random) + "/status-counts", token));
+        }
+        if (roll < 60) {
+            return new Operation("topDevelopers", target.get("/api/v1/developers/top?limit=5", token));
+        }
+        if (roll < 80) {
+            return new Operation("projectTaskSummaries",
+                    target.get("/api/tasks/project/" + project(random) + "/summaries?size=20", token));
+        }
+        return new Operation("taskById", target.get("/api/tasks/" + data.taskIds()[tasks.next(random)], token));
+    }
+
+    private long project(SplittableRandom random) {
+        return data.projectIds()[projects.next(random)];
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.clb.projecttracker.loadtest;
+
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.ERole;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Role;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.User;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.RoleRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds projects, developers, tasks and users from a fixed seed, so every run works on the same data set.
+ * Tasks are spread over projects and developers with Zipf skew (a few projects and developers own most tasks),
+ * about 15% of tasks are unassigned and 10% are overdue.
+ */
+class DataGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final double SKEW = 1.1;
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] SKILLS = {"Java, Spring Boot", "SQL, PostgreSQL", "React, TypeScript", "Kotlin", "DevOps, Docker"};
+    // Weighted like a live tracker: mostly open or done, few blocked or cancelled
+    private static final TaskStatus[] STATUS_WEIGHTS = {
+            TaskStatus.TO_DO, TaskStatus.TO_DO, TaskStatus.TO_DO, TaskStatus.TO_DO, TaskStatus.TO_DO, TaskStatus.TO_DO,
+            TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS,
+            TaskStatus.BLOCKED,
+            TaskStatus.IN_REVIEW, TaskStatus.IN_REVIEW,
+            TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED,
+            TaskStatus.CANCELLED};
+
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    DataGenerator(ApplicationContext context) {
+        this.projectRepository = context.getBean(ProjectRepository.class);
+        this.developerRepository = context.getBean(DeveloperRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.roleRepository = context.getBean(RoleRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.entityManager = context.getBean(EntityManager.class);
+    }
+
+    SeededData generate(LoadTestSettings settings) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long[] projectIds = createProjects(settings.projects(), random);
+        long[] developerIds = createDevelopers(settings.developers());
+        long[] taskIds = createTasks(settings.tasks(), projectIds, developerIds, random);
+        List<String> usernames = createUsers(settings.users());
+        return new SeededData(projectIds, developerIds, taskIds, usernames, PASSWORD);
+    }
+
+    private long[] createProjects(int count, SplittableRandom random) {
+        ProjectStatus[] statuses = ProjectStatus.values();
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setName(String.format("Project %05d", i));
+            project.setDescription("Synthetic project " + i);
+            project.setDeadline(LocalDate.now().plusDays(30 + random.nextInt(365)));
+            project.setStatus(statuses[random.nextInt(statuses.length)]);
+            projects.add(project);
+        }
+        List<Project> saved = transactionTemplate.execute(status -> projectRepository.saveAll(projects));
+        return saved.stream().mapToLong(Project::getId).toArray();
+    }
+
+    private long[] createDevelopers(int count) {
+        List<Developer> developers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Developer developer = new Developer();
+            developer.setName("Developer " + i);
+            developer.setEmail("developer-" + i + "@loadtest.example");
+            developer.setSkills(SKILLS[i % SKILLS.length]);
+            developers.add(developer);
+        }
+        List<Developer> saved = transactionTemplate.execute(status -> developerRepository.saveAll(developers));
+        return saved.stream().mapToLong(Developer::getId).toArray();
+    }
+
+    private long[] createTasks(int count, long[] projectIds, long[] developerIds, SplittableRandom random) {
+        ZipfSampler projectSampler = new ZipfSampler(projectIds.length, SKEW);
+        ZipfSampler developerSampler = new ZipfSampler(developerIds.length, SKEW);
+        long[] taskIds = new long[count];
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int first = offset;
+            int last = Math.min(offset + BATCH_SIZE, count);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Task> tasks = new ArrayList<>(last - first);
+                for (int i = first; i < last; i++) {
+                    Task task = new Task();
+                    task.setTitle("Task " + i);
+                    task.setDescription("Synthetic task " + i);
+                    task.setStatus(STATUS_WEIGHTS[random.nextInt(STATUS_WEIGHTS.length)]);
+                    task.setDueDate(random.nextInt(10) == 0
+                            ? LocalDate.now().minusDays(1 + random.nextInt(30))
+                            : LocalDate.now().plusDays(1 + random.nextInt(120)));
+                    task.setProject(entityManager.getReference(Project.class, projectIds[projectSampler.next(random)]));
+                    if (random.nextInt(100) >= 15) {
+                        task.setDeveloper(entityManager.getReference(Developer.class, developerIds[developerSampler.next(random)]));
+                    }
+                    tasks.add(task);
+                }
+                List<Task> saved = taskRepository.saveAll(tasks);
+                for (int i = 0; i < saved.size(); i++) {
+                    taskIds[first + i] = saved.get(i).getId();
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return taskIds;
+    }
+
+    private List<String> createUsers(int count) {
+        // One hash for everybody: BCrypt per user would dominate the seeding time
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        Role manager = roleRepository.findByName(ERole.ROLE_MANAGER).orElseThrow();
+        Role developer = roleRepository.findByName(ERole.ROLE_DEVELOPER).orElseThrow();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User("loadtest-user-" + i, "user-" + i + "@loadtest.example", passwordHash);
+            user.setRoles(new HashSet<>(Set.of(i % 5 == 0 ? manager : developer)));
+            users.add(user);
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+        return users.stream().map(User::getUsername).toList();
+    }
+}
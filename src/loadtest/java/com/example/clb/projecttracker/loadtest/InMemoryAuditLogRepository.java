@@ -0,0 +1,103 @@
+package com.example.clb.projecttracker.loadtest;
+
+import com.example.clb.projecttracker.document.AuditLog;
+import com.example.clb.projecttracker.repository.AuditLogRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Mongo audit log collection. Supports the writes the services issue
+ * (save, saveAll, insert) plus count and paged findAll; anything else fails loudly.
+ * Only the newest {@link #RETAINED} documents are kept, so long runs do not grow the heap.
+ */
+final class InMemoryAuditLogRepository implements InvocationHandler {
+
+    private static final int RETAINED = 10_000;
+
+    private final ConcurrentLinkedQueue<AuditLog> documents = new ConcurrentLinkedQueue<>();
+    private final AtomicLong written = new AtomicLong();
+
+    static AuditLogRepository create(InMemoryAuditLogRepository handler) {
+        return (AuditLogRepository) Proxy.newProxyInstance(AuditLogRepository.class.getClassLoader(),
+                new Class<?>[]{AuditLogRepository.class}, handler);
+    }
+
+    long written() {
+        return written.get();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "save", "insert" -> {
+                if (args[0] instanceof Collection<?> collection) {
+                    return saveAll(collection);
+                }
+                return store((AuditLog) args[0]);
+            }
+            case "saveAll" -> {
+                return saveAll((Iterable<?>) args[0]);
+            }
+            case "count" -> {
+                return written.get();
+            }
+            case "findAll" -> {
+                if (args != null && args.length == 1 && args[0] instanceof Pageable pageable) {
+                    return page(pageable);
+                }
+            }
+            case "toString" -> {
+                return "InMemoryAuditLogRepository";
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            default -> {
+            }
+        }
+        throw new UnsupportedOperationException("Not supported by the load-test audit log store: " + method);
+    }
+
+    private AuditLog store(AuditLog auditLog) {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID().toString());
+        }
+        documents.add(auditLog);
+        if (written.incrementAndGet() > RETAINED) {
+            documents.poll();
+        }
+        return auditLog;
+    }
+
+    private List<AuditLog> saveAll(Iterable<?> auditLogs) {
+        List<AuditLog> saved = new ArrayList<>();
+        for (Object auditLog : auditLogs) {
+            saved.add(store((AuditLog) auditLog));
+        }
+        return saved;
+    }
+
+    private Page<AuditLog> page(Pageable pageable) {
+        List<AuditLog> all = new ArrayList<>(documents);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all);
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects every response time of a scenario run, per operation, and turns them into percentiles.
+ * Raw samples rather than a histogram: a run records at most a few million values, and exact percentiles
+ * make runs comparable without bucket-boundary effects.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> operations = new ConcurrentHashMap<>();
+
+    /**
+     * @param status HTTP status, or -1 when the request failed without a response
+     */
+    void record(String operation, long nanos, int status) {
+        operations.computeIfAbsent(operation, name -> new Samples()).add(nanos, status);
+    }
+
+    List<OperationStats> operationStats(double seconds) {
+        List<OperationStats> stats = new ArrayList<>();
+        new TreeMap<>(operations).forEach((name, samples) -> stats.add(samples.stats(name, seconds)));
+        return stats;
+    }
+
+    OperationStats totalStats(double seconds) {
+        Samples total = new Samples();
+        operations.values().forEach(total::addAll);
+        return total.stats("total", seconds);
+    }
+
+    record OperationStats(String operation, long requests, long errors, double throughputPerSecond,
+                          double p50Millis, double p90Millis, double p99Millis, double maxMillis,
+                          Map<Integer, Long> statusCodes) {
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private final Map<Integer, Long> statusCodes = new TreeMap<>();
+
+        synchronized void add(long value, int status) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            statusCodes.merge(status, 1L, Long::sum);
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    if (size == nanos.length) {
+                        nanos = Arrays.copyOf(nanos, Math.max(size * 2, size + other.size));
+                    }
+                    nanos[size++] = other.nanos[i];
+                }
+                other.statusCodes.forEach((status, count) -> statusCodes.merge(status, count, Long::sum));
+            }
+        }
+
+        synchronized OperationStats stats(String name, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            long errors = statusCodes.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 0 || entry.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            return new OperationStats(name, size, errors, round(size / seconds),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)), millis(size == 0 ? 0 : sorted[size - 1]),
+                    new TreeMap<>(statusCodes));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            // Nearest-rank: the smallest value with at least quantile * n values at or below it
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.clb.projecttracker.loadtest;
+
+import com.example.clb.projecttracker.repository.AuditLogRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Beans replacing external services for the harness. Registered explicitly by {@link LoadTestRunner}
+ * rather than annotated with @Configuration, so component scanning never picks it up in other contexts.
+ */
+class LoadTestConfiguration {
+
+    @Bean
+    InMemoryAuditLogRepository inMemoryAuditLogStore() {
+        return new InMemoryAuditLogRepository();
+    }
+
+    @Bean
+    @Primary
+    AuditLogRepository inMemoryAuditLogRepository(InMemoryAuditLogRepository inMemoryAuditLogStore) {
+        return InMemoryAuditLogRepository.create(inMemoryAuditLogStore);
+    }
+}
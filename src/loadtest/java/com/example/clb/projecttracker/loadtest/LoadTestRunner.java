@@ -0,0 +1,93 @@
+package com.example.clb.projecttracker.loadtest;
+
+import com.example.clb.projecttracker.ProjectTrackerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application on H2 with in-process stand-ins for Mongo ({@link InMemoryAuditLogRepository}) and SMTP
+ * ({@link FakeSmtpServer}), seeds it with {@link DataGenerator}, drives the requested scenarios over HTTP and writes
+ * p50/p90/p99 latencies and throughput per scenario and operation to a JSON report.
+ * Run through the {@code loadtest} Maven profile: {@code mvn -P loadtest verify -DskipTests}
+ */
+public final class LoadTestRunner {
+
+    private static final String ADMIN_USERNAME = "admin";
+    private static final String ADMIN_PASSWORD = "728728";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (FakeSmtpServer smtp = new FakeSmtpServer();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectTrackerApplication.class, LoadTestConfiguration.class)
+                     .profiles("loadtest")
+                     .properties("spring.mail.port=" + smtp.port())
+                     .run(args)) {
+
+            long seedingStart = System.nanoTime();
+            SeededData data = new DataGenerator(context).generate(settings);
+            long seedingMillis = (System.nanoTime() - seedingStart) / 1_000_000;
+            System.out.printf("Seeded %d projects, %d developers, %d tasks and %d users in %d ms%n",
+                    settings.projects(), settings.developers(), settings.tasks(), settings.users(), seedingMillis);
+
+            LoadTarget target = new LoadTarget(Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port")));
+            String adminToken = target.obtainToken(ADMIN_USERNAME, ADMIN_PASSWORD);
+            ScenarioDriver driver = new ScenarioDriver(target.client(), settings);
+
+            List<ScenarioDriver.ScenarioResult> results = new ArrayList<>();
+            for (String name : settings.scenarios()) {
+                Scenario scenario = switch (name) {
+                    case "dashboard" -> new DashboardScenario(target, data, adminToken);
+                    case "reassign" -> new ReassignScenario(target, data, adminToken);
+                    case "auth" -> new AuthStormScenario(target, data, userTokens(target, data));
+                    default -> throw new IllegalArgumentException("Unknown scenario " + name + ", expected dashboard, reassign or auth");
+                };
+                System.out.printf("Running %s: %d users, %d s warm-up, %d s measured%n",
+                        name, settings.threads(), settings.warmupSeconds(), settings.durationSeconds());
+                ScenarioDriver.ScenarioResult result = driver.run(scenario);
+                print(result);
+                results.add(result);
+            }
+
+            Report report = new Report(Instant.now().toString(), settings.seed(), settings.projects(), settings.developers(),
+                    settings.tasks(), settings.users(), seedingMillis, results,
+                    context.getBean(InMemoryAuditLogRepository.class).written(), smtp.messages());
+            Files.createDirectories(settings.report().toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(settings.report().toFile(), report);
+            System.out.println("Report written to " + settings.report().toAbsolutePath());
+        }
+        // HTTP client and pool threads would otherwise keep the JVM alive
+        System.exit(0);
+    }
+
+    private static List<String> userTokens(LoadTarget target, SeededData data) throws Exception {
+        List<String> tokens = new ArrayList<>(data.usernames().size());
+        for (String username : data.usernames()) {
+            tokens.add(target.obtainToken(username, data.password()));
+        }
+        return tokens;
+    }
+
+    private static void print(ScenarioDriver.ScenarioResult result) {
+        System.out.printf("%-24s %10s %8s %10s %10s %10s %10s%n", result.scenario(), "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        List<LatencyRecorder.OperationStats> rows = new ArrayList<>(result.operations());
+        rows.add(result.total());
+        for (LatencyRecorder.OperationStats stats : rows) {
+            System.out.printf("  %-22s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", stats.operation(), stats.requests(), stats.errors(),
+                    stats.throughputPerSecond(), stats.p50Millis(), stats.p99Millis(), stats.maxMillis());
+        }
+    }
+
+    record Report(String finishedAt, long seed, int projects, int developers, int tasks, int users, long seedingMillis,
+                  List<ScenarioDriver.ScenarioResult> scenarios, long auditLogsWritten, long emailsSent) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Harness settings, read from {@code loadtest.*} system properties (the {@code loadtest} Maven profile passes them on).
+ */
+record LoadTestSettings(List<String> scenarios, int threads, int warmupSeconds, int durationSeconds, long seed,
+                        int projects, int developers, int tasks, int users, Path report) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Arrays.stream(System.getProperty("loadtest.scenarios", "dashboard,reassign,auth").split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList(),
+                Integer.getInteger("loadtest.threads", 16),
+                Integer.getInteger("loadtest.warmupSeconds", 10),
+                Integer.getInteger("loadtest.durationSeconds", 30),
+                Long.getLong("loadtest.seed", 42L),
+                Integer.getInteger("loadtest.projects", 200),
+                Integer.getInteger("loadtest.developers", 500),
+                Integer.getInteger("loadtest.tasks", 20_000),
+                Integer.getInteger("loadtest.users", 50),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.clb.projecttracker.loadtest;
+
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+
+import java.util.SplittableRandom;
+
+/**
+ * Write-heavy triage traffic: reassigning and moving popular tasks, which evicts the task and aggregate caches.
+ */
+final class ReassignScenario implements Scenario {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final LoadTarget target;
+    private final SeededData data;
+    private final String token;
+    private final ZipfSampler tasks;
+    private final ZipfSampler developers;
+
+    ReassignScenario(LoadTarget target, SeededData data, String token) {
+        this.target = target;
+        this.data = data;
+        this.token = token;
+        this.tasks = new ZipfSampler(data.taskIds().length, 1.1);
+        this.developers = new ZipfSampler(data.developerIds().length, 1.1);
+    }
+
+    @Override
+    public String name() {
+        return "reassign";
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        long taskId = data.taskIds()[tasks.next(random)];
+        int roll = random.nextInt(100);
+        if (roll < 60) {
+            long developerId = data.developerIds()[developers.next(random)];
+            return new Operation("assignTask", target.patch("/api/tasks/" + taskId + "/assign/" + developerId, token));
+        }
+        if (roll < 80) {
+            TaskStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            return new Operation("updateTaskStatus", target.patch("/api/tasks/" + taskId + "/status?status=" + status, token));
+        }
+        return new Operation("taskById", target.get("/api/tasks/" + taskId, token));
+    }
+}
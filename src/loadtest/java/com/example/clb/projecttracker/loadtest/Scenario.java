@@ -0,0 +1,17 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+/**
+ * A traffic mix: each call picks the next request a virtual user sends.
+ */
+interface Scenario {
+
+    String name();
+
+    Operation next(SplittableRandom random);
+
+    record Operation(String name, HttpRequest request) {
+    }
+}
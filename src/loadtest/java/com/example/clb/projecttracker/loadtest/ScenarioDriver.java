@@ -0,0 +1,80 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a scenario as a closed loop: a fixed number of virtual users, each sending its next request as soon as
+ * the previous response is in. Responses during the warm-up period are not recorded.
+ */
+final class ScenarioDriver {
+
+    private final HttpClient client;
+    private final LoadTestSettings settings;
+
+    ScenarioDriver(HttpClient client, LoadTestSettings settings) {
+        this.client = client;
+        this.settings = settings;
+    }
+
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+        ExecutorService users = Executors.newFixedThreadPool(settings.threads());
+        List<Future<?>> running = new ArrayList<>();
+        for (int user = 0; user < settings.threads(); user++) {
+            SplittableRandom random = new SplittableRandom(settings.seed() * 31 + user);
+            running.add(users.submit(() -> virtualUser(scenario, random, recorder, measureFrom, end)));
+        }
+        for (Future<?> future : running) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Virtual user of " + scenario.name() + " failed", e.getCause());
+            }
+        }
+        users.shutdown();
+
+        double seconds = settings.durationSeconds();
+        return new ScenarioResult(scenario.name(), settings.threads(), settings.durationSeconds(),
+                recorder.totalStats(seconds), recorder.operationStats(seconds));
+    }
+
+    private void virtualUser(Scenario scenario, SplittableRandom random, LatencyRecorder recorder, long measureFrom, long end) {
+        long now = System.nanoTime();
+        while (now < end) {
+            Scenario.Operation operation = scenario.next(random);
+            int status;
+            try {
+                status = client.send(operation.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finished = System.nanoTime();
+            // Only requests that completed inside the measurement window count
+            if (now >= measureFrom && finished <= end) {
+                recorder.record(operation.name(), finished - now, status);
+            }
+            now = finished;
+        }
+    }
+
+    record ScenarioResult(String scenario, int threads, int durationSeconds,
+                          LatencyRecorder.OperationStats total, List<LatencyRecorder.OperationStats> operations) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.clb.projecttracker.loadtest;
+
+import java.util.List;
+
+/**
+ * Ids of the generated rows, ordered from most to least popular so scenarios can apply the same skew.
+ */
+record SeededData(long[] projectIds, long[] developerIds, long[] taskIds, List<String> usernames, String password) {
+}
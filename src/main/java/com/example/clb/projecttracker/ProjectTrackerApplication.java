@@ -3,29 +3,34 @@ package com.example.clb.projecttracker;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableCaching 
 @EnableAsync
 @EnableMongoAuditing
 @EnableScheduling 
 public class ProjectTrackerApplication {
 
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(String[] args) {
         // Load environment variables from .env file
         Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
         
-        // Set system properties from .env file for Spring to pick up
-        dotenv.entries().forEach(entry -> {
+        // Set system properties from .env file for Spring to pick up. Only the entries of the file itself:
+        // the process environment is already visible to Spring and does not need copying.
+        dotenv.entries(Dotenv.Filter.DECLARED_IN_ENV_FILE).forEach(entry -> {
             System.setProperty(entry.getKey(), entry.getValue());
         });
         
-        SpringApplication.run(ProjectTrackerApplication.class, args);
+        SpringApplication application = new SpringApplication(ProjectTrackerApplication.class);
+        // Keeps the startup steps for StartupReport and the startup actuator endpoint
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 
 }
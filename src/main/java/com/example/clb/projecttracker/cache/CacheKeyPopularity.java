@@ -0,0 +1,87 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts lookups per key for the caches that {@link CacheWarmUp} can pre-load, so the most requested keys can be
+ * saved in a snapshot and replayed after the next start. Other caches are not counted at all.
+ */
+@Component
+public class CacheKeyPopularity {
+
+    private final Set<String> trackedCaches;
+    private final int maxTrackedKeys;
+    private final Map<String, KeyCounts> counts = new ConcurrentHashMap<>();
+
+    public CacheKeyPopularity(AppProperties appProperties) {
+        AppProperties.CacheWarmUp settings = appProperties.getCacheWarmUp();
+        this.trackedCaches = settings.isEnabled() ? Set.copyOf(settings.getCaches()) : Set.of();
+        this.maxTrackedKeys = settings.getMaxTrackedKeys();
+    }
+
+    /**
+     * The counter of a cache, or null when its keys are not tracked. Resolved once per cache, so the lookup path
+     * costs nothing for caches that are not warmed up.
+     */
+    public KeyCounts countsFor(String cacheName) {
+        if (!trackedCaches.contains(cacheName)) {
+            return null;
+        }
+        return counts.computeIfAbsent(cacheName, name -> new KeyCounts(maxTrackedKeys));
+    }
+
+    public static final class KeyCounts {
+
+        private final int maxKeys;
+        private final Map<Object, LongAdder> lookupsByKey = new ConcurrentHashMap<>();
+        private final LongAdder lookups = new LongAdder();
+
+        private KeyCounts(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        public void record(Object key) {
+            lookups.increment();
+            LongAdder counter = lookupsByKey.get(key);
+            // Once full, new keys only count towards the total: the popular ones show up early
+            if (counter == null && lookupsByKey.size() < maxKeys) {
+                counter = lookupsByKey.computeIfAbsent(key, k -> new LongAdder());
+            }
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+
+        /**
+         * Carries the popularity of a key over from the previous snapshot, halved, so keys that were popular
+         * before a short-lived run are not forgotten, while stale ones fade out over restarts.
+         */
+        public void seed(Object key, long previousLookups) {
+            long carried = previousLookups / 2;
+            if (carried > 0 && lookupsByKey.size() < maxKeys) {
+                lookupsByKey.computeIfAbsent(key, k -> new LongAdder()).add(carried);
+                lookups.add(carried);
+            }
+        }
+
+        public long lookups() {
+            return lookups.sum();
+        }
+
+        public List<Map.Entry<Object, Long>> mostPopular(int limit) {
+            return lookupsByKey.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                    .sorted(Map.Entry.<Object, Long>comparingByValue(Comparator.reverseOrder()))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
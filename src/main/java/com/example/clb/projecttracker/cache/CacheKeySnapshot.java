@@ -0,0 +1,17 @@
+package com.example.clb.projecttracker.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File format of the key popularity snapshot written and replayed by {@link CacheWarmUp}: per cache, the total
+ * number of lookups and the most requested keys in their text form.
+ */
+public record CacheKeySnapshot(String savedAt, Map<String, CacheEntry> caches) {
+
+    public record CacheEntry(long lookups, List<KeyEntry> keys) {
+    }
+
+    public record KeyEntry(String key, long lookups) {
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.service.DeveloperService;
+import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Pre-loads the most requested keys of the aggregate caches after a start or deploy, so the first minutes of
+ * traffic do not all go to the database. Key popularity is counted by {@link CacheKeyPopularity}, saved to a
+ * snapshot file at shutdown (and periodically, in case the process is killed) and replayed here through the
+ * cached service methods, on a small pool and within a time limit. Runs as an {@link ApplicationRunner}, so the
+ * readiness probe only reports ACCEPTING_TRAFFIC once it is done.
+ */
+@Component
+public class CacheWarmUp implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmUp.class);
+
+    private final AppProperties.CacheWarmUp settings;
+    private final CacheKeyPopularity popularity;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path snapshotFile;
+    private final Map<String, WarmableCache> warmableCaches;
+    private final Map<String, Double> coverageByCache = new LinkedHashMap<>();
+    // Set once the snapshot has been replayed: an application that never got that far must not overwrite it
+    private volatile boolean replayed;
+
+    public CacheWarmUp(AppProperties appProperties, CacheKeyPopularity popularity, MeterRegistry meterRegistry,
+                       ProjectService projectService, TaskService taskService, DeveloperService developerService) {
+        this.settings = appProperties.getCacheWarmUp();
+        this.popularity = popularity;
+        this.meterRegistry = meterRegistry;
+        this.snapshotFile = settings.getSnapshotFile().isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "project-tracker-cache-keys.json")
+                : Path.of(settings.getSnapshotFile());
+        this.warmableCaches = Map.of(
+                "projectSummariesPage", new WarmableCache(CacheWarmUp::encodePageable, CacheWarmUp::decodePageable,
+                        key -> projectService.getAllProjectSummaries((Pageable) key)),
+                "taskStatusCountsOverall", new WarmableCache(key -> SimpleKey.EMPTY.equals(key) ? "" : null, text -> SimpleKey.EMPTY,
+                        key -> taskService.getTaskCountsByStatusOverall()),
+                "topDevelopers", WarmableCache.ofLimit(developerService::getTopDevelopersByCompletedTasks),
+                "recentProjects", WarmableCache.ofLimit(projectService::getRecentProjects)
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        for (String cache : settings.getCaches()) {
+            if (!warmableCaches.containsKey(cache)) {
+                logger.warn("Cache warm-up: no loader for cache {}, its keys are not pre-loaded", cache);
+            }
+        }
+        try {
+            CacheKeySnapshot snapshot = readSnapshot();
+            if (snapshot != null) {
+                warmUp(snapshot);
+            }
+        } finally {
+            replayed = true;
+        }
+    }
+
+    private CacheKeySnapshot readSnapshot() {
+        if (!Files.isReadable(snapshotFile)) {
+            logger.info("Cache warm-up: no key snapshot at {}, caches start cold", snapshotFile);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(snapshotFile.toFile(), CacheKeySnapshot.class);
+        } catch (IOException e) {
+            logger.warn("Cache warm-up: unreadable key snapshot {}, caches start cold: {}", snapshotFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void warmUp(CacheKeySnapshot snapshot) {
+        List<WarmUpKey> keys = new ArrayList<>();
+        Map<String, Long> lookupsByCache = new LinkedHashMap<>();
+        for (String cache : settings.getCaches()) {
+            WarmableCache warmable = warmableCaches.get(cache);
+            CacheKeySnapshot.CacheEntry entry = snapshot.caches() != null ? snapshot.caches().get(cache) : null;
+            if (warmable == null || entry == null || entry.keys() == null) {
+                continue;
+            }
+            lookupsByCache.put(cache, entry.lookups());
+            CacheKeyPopularity.KeyCounts counts = popularity.countsFor(cache);
+            for (CacheKeySnapshot.KeyEntry keyEntry : entry.keys().stream().limit(settings.getMaxKeysPerCache()).toList()) {
+                try {
+                    Object key = warmable.decoder().apply(keyEntry.key());
+                    counts.seed(key, keyEntry.lookups());
+                    keys.add(new WarmUpKey(cache, key, keyEntry.lookups()));
+                } catch (RuntimeException e) {
+                    logger.debug("Cache warm-up: skipping key {} of {}: {}", keyEntry.key(), cache, e.getMessage());
+                }
+            }
+        }
+        // Most requested first, across caches, so a timeout cuts off the least valuable keys
+        keys.sort(Comparator.comparingLong(WarmUpKey::lookups).reversed());
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()),
+                new CustomizableThreadFactory("cache-warm-up-"));
+        List<Future<?>> loads = new ArrayList<>(keys.size());
+        for (WarmUpKey key : keys) {
+            loads.add(executor.submit(() -> warmableCaches.get(key.cache()).loader().accept(key.key())));
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(settings.getTimeoutSeconds(), TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        report(keys, loads, lookupsByCache, elapsedNanos);
+    }
+
+    private void report(List<WarmUpKey> keys, List<Future<?>> loads, Map<String, Long> lookupsByCache, long elapsedNanos) {
+        Map<String, long[]> perCache = new LinkedHashMap<>(); // loaded keys, keys, loaded lookups
+        lookupsByCache.keySet().forEach(cache -> perCache.put(cache, new long[3]));
+        int failed = 0;
+        int unfinished = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            WarmUpKey key = keys.get(i);
+            long[] stats = perCache.get(key.cache());
+            stats[1]++;
+            Future<?> load = loads.get(i);
+            if (!load.isDone() || load.isCancelled()) {
+                unfinished++;
+                continue;
+            }
+            try {
+                load.get();
+                stats[0]++;
+                stats[2] += key.lookups();
+            } catch (ExecutionException e) {
+                failed++;
+                logger.warn("Cache warm-up: loading {} key {} failed: {}", key.cache(), key.key(), e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                unfinished++;
+            }
+        }
+
+        long loadedKeys = perCache.values().stream().mapToLong(stats -> stats[0]).sum();
+        long loadedLookups = perCache.values().stream().mapToLong(stats -> stats[2]).sum();
+        long totalLookups = lookupsByCache.values().stream().mapToLong(Long::longValue).sum();
+        Timer.builder("cache.warmup.duration")
+                .description("Time spent pre-loading caches from the key snapshot before accepting traffic")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        perCache.forEach((cache, stats) -> {
+            coverageByCache.put(cache, ratio(stats[2], lookupsByCache.get(cache)));
+            Gauge.builder("cache.warmup.coverage", coverageByCache, coverage -> coverage.getOrDefault(cache, 0.0))
+                    .description("Share of the snapshot's lookups whose keys were pre-loaded")
+                    .tag("cache", cache)
+                    .register(meterRegistry);
+        });
+
+        logger.info("Cache warm-up: loaded {} of {} keys in {} ms ({} failed, {} not done within {} s), covering {} of the lookups in {}",
+                loadedKeys, keys.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), failed, unfinished,
+                settings.getTimeoutSeconds(), percent(ratio(loadedLookups, totalLookups)), snapshotFile);
+        logger.info("Cache warm-up: per cache {}", perCache.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue()[0] + "/" + entry.getValue()[1] + " keys, "
+                        + percent(coverageByCache.get(entry.getKey())))
+                .collect(Collectors.joining("; ")));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-warm-up.save-interval-seconds:300}",
+            initialDelayString = "${app.cache-warm-up.save-interval-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void saveSnapshotPeriodically() {
+        if (settings.isEnabled() && replayed) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        if (settings.isEnabled() && replayed) {
+            saveSnapshot();
+        }
+    }
+
+    synchronized void saveSnapshot() {
+        Map<String, CacheKeySnapshot.CacheEntry> caches = new LinkedHashMap<>();
+        for (String cache : settings.getCaches()) {
+            WarmableCache warmable = warmableCaches.get(cache);
+            CacheKeyPopularity.KeyCounts counts = popularity.countsFor(cache);
+            if (warmable == null || counts == null) {
+                continue;
+            }
+            List<CacheKeySnapshot.KeyEntry> keys = new ArrayList<>();
+            for (Map.Entry<Object, Long> entry : counts.mostPopular(settings.getMaxKeysPerCache())) {
+                String encoded = warmable.encoder().apply(entry.getKey());
+                if (encoded != null) {
+                    keys.add(new CacheKeySnapshot.KeyEntry(encoded, entry.getValue()));
+                }
+            }
+            caches.put(cache, new CacheKeySnapshot.CacheEntry(counts.lookups(), keys));
+        }
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // Written next to the snapshot and moved over it, so a crash mid-write keeps the previous one
+            Path temporary = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temporary.toFile(), new CacheKeySnapshot(Instant.now().toString(), caches));
+            Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Cache warm-up: key snapshot saved to {}", snapshotFile);
+        } catch (IOException e) {
+            logger.warn("Cache warm-up: could not save the key snapshot to {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    // page:size:property,DIRECTION;... Orders with ignore-case or explicit null handling are not replayed.
+    private static String encodePageable(Object key) {
+        if (!(key instanceof PageRequest pageable)) {
+            return null;
+        }
+        StringBuilder encoded = new StringBuilder().append(pageable.getPageNumber()).append(':').append(pageable.getPageSize()).append(':');
+        String separator = "";
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return null;
+            }
+            encoded.append(separator).append(order.getProperty()).append(',').append(order.getDirection());
+            separator = ";";
+        }
+        return encoded.toString();
+    }
+
+    private static Pageable decodePageable(String encoded) {
+        String[] parts = encoded.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected page:size:sort");
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        if (!parts[2].isEmpty()) {
+            for (String order : parts[2].split(";")) {
+                String[] propertyAndDirection = order.split(",", 2);
+                orders.add(new Sort.Order(Sort.Direction.fromString(propertyAndDirection[1]), propertyAndDirection[0]));
+            }
+        }
+        return PageRequest.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Sort.by(orders));
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole > 0 ? (double) part / whole : 0.0;
+    }
+
+    private static String percent(double ratio) {
+        return String.format("%.1f%%", ratio * 100);
+    }
+
+    private record WarmUpKey(String cache, Object key, long lookups) {
+    }
+
+    /**
+     * How keys of a cache are written to and read from the snapshot, and the cached service call that loads one.
+     * The encoder returns null for keys that cannot be replayed.
+     */
+    private record WarmableCache(Function<Object, String> encoder, Function<String, Object> decoder, Consumer<Object> loader) {
+
+        static WarmableCache ofLimit(IntConsumer loader) {
+            return new WarmableCache(key -> key instanceof Integer ? key.toString() : null, Integer::valueOf,
+                    key -> loader.accept((Integer) key));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.clb.projecttracker.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counter per entity collection ("tasks", "projects", "developers"), kept in the
+ * {@code collection_versions} table so every instance sees the same versions. The counters are used to build
+ * ETags for list/page endpoints and to validate cached response bodies. {@link #current(String)} answers from
+ * memory, so a 304 or a response cache hit does not touch the database: the versions are read once, then
+ * advanced by this instance's commits and by the poll. Writes made elsewhere show up within the poll interval.
+ * <p>
+ * Writes bump the counters through ChangeLogRecorder, in the writing transaction right before its commit: a
+ * reader sees the new version exactly when it can see the new data, and a transaction that writes many rows of
+ * a collection (bulk operations) bumps it once.
+ * <p>
+ * The counters also keep the local caches coherent with writes made by other instances. Each instance remembers
+ * the version its caches reflect; its own commits advance it, since the services evict what they wrote. A higher
+ * version seen by the poll every {@code app.caching.version-poll-ms}, or skipped over by a local commit, was
+ * written elsewhere and clears the caches that depend on the collection.
+ */
+@Component
+@Slf4j
+public class CollectionVersionTracker {
+
+    public static final String TASKS = "tasks";
+    public static final String PROJECTS = "projects";
+    public static final String DEVELOPERS = "developers";
+
+    // Task DTOs embed project and developer names; summaries, counts and rankings aggregate tasks.
+    // adminDashboard is not evicted by writes at all, see application.properties.
+    private static final Map<String, List<String>> DEPENDENT_CACHES = Map.of(
+            TASKS, List.of(TaskCache.TASKS, TaskCache.ID_PAGES, "taskStatusCountsByProject", "taskStatusCountsOverall",
+                    "projectSummary", "projectSummariesPage", "projectsWithNoTasksPage", "topDevelopers"),
+            PROJECTS, List.of("projects", "projectsPage", "projectsWithNoTasksPage", "projectSummary",
+                    "projectSummariesPage", "recentProjects", TaskCache.TASKS),
+            DEVELOPERS, List.of("developers", "developersPage", "topDevelopers", TaskCache.TASKS));
+
+    private static final String SELECT_SQL = "SELECT version FROM collection_versions WHERE name = ?";
+    private static final String SELECT_ALL_SQL = "SELECT name, version FROM collection_versions";
+    private static final String BUMP_SQL = "UPDATE collection_versions SET version = version + 1 WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    // Version the local caches reflect, per collection; -1 until first read
+    private final Map<String, AtomicLong> seen = new ConcurrentHashMap<>();
+
+    public CollectionVersionTracker(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    public long current(String collection) {
+        long current = seen(collection).get();
+        if (current >= 0) {
+            return current;
+        }
+        // Only until the first poll
+        Long version = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, collection);
+        observe(collection, version != null ? version : 0);
+        return seen(collection).get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.caching.version-poll-ms:1000}")
+    public void poll() {
+        jdbcTemplate.query(SELECT_ALL_SQL,
+                (RowCallbackHandler) row -> observe(row.getString("name"), row.getLong("version")));
+    }
+
+    /**
+     * Bumps the counters on the connection of a committing transaction and returns their new values, for
+     * {@link #committedLocally(Map)}. The rows stay locked until the commit, so they are updated in name order:
+     * two transactions writing the same collections cannot deadlock.
+     */
+    public Map<String, Long> bump(Connection connection, SortedSet<String> collections) throws SQLException {
+        try (PreparedStatement bump = connection.prepareStatement(BUMP_SQL)) {
+            for (String collection : collections) {
+                bump.setString(1, collection);
+                bump.addBatch();
+            }
+            bump.executeBatch();
+        }
+        Map<String, Long> versions = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL)) {
+            for (String collection : collections) {
+                select.setString(1, collection);
+                try (ResultSet row = select.executeQuery()) {
+                    if (row.next()) {
+                        versions.put(collection, row.getLong(1));
+                    }
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Records versions bumped by a transaction of this instance that committed. If nothing was written elsewhere
+     * in between, the local caches are current: the writing services evicted what they changed. Otherwise the
+     * versions written elsewhere have not been polled yet, and the dependent caches are cleared.
+     */
+    public void committedLocally(Map<String, Long> versions) {
+        versions.forEach((collection, version) -> {
+            if (!seen(collection).compareAndSet(version - 1, version)) {
+                observe(collection, version);
+            }
+        });
+    }
+
+    private void observe(String collection, long version) {
+        AtomicLong last = seen(collection);
+        long previous = last.get();
+        while (version > previous) {
+            if (last.compareAndSet(previous, version)) {
+                if (previous >= 0) {
+                    clearDependentCaches(collection, previous, version);
+                }
+                return;
+            }
+            previous = last.get();
+        }
+    }
+
+    private void clearDependentCaches(String collection, long previous, long version) {
+        log.debug("Collection {} changed on another instance ({} -> {}), clearing its dependent caches",
+                collection, previous, version);
+        for (String name : DEPENDENT_CACHES.getOrDefault(collection, List.of())) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private AtomicLong seen(String collection) {
+        return seen.computeIfAbsent(collection, name -> new AtomicLong(-1));
+    }
+}
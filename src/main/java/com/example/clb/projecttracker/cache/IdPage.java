@@ -0,0 +1,22 @@
+package com.example.clb.projecttracker.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * What a normalized page cache keeps of a page: the ids of its rows, in order, and the total number of rows.
+ * A primitive array, so a cached page of 20 rows costs about 200 bytes instead of 20 DTOs.
+ */
+public record IdPage(long[] ids, long total) {
+
+    public static IdPage of(Page<Long> page) {
+        return new IdPage(page.getContent().stream().mapToLong(Long::longValue).toArray(), page.getTotalElements());
+    }
+
+    public <T> Page<T> toPage(List<T> content, Pageable pageable) {
+        return new PageImpl<>(content, pageable, total);
+    }
+}
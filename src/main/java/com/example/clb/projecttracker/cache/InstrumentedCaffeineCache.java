@@ -0,0 +1,207 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.metrics.RequestMetricsTags;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Caffeine cache that reports each lookup as hit or miss to the metrics of the current request, and counts it
+ * per key for {@link CacheWarmUp} when the cache is warmed up.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} ({@code @Cacheable(sync = true)}) are single-flight: the first
+ * miss on a key puts its future in the {@link AsyncCache} and runs the method on its own thread, so the
+ * transaction, security context and request metrics are those of the caller. Concurrent misses on the same key
+ * wait for that future instead of running the same query again, for at most the cache's load timeout, after
+ * which they load the value themselves without caching it. {@link #getAll(Collection, Function)} waits the same way.
+ * The waits are timed as {@code cache.coalesced.waits{cache, outcome=shared|failed|timeout}}.
+ * <p>
+ * Still a {@link CaffeineCache}, so the cache meter binders and statistics keep working.
+ */
+public class InstrumentedCaffeineCache extends CaffeineCache {
+
+    private static final String COALESCED_WAITS = "cache.coalesced.waits";
+
+    private final CacheKeyPopularity.KeyCounts keyCounts;
+    private final long loadTimeoutNanos;
+    private final Timer sharedWaits;
+    private final Timer failedWaits;
+    private final Timer timedOutWaits;
+
+    public InstrumentedCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                                     CacheKeyPopularity popularity, Duration loadTimeout, MeterRegistry meterRegistry) {
+        super(name, cache, allowNullValues);
+        this.keyCounts = popularity.countsFor(name);
+        this.loadTimeoutNanos = loadTimeout.toNanos();
+        this.sharedWaits = coalescedWaits(meterRegistry, name, "shared");
+        this.failedWaits = coalescedWaits(meterRegistry, name, "failed");
+        this.timedOutWaits = coalescedWaits(meterRegistry, name, "timeout");
+    }
+
+    private static Timer coalescedWaits(MeterRegistry meterRegistry, String cacheName, String outcome) {
+        return Timer.builder(COALESCED_WAITS)
+                .description("Cache misses that waited for a load of the same key already in flight")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        recordLookup(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> cached = getAsyncCache().get(key, (k, executor) -> loading);
+        recordLookup(key, cached != loading);
+        if (cached == loading) {
+            return load(key, valueLoader, loading);
+        }
+        if (cached.isDone() && !cached.isCompletedExceptionally()) {
+            return fromCachedValue(cached.join());
+        }
+        return awaitLoadInFlight(key, valueLoader, cached);
+    }
+
+    // Caffeine removes the entry when the future fails, so the next miss on the key loads again
+    private <T> T load(Object key, Callable<T> valueLoader, CompletableFuture<Object> loading) {
+        try {
+            T value = valueLoader.call();
+            loading.complete(toStoreValue(value));
+            return value;
+        } catch (Throwable ex) {
+            loading.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    private <T> T awaitLoadInFlight(Object key, Callable<T> valueLoader, CompletableFuture<Object> inFlight) {
+        long start = System.nanoTime();
+        try {
+            Object value = inFlight.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+            sharedWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return fromCachedValue(value);
+        } catch (ExecutionException ex) {
+            // The load failed for every caller: rethrow its exception, as if this request had run it
+            failedWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        } catch (TimeoutException ex) {
+            timedOutWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        // The load in flight is stuck or slow: stop queueing behind it, and leave caching to it
+        try {
+            return valueLoader.call();
+        } catch (Throwable ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    /**
+     * Bulk lookup: the keys that are not cached are loaded together by one call of {@code loader}, on the calling
+     * thread, and cached. Keys the loader does not return are left out of the result and not cached. Keys already
+     * being loaded by another caller are waited for as with {@link #get(Object, Callable)}: for at most the load
+     * timeout, after which the ones still in flight are loaded again without caching them.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Set<Object> missed = new HashSet<>();
+        Map<Object, Object> loaded = new HashMap<>();
+        CompletableFuture<Map<Object, Object>> lookup = getAsyncCache().getAll(keys, (missing, executor) -> {
+            missed.addAll(missing);
+            try {
+                loader.apply((Set<K>) missing).forEach((key, value) -> loaded.put(key, toStoreValue(value)));
+                return CompletableFuture.completedFuture(loaded);
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        });
+        for (K key : keys) {
+            recordLookup(key, !missed.contains(key));
+        }
+        Map<Object, Object> storeValues = lookup.isDone()
+                ? joinAll(lookup)
+                : awaitAllInFlight(keys, loader, lookup, missed, loaded);
+        Map<K, V> values = new HashMap<>(storeValues.size());
+        storeValues.forEach((key, storeValue) -> values.put((K) key, (V) fromStoreValue(storeValue)));
+        return values;
+    }
+
+    private static Map<Object, Object> joinAll(CompletableFuture<Map<Object, Object>> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private <K, V> Map<Object, Object> awaitAllInFlight(Collection<K> keys, Function<Set<K>, Map<K, V>> loader,
+                                                        CompletableFuture<Map<Object, Object>> lookup,
+                                                        Set<Object> missed, Map<Object, Object> loaded) {
+        long start = System.nanoTime();
+        try {
+            Map<Object, Object> values = lookup.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+            sharedWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return values;
+        } catch (ExecutionException ex) {
+            failedWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            timedOutWaits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+        // Some loads in flight are stuck or slow: keep what is there, load the rest ourselves and leave caching to them
+        Map<Object, Object> values = new HashMap<>(loaded);
+        Set<K> pending = new HashSet<>();
+        for (K key : keys) {
+            if (missed.contains(key)) {
+                continue;
+            }
+            CompletableFuture<Object> inFlight = getAsyncCache().getIfPresent(key);
+            if (inFlight != null && inFlight.isDone() && !inFlight.isCompletedExceptionally() && inFlight.join() != null) {
+                values.put(key, inFlight.join());
+            } else {
+                pending.add(key);
+            }
+        }
+        if (!pending.isEmpty()) {
+            loader.apply(pending).forEach((key, value) -> values.put(key, toStoreValue(value)));
+        }
+        return values;
+    }
+
+    protected final void recordLookup(Object key, boolean hit) {
+        if (keyCounts != null) {
+            keyCounts.record(key);
+        }
+        RequestMetricsTags.recordCacheLookup(hit);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final <T> T fromCachedValue(Object storeValue) {
+        return (T) fromStoreValue(storeValue);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.config.AsyncConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Speculative next-page loads for paginated listings. When a listing (the same query, page size and sort) is
+ * served page N right after page N-1, page N+1 is loaded into the caches in the background, on the page prefetch
+ * executor, so the request that usually follows is a cache hit.
+ * <p>
+ * At most {@code app.prefetch.max-in-flight} prefetches load at once. A prefetched page asked for within the window
+ * counts as used, one that is not as wasted; when too few are used, prefetching switches itself off for a while
+ * and then probes again. Requests answered by the response cache never reach the service, so they are not seen.
+ * <p>
+ * Reports {@code page.prefetch{outcome=issued|used|wasted|skipped_budget|skipped_disabled|rejected|failed}} and
+ * {@code page.prefetch.enabled}.
+ */
+@Component
+@Slf4j
+public class PagePrefetcher {
+
+    private record Listing(Object query, int pageSize, Sort sort) {
+    }
+
+    private record ListingPage(Listing listing, int pageNumber) {
+    }
+
+    private final boolean enabled;
+    private final int minSamples;
+    private final double minHitRate;
+    private final long disabledForNanos;
+    private final Executor executor;
+    private final Semaphore budget;
+    private final Cache<Listing, Integer> lastPageServed;
+    private final Cache<ListingPage, Boolean> prefetched;
+    private final Counter issued;
+    private final Counter used;
+    private final Counter wasted;
+    private final Counter skippedBudget;
+    private final Counter skippedDisabled;
+    private final Counter rejected;
+    private final Counter failed;
+
+    // Hit-rate window, guarded by this
+    private int windowUsed;
+    private int windowWasted;
+    private long disabledUntil;
+    private boolean disabled;
+
+    public PagePrefetcher(AppProperties appProperties, @Qualifier(AsyncConfig.PAGE_PREFETCH_EXECUTOR) Executor executor,
+                          MeterRegistry meterRegistry) {
+        AppProperties.Prefetch settings = appProperties.getPrefetch();
+        this.enabled = settings.isEnabled();
+        this.minSamples = settings.getMinSamples();
+        this.minHitRate = settings.getMinHitRate();
+        this.disabledForNanos = TimeUnit.MILLISECONDS.toNanos(settings.getDisabledForMs());
+        this.executor = executor;
+        this.budget = new Semaphore(settings.getMaxInFlight());
+        this.issued = prefetches(meterRegistry, "issued");
+        this.used = prefetches(meterRegistry, "used");
+        this.wasted = prefetches(meterRegistry, "wasted");
+        this.skippedBudget = prefetches(meterRegistry, "skipped_budget");
+        this.skippedDisabled = prefetches(meterRegistry, "skipped_disabled");
+        this.rejected = prefetches(meterRegistry, "rejected");
+        this.failed = prefetches(meterRegistry, "failed");
+        Duration window = Duration.ofMillis(settings.getWindowMs());
+        this.lastPageServed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(window)
+                .build();
+        this.prefetched = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(window)
+                // Expiry is noticed on time, so wasted prefetches are counted even while nothing pages
+                .scheduler(Scheduler.systemScheduler())
+                .<ListingPage, Boolean>removalListener((page, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        wasted.increment();
+                        recordOutcome(false);
+                    }
+                })
+                .build();
+        Gauge.builder("page.prefetch.enabled", this, prefetcher -> prefetcher.isActive() ? 1 : 0)
+                .description("Whether next-page prefetching is on; it switches itself off while its hit rate is too low")
+                .register(meterRegistry);
+    }
+
+    private static Counter prefetches(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("page.prefetch")
+                .description("Speculative next-page loads of paginated listings")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records that {@code page} of a listing was served, and prefetches the next page if the listing is being
+     * paged through sequentially.
+     *
+     * @param query  identifies the listing apart from paging, e.g. the query and its owner
+     * @param loader loads the given page into the caches
+     */
+    public void pageServed(Object query, Page<?> page, Consumer<Pageable> loader) {
+        if (!enabled || page.getPageable().isUnpaged()) {
+            return;
+        }
+        Listing listing = new Listing(query, page.getSize(), page.getSort());
+        int number = page.getNumber();
+        if (prefetched.asMap().remove(new ListingPage(listing, number)) != null) {
+            used.increment();
+            recordOutcome(true);
+        }
+        Integer previous = lastPageServed.asMap().put(listing, number);
+        if (previous == null || previous != number - 1 || !page.hasNext()) {
+            return;
+        }
+        ListingPage next = new ListingPage(listing, number + 1);
+        if (prefetched.getIfPresent(next) != null) {
+            return;
+        }
+        if (!isActive()) {
+            skippedDisabled.increment();
+            return;
+        }
+        if (!budget.tryAcquire()) {
+            skippedBudget.increment();
+            return;
+        }
+        // Marked before loading: a request that arrives meanwhile joins the load in flight, which still saves it
+        prefetched.put(next, Boolean.TRUE);
+        try {
+            executor.execute(() -> {
+                try {
+                    loader.accept(page.getPageable().next());
+                } catch (RuntimeException ex) {
+                    prefetched.asMap().remove(next);
+                    failed.increment();
+                    log.debug("Prefetch of page {} failed", next, ex);
+                } finally {
+                    budget.release();
+                }
+            });
+            issued.increment();
+        } catch (RejectedExecutionException ex) {
+            prefetched.asMap().remove(next);
+            budget.release();
+            rejected.increment();
+        }
+    }
+
+    synchronized boolean isActive() {
+        if (disabled && System.nanoTime() - disabledUntil >= 0) {
+            disabled = false;
+            log.info("Page prefetching re-enabled to probe its hit rate again");
+        }
+        return !disabled;
+    }
+
+    synchronized void recordOutcome(boolean wasUsed) {
+        if (wasUsed) {
+            windowUsed++;
+        } else {
+            windowWasted++;
+        }
+        int samples = windowUsed + windowWasted;
+        if (samples < minSamples) {
+            return;
+        }
+        double hitRate = (double) windowUsed / samples;
+        windowUsed = 0;
+        windowWasted = 0;
+        if (hitRate < minHitRate && !disabled) {
+            disabled = true;
+            disabledUntil = System.nanoTime() + disabledForNanos;
+            log.info("Page prefetching disabled for {} s: {}% of the last {} prefetches were used",
+                    TimeUnit.NANOSECONDS.toSeconds(disabledForNanos), Math.round(hitRate * 100), samples);
+        }
+    }
+}
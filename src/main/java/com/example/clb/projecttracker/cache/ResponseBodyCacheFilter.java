@@ -0,0 +1,266 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.metrics.RequestMetricsTags;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized bodies of hot GET endpoints, with a gzip copy, and writes them straight to the response:
+ * a hit skips the controller, the data caches and Jackson. Entries are keyed by URL, {@code Accept} header and
+ * the caller's authorities, since the endpoints authorize on roles only: an entry exists only once the same
+ * authorities passed the endpoint's {@code @PreAuthorize}.
+ * <p>
+ * An entry remembers the versions of the collections it was rendered from ({@link CollectionVersionTracker},
+ * shared by all instances and bumped by every write, like the ETags) and is served only while they are current, so each write
+ * that evicts the data caches also invalidates the bodies built from them. The versions are checked in memory,
+ * so a hit runs no query at all. Bodies rendered from a stale value
+ * of a stale-while-revalidate cache, or while a write committed, are served but not stored.
+ * <p>
+ * Reports {@code response.cache.requests{outcome=hit|not_modified|miss}} and {@code response.cache.bytes}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ResponseBodyCacheFilter extends OncePerRequestFilter {
+
+    private static final String DO_NOT_STORE = ResponseBodyCacheFilter.class.getName() + ".doNotStore";
+    private static final String GZIP = "gzip";
+
+    // Task summaries embed project and developer names; project summaries carry task counts
+    private static final List<CachedEndpoint> ENDPOINTS = List.of(
+            new CachedEndpoint("/api/projects/summaries",
+                    CollectionVersionTracker.PROJECTS, CollectionVersionTracker.TASKS),
+            new CachedEndpoint("/api/tasks/summaries",
+                    CollectionVersionTracker.TASKS, CollectionVersionTracker.PROJECTS, CollectionVersionTracker.DEVELOPERS),
+            new CachedEndpoint("/api/tasks/project/{projectId}/summaries",
+                    CollectionVersionTracker.TASKS, CollectionVersionTracker.PROJECTS, CollectionVersionTracker.DEVELOPERS));
+
+    private final CollectionVersionTracker collectionVersionTracker;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final int compressMinBytes;
+    private final Cache<String, CachedResponse> responses;
+    private final Counter hits;
+    private final Counter notModified;
+    private final Counter misses;
+
+    public ResponseBodyCacheFilter(CollectionVersionTracker collectionVersionTracker, AppProperties appProperties,
+                                   MeterRegistry meterRegistry) {
+        AppProperties.ResponseCache settings = appProperties.getResponseCache();
+        this.collectionVersionTracker = collectionVersionTracker;
+        this.enabled = settings.isEnabled();
+        this.maxBodyBytes = settings.getMaxBodyBytes();
+        this.compressMinBytes = settings.getCompressMinBytes();
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxBytes())
+                .<String, CachedResponse>weigher((key, response) -> response.weight())
+                .expireAfterWrite(Duration.ofMillis(settings.getTimeToLiveMs()))
+                .build();
+        Gauge.builder("response.cache.bytes", responses,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Serialized response bodies held by the response cache, compressed copies included")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.hits = requests(meterRegistry, "hit");
+        this.notModified = requests(meterRegistry, "not_modified");
+        this.misses = requests(meterRegistry, "miss");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("response.cache.requests")
+                .description("Requests to endpoints with a response body cache")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Keeps the body of the current request out of the response cache, when it was built from data that may
+     * already be outdated. Ignored outside of a request.
+     */
+    public static void doNotStoreResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(DO_NOT_STORE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CachedEndpoint endpoint = match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (endpoint == null || authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = key(request, authentication);
+        long[] versions = currentVersions(endpoint);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && Arrays.equals(cached.versions(), versions)) {
+            serveCached(request, response, endpoint, authentication, cached);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        CachedResponse rendered = toCachedResponse(request, responseWrapper, versions);
+        if (rendered == null) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+        // A write committed while rendering: the body may predate it
+        if (Arrays.equals(versions, currentVersions(endpoint))) {
+            responses.put(key, rendered);
+        }
+        write(request, response, rendered);
+    }
+
+    private void serveCached(HttpServletRequest request, HttpServletResponse response, CachedEndpoint endpoint,
+                             Authentication authentication, CachedResponse cached) throws IOException {
+        // What the handler mapping and RequestRoleInterceptor would have recorded for the metrics and access log
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, endpoint.template());
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setPathPattern(endpoint.template()));
+        RequestMetricsTags.recordRole(request, authentication);
+        RequestMetricsTags.recordCacheHit(request);
+
+        if (cached.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        }
+        if (cached.eTag() != null && new ServletWebRequest(request, response).checkNotModified(cached.eTag())) {
+            notModified.increment();
+            return;
+        }
+        hits.increment();
+        write(request, response, cached);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached) throws IOException {
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null && acceptsGzip(request)) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private CachedResponse toCachedResponse(HttpServletRequest request, ContentCachingResponseWrapper response,
+                                            long[] versions) throws IOException {
+        if (response.getStatus() != HttpServletResponse.SC_OK || response.getContentType() == null
+                || response.getContentSize() > maxBodyBytes || response.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                || request.getAttribute(DO_NOT_STORE) != null) {
+            return null;
+        }
+        byte[] body = response.getContentAsByteArray();
+        byte[] gzipBody = body.length >= compressMinBytes ? gzip(body) : null;
+        return new CachedResponse(versions, response.getContentType(), response.getHeader(HttpHeaders.ETAG),
+                response.getHeader(HttpHeaders.CACHE_CONTROL), body, gzipBody);
+    }
+
+    private CachedEndpoint match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CachedEndpoint endpoint : ENDPOINTS) {
+            if (endpoint.pattern().matches(path)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private long[] currentVersions(CachedEndpoint endpoint) {
+        long[] versions = new long[endpoint.collections().length];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = collectionVersionTracker.current(endpoint.collections()[i]);
+        }
+        return versions;
+    }
+
+    private static String key(HttpServletRequest request, Authentication authentication) {
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return request.getRequestURI() + '?' + request.getQueryString()
+                + '|' + request.getHeader(HttpHeaders.ACCEPT) + '|' + authorities;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private record CachedEndpoint(String template, PathPattern pattern, String... collections) {
+
+        CachedEndpoint(String template, String... collections) {
+            this(template, PathPatternParser.defaultInstance.parse(template), collections);
+        }
+    }
+
+    private record CachedResponse(long[] versions, String contentType, String eTag, String cacheControl,
+                                  byte[] body, byte[] gzipBody) {
+
+        int weight() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
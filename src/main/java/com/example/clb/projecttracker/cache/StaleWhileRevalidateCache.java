@@ -0,0 +1,227 @@
+package com.example.clb.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for aggregates where a slightly stale value is better than a slow response. A value is fresh for
+ * {@code freshFor} after it was loaded, or until a write evicts it: eviction only marks it stale. A stale value
+ * is still returned for up to {@code maxStaleness}, and the first read that sees it schedules a reload on the
+ * refresh executor, which replaces it once done. Past {@code maxStaleness} the value is dropped and the read
+ * loads in the foreground like a miss, so a failing refresh cannot serve old data forever. Responses built from a
+ * stale value are kept out of the {@link ResponseBodyCacheFilter}.
+ * <p>
+ * Reports {@code cache.staleness.age{cache}}, the age of the stalest value that can still be served,
+ * {@code cache.stale.served{cache}} and {@code cache.refreshes{cache, outcome=success|failure|rejected}}.
+ */
+@Slf4j
+public class StaleWhileRevalidateCache extends InstrumentedCaffeineCache {
+
+    private final long freshForNanos;
+    private final long maxStalenessNanos;
+    private final Executor refreshExecutor;
+    private final Ticker ticker;
+    // Bumped by every eviction, so a refresh that overlapped a write knows its result may predate it
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter staleServed;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+    private final Counter refreshRejected;
+
+    public StaleWhileRevalidateCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                                     CacheKeyPopularity popularity, Duration loadTimeout, MeterRegistry meterRegistry,
+                                     Duration freshFor, Duration maxStaleness, Executor refreshExecutor) {
+        this(name, cache, allowNullValues, popularity, loadTimeout, meterRegistry, freshFor, maxStaleness,
+                refreshExecutor, Ticker.systemTicker());
+    }
+
+    // The ticker dates values for freshness only; the Caffeine cache expires them on its own clock
+    StaleWhileRevalidateCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                              CacheKeyPopularity popularity, Duration loadTimeout, MeterRegistry meterRegistry,
+                              Duration freshFor, Duration maxStaleness, Executor refreshExecutor, Ticker ticker) {
+        super(name, cache, allowNullValues, popularity, loadTimeout, meterRegistry);
+        this.freshForNanos = freshFor.toNanos();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+        Gauge.builder("cache.staleness.age", this, StaleWhileRevalidateCache::stalestServableAgeSeconds)
+                .description("Age of the stalest value that can still be served while it is refreshed")
+                .baseUnit("seconds")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("cache.stale.served")
+                .description("Reads answered with a stale value while it was refreshed")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshSucceeded = refreshes(meterRegistry, name, "success");
+        this.refreshFailed = refreshes(meterRegistry, name, "failure");
+        this.refreshRejected = refreshes(meterRegistry, name, "rejected");
+    }
+
+    private static Counter refreshes(MeterRegistry meterRegistry, String cacheName, String outcome) {
+        return Counter.builder("cache.refreshes")
+                .description("Background refreshes of stale values")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object storeValue = super.lookup(key);
+        // Without a loader there is nothing to refresh with; only the staleness bound applies
+        if (storeValue instanceof Entry entry && entry.staleNanos(ticker.read()) > maxStalenessNanos) {
+            return null;
+        }
+        return storeValue;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CompletableFuture<Object> cached = asMap().get(key);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            Entry entry = (Entry) cached.join();
+            long staleNanos = entry.staleNanos(ticker.read());
+            if (staleNanos >= 0) {
+                if (staleNanos <= maxStalenessNanos) {
+                    recordLookup(key, true);
+                    staleServed.increment();
+                    ResponseBodyCacheFilter.doNotStoreResponse();
+                    refreshInBackground(key, valueLoader, cached, entry);
+                    return fromCachedValue(entry);
+                }
+                // Too stale to serve: load in the foreground, as for a miss
+                asMap().remove(key, cached);
+            }
+        }
+        return super.get(key, valueLoader);
+    }
+
+    private <T> void refreshInBackground(Object key, Callable<T> valueLoader, CompletableFuture<Object> cached, Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        long invalidationsAtStart = invalidations.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Entry refreshed = (Entry) toStoreValue(valueLoader.call());
+                    if (invalidations.get() != invalidationsAtStart) {
+                        refreshed.markStale(ticker.read());
+                    }
+                    // Dropped if the entry was removed or reloaded meanwhile
+                    asMap().replace(key, cached, CompletableFuture.completedFuture(refreshed));
+                    refreshSucceeded.increment();
+                } catch (Throwable ex) {
+                    // The next read retries, until the value is too stale to serve
+                    entry.refreshing.set(false);
+                    refreshFailed.increment();
+                    log.warn("Refresh of {} in cache {} failed: {}", key, getName(), ex.toString());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            entry.refreshing.set(false);
+            refreshRejected.increment();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet();
+        markStale(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidations.incrementAndGet();
+        return markStale(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        asMap().keySet().forEach(this::markStale);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !asMap().isEmpty();
+        clear();
+        return notEmpty;
+    }
+
+    private boolean markStale(Object key) {
+        CompletableFuture<Object> cached = asMap().get(key);
+        if (cached == null) {
+            return false;
+        }
+        if (cached.isDone() && !cached.isCompletedExceptionally()) {
+            ((Entry) cached.join()).markStale(ticker.read());
+            return true;
+        }
+        // A load in flight may have read the data before the write: its callers get it, the cache does not
+        return asMap().remove(key, cached);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return new Entry(super.toStoreValue(userValue), ticker.read() + freshForNanos);
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(((Entry) storeValue).value);
+    }
+
+    private double stalestServableAgeSeconds() {
+        long now = ticker.read();
+        long stalest = 0;
+        for (CompletableFuture<Object> cached : asMap().values()) {
+            if (cached.isDone() && !cached.isCompletedExceptionally()) {
+                long staleNanos = ((Entry) cached.join()).staleNanos(now);
+                if (staleNanos <= maxStalenessNanos) {
+                    stalest = Math.max(stalest, staleNanos);
+                }
+            }
+        }
+        return stalest / 1e9;
+    }
+
+    private ConcurrentMap<Object, CompletableFuture<Object>> asMap() {
+        return getAsyncCache().asMap();
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final AtomicLong staleAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value, long staleAt) {
+            this.value = value;
+            this.staleAt = new AtomicLong(staleAt);
+        }
+
+        // Non-negative once stale (from the instant it was marked): for how long it has been
+        long staleNanos(long now) {
+            return now - staleAt.get();
+        }
+
+        void markStale(long now) {
+            staleAt.accumulateAndGet(now, (current, evictedAt) -> current - evictedAt > 0 ? evictedAt : current);
+        }
+    }
+}
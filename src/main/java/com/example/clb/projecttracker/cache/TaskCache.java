@@ -0,0 +1,170 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.dto.TaskDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Normalized cache of tasks. Each task DTO is cached once, by id, in {@code tasks}; the paginated task queries
+ * only cache the ids of their page and the total, in {@code taskIdPages}. Pages are assembled on read with one
+ * bulk lookup, which loads the tasks missing from the cache with a single query. The full and summary views of
+ * a query share the same id pages.
+ * <p>
+ * A write to a task refreshes its one entry in {@code tasks}, and only evicts the id pages it can change: the
+ * pages of the project or developer it moved from or to, the overdue pages when its status or due date changed,
+ * and pages sorted on a property it changed. DTOs embed the names of their project and developer, so renaming or
+ * deleting one of those evicts the DTOs of its tasks too. Evictions made inside a transaction wait for the
+ * commit, so a concurrent read cannot cache the ids from before it.
+ */
+@Component
+public class TaskCache {
+
+    public static final String TASKS = "tasks";
+    public static final String ID_PAGES = "taskIdPages";
+
+    // Set by every update, so pages sorted on them always move
+    private static final Set<String> ALWAYS_CHANGED = Set.of("updatedAt", "version");
+
+    public enum PageQuery { ALL, PROJECT, DEVELOPER, OVERDUE }
+
+    private record PageKey(PageQuery query, Long ownerId, Pageable pageable) {
+    }
+
+    private final InstrumentedCaffeineCache tasks;
+    private final InstrumentedCaffeineCache idPages;
+
+    public TaskCache(CacheManager cacheManager) {
+        this.tasks = (InstrumentedCaffeineCache) cacheManager.getCache(TASKS);
+        this.idPages = (InstrumentedCaffeineCache) cacheManager.getCache(ID_PAGES);
+    }
+
+    /**
+     * The page of tasks of a query, with the DTOs mapped by {@code view}.
+     *
+     * @param ownerId   the project or developer of the query, null for the others
+     * @param idLoader  runs the id-only query, on a miss
+     * @param dtoLoader loads the DTOs of the given ids that are not cached
+     */
+    public <T> Page<T> getPage(PageQuery query, Long ownerId, Pageable pageable, Supplier<Page<Long>> idLoader,
+                               Function<Set<Long>, Map<Long, TaskDto>> dtoLoader, Function<TaskDto, T> view) {
+        IdPage page = idPage(new PageKey(query, ownerId, pageable), idLoader);
+        List<Long> ids = Arrays.stream(page.ids()).boxed().toList();
+        Map<Long, TaskDto> dtos = tasks.getAll(ids, dtoLoader);
+        List<T> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskDto dto = dtos.get(id);
+            // Deleted since the page was cached, and the page eviction is waiting for that commit
+            if (dto != null) {
+                content.add(view.apply(dto));
+            }
+        }
+        return page.toPage(content, pageable);
+    }
+
+    private IdPage idPage(PageKey key, Supplier<Page<Long>> idLoader) {
+        try {
+            return idPages.get(key, () -> IdPage.of(idLoader.get()));
+        } catch (Cache.ValueRetrievalException ex) {
+            // Rethrow what the query threw (a missing project, say), as @Cacheable does
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * A task was updated: evicts the pages whose rows or order the changed properties can affect.
+     *
+     * @param projectIds   the task's project before and after the update
+     * @param developerIds the task's developer before and after the update
+     */
+    public void evictPagesChangedBy(Collection<String> changedProperties, Collection<Long> projectIds,
+                                    Collection<Long> developerIds) {
+        Set<String> changed = new HashSet<>(changedProperties);
+        changed.addAll(ALWAYS_CHANGED);
+        afterCommit(() -> evictPages(key -> switch (key.query()) {
+            case ALL -> false;
+            case PROJECT -> changed.contains("project") && projectIds.contains(key.ownerId());
+            case DEVELOPER -> changed.contains("developer") && developerIds.contains(key.ownerId());
+            case OVERDUE -> changed.contains("status") || changed.contains("dueDate");
+        } || sortsOn(key.pageable().getSort(), changed)));
+    }
+
+    /**
+     * Tasks were created or deleted: evicts every page they can appear on.
+     */
+    public void evictPagesContaining(Collection<Long> projectIds, Collection<Long> developerIds) {
+        afterCommit(() -> evictPages(key -> switch (key.query()) {
+            case ALL, OVERDUE -> true;
+            case PROJECT -> projectIds.contains(key.ownerId());
+            case DEVELOPER -> developerIds.contains(key.ownerId());
+        }));
+    }
+
+    public void evictTasks(Collection<Long> taskIds) {
+        afterCommit(() -> taskIds.forEach(tasks::evict));
+    }
+
+    /**
+     * The project or developer of these tasks was renamed: evicts their DTOs, which embed its name, and the pages
+     * sorted on it ({@code project.name}, say), whose order can change.
+     *
+     * @param reference "project" or "developer"
+     */
+    public void evictTasksReferencing(String reference, Collection<Long> taskIds) {
+        Set<String> changed = Set.of(reference);
+        afterCommit(() -> {
+            taskIds.forEach(tasks::evict);
+            evictPages(key -> sortsOn(key.pageable().getSort(), changed));
+        });
+    }
+
+    private void evictPages(Predicate<PageKey> affected) {
+        List<Object> keys = idPages.getAsyncCache().asMap().keySet().stream()
+                .filter(key -> affected.test((PageKey) key))
+                .toList();
+        keys.forEach(idPages::evict);
+    }
+
+    private static boolean sortsOn(Sort sort, Set<String> properties) {
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            int dot = property.indexOf('.');
+            if (properties.contains(dot < 0 ? property : property.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
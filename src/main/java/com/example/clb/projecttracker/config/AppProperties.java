@@ -3,14 +3,29 @@ package com.example.clb.projecttracker.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
     private final Auth auth = new Auth();
     private final OAuth2 oauth2 = new OAuth2();
+    private final Sql sql = new Sql();
+    private final AccessLog accessLog = new AccessLog();
+    private final Jfr jfr = new Jfr();
+    private final Startup startup = new Startup();
+    private final CacheWarmUp cacheWarmUp = new CacheWarmUp();
+    private final Caching caching = new Caching();
+    private final Async async = new Async();
+    private final LoadShedding loadShedding = new LoadShedding();
+    private final ResponseCache responseCache = new ResponseCache();
+    private final Dashboard dashboard = new Dashboard();
+    private final Prefetch prefetch = new Prefetch();
+    private final ChangeFeed changeFeed = new ChangeFeed();
 
     public static class Auth {
         private String tokenSecret;
@@ -55,6 +70,636 @@ public class AppProperties {
         }
     }
 
+    public static class Sql {
+        // Same statement more often than this within one request is reported as an N+1 pattern
+        private int repeatedStatementThreshold = 5;
+        private long slowQueryThresholdMs = 200;
+        // Fraction of slow statements written to the slow-query log; all of them are counted in db.query
+        private double slowQuerySampleRate = 1.0;
+
+        public int getRepeatedStatementThreshold() {
+            return repeatedStatementThreshold;
+        }
+
+        public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+            this.repeatedStatementThreshold = repeatedStatementThreshold;
+        }
+
+        public long getSlowQueryThresholdMs() {
+            return slowQueryThresholdMs;
+        }
+
+        public void setSlowQueryThresholdMs(long slowQueryThresholdMs) {
+            this.slowQueryThresholdMs = slowQueryThresholdMs;
+        }
+
+        public double getSlowQuerySampleRate() {
+            return slowQuerySampleRate;
+        }
+
+        public void setSlowQuerySampleRate(double slowQuerySampleRate) {
+            this.slowQuerySampleRate = slowQuerySampleRate;
+        }
+    }
+
+    public static class AccessLog {
+        private boolean enabled = true;
+        // Fraction of ordinary requests written to the access log; errors and slow requests are always written
+        private double sampleRate = 0.01;
+        private long slowThresholdMs = 500;
+        // Responses with this status or above count as errors
+        private int errorStatus = 500;
+        // Entries waiting for the writer thread; when full, new entries are dropped and counted
+        private int queueCapacity = 8192;
+        // JSON-lines file to append to; standard output when empty
+        private String file = "";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public long getSlowThresholdMs() {
+            return slowThresholdMs;
+        }
+
+        public void setSlowThresholdMs(long slowThresholdMs) {
+            this.slowThresholdMs = slowThresholdMs;
+        }
+
+        public int getErrorStatus() {
+            return errorStatus;
+        }
+
+        public void setErrorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+    }
+
+    public static class Jfr {
+        // JFR settings preset: "default" (about 1% overhead) or "profile" (more allocation and lock detail)
+        private String settings = "default";
+        private long defaultDurationSeconds = 60;
+        // Upper bounds for any recording started through the jfr actuator endpoint
+        private long maxDurationSeconds = 600;
+        private long maxSizeMb = 100;
+        // Where recordings are written; the temp directory when empty
+        private String directory = "";
+
+        public String getSettings() {
+            return settings;
+        }
+
+        public void setSettings(String settings) {
+            this.settings = settings;
+        }
+
+        public long getDefaultDurationSeconds() {
+            return defaultDurationSeconds;
+        }
+
+        public void setDefaultDurationSeconds(long defaultDurationSeconds) {
+            this.defaultDurationSeconds = defaultDurationSeconds;
+        }
+
+        public long getMaxDurationSeconds() {
+            return maxDurationSeconds;
+        }
+
+        public void setMaxDurationSeconds(long maxDurationSeconds) {
+            this.maxDurationSeconds = maxDurationSeconds;
+        }
+
+        public long getMaxSizeMb() {
+            return maxSizeMb;
+        }
+
+        public void setMaxSizeMb(long maxSizeMb) {
+            this.maxSizeMb = maxSizeMb;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+
+    public static class Startup {
+        // Number of slowest bean initializations listed in the startup report; 0 disables the list
+        private int slowestBeans = 10;
+
+        public int getSlowestBeans() {
+            return slowestBeans;
+        }
+
+        public void setSlowestBeans(int slowestBeans) {
+            this.slowestBeans = slowestBeans;
+        }
+    }
+
+    public static class CacheWarmUp {
+        private boolean enabled = true;
+        // Caches whose popular keys are counted and pre-loaded; each needs a loader in CacheWarmUp
+        private List<String> caches = new ArrayList<>(List.of(
+                "projectSummariesPage", "taskStatusCountsOverall", "topDevelopers", "recentProjects"));
+        // Key popularity snapshot, saved at shutdown and periodically; in the temp directory when empty
+        private String snapshotFile = "";
+        private long saveIntervalSeconds = 300;
+        // Distinct keys counted per cache, and how many of the most popular ones are pre-loaded
+        private int maxTrackedKeys = 1000;
+        private int maxKeysPerCache = 20;
+        private int parallelism = 4;
+        // Readiness is held back at most this long; keys not loaded by then are left to the first requests
+        private long timeoutSeconds = 30;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getCaches() {
+            return caches;
+        }
+
+        public void setCaches(List<String> caches) {
+            this.caches = caches;
+        }
+
+        public String getSnapshotFile() {
+            return snapshotFile;
+        }
+
+        public void setSnapshotFile(String snapshotFile) {
+            this.snapshotFile = snapshotFile;
+        }
+
+        public long getSaveIntervalSeconds() {
+            return saveIntervalSeconds;
+        }
+
+        public void setSaveIntervalSeconds(long saveIntervalSeconds) {
+            this.saveIntervalSeconds = saveIntervalSeconds;
+        }
+
+        public int getMaxTrackedKeys() {
+            return maxTrackedKeys;
+        }
+
+        public void setMaxTrackedKeys(int maxTrackedKeys) {
+            this.maxTrackedKeys = maxTrackedKeys;
+        }
+
+        public int getMaxKeysPerCache() {
+            return maxKeysPerCache;
+        }
+
+        public void setMaxKeysPerCache(int maxKeysPerCache) {
+            this.maxKeysPerCache = maxKeysPerCache;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        public void setTimeoutSeconds(long timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+        }
+    }
+
+    public static class Caching {
+        // How long a request waits for another request already loading the same key, before loading it itself
+        private long loadTimeoutMs = 5000;
+        // Overrides per cache name, for the aggregates that take longer to compute
+        private Map<String, Long> loadTimeoutsMs = new HashMap<>();
+        // Caches that serve a stale value while it is recomputed in the background, by cache name
+        private Map<String, StaleWhileRevalidate> staleWhileRevalidate = new HashMap<>();
+        // Background refreshes of those caches; refreshes beyond the queue are skipped and retried on a later read
+        private int refreshPoolSize = 2;
+        private int refreshQueueCapacity = 100;
+        // Entries per cache, beyond which the least recently used are evicted
+        private long maximumSize = 500;
+        // Overrides per cache name, for the per-entity caches that normalized pages are assembled from
+        private Map<String, Long> maximumSizes = new HashMap<>();
+        // How often the shared collection versions are checked for writes made by other instances
+        private long versionPollMs = 1000;
+
+        public long getLoadTimeoutMs() {
+            return loadTimeoutMs;
+        }
+
+        public void setLoadTimeoutMs(long loadTimeoutMs) {
+            this.loadTimeoutMs = loadTimeoutMs;
+        }
+
+        public Map<String, Long> getLoadTimeoutsMs() {
+            return loadTimeoutsMs;
+        }
+
+        public void setLoadTimeoutsMs(Map<String, Long> loadTimeoutsMs) {
+            this.loadTimeoutsMs = loadTimeoutsMs;
+        }
+
+        public Duration loadTimeout(String cacheName) {
+            return Duration.ofMillis(loadTimeoutsMs.getOrDefault(cacheName, loadTimeoutMs));
+        }
+
+        public Map<String, StaleWhileRevalidate> getStaleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        public void setStaleWhileRevalidate(Map<String, StaleWhileRevalidate> staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+        }
+
+        public int getRefreshPoolSize() {
+            return refreshPoolSize;
+        }
+
+        public void setRefreshPoolSize(int refreshPoolSize) {
+            this.refreshPoolSize = refreshPoolSize;
+        }
+
+        public int getRefreshQueueCapacity() {
+            return refreshQueueCapacity;
+        }
+
+        public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+            this.refreshQueueCapacity = refreshQueueCapacity;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Map<String, Long> getMaximumSizes() {
+            return maximumSizes;
+        }
+
+        public void setMaximumSizes(Map<String, Long> maximumSizes) {
+            this.maximumSizes = maximumSizes;
+        }
+
+        public long getVersionPollMs() {
+            return versionPollMs;
+        }
+
+        public void setVersionPollMs(long versionPollMs) {
+            this.versionPollMs = versionPollMs;
+        }
+
+        public long maximumSize(String cacheName) {
+            return maximumSizes.getOrDefault(cacheName, maximumSize);
+        }
+    }
+
+    public static class StaleWhileRevalidate {
+        // How long a loaded value is served as current, unless a write evicts it sooner
+        private long freshForMs = 600000;
+        // How long a value may be served after it went stale, while a background refresh replaces it
+        private long maxStalenessMs = 60000;
+
+        public long getFreshForMs() {
+            return freshForMs;
+        }
+
+        public void setFreshForMs(long freshForMs) {
+            this.freshForMs = freshForMs;
+        }
+
+        public long getMaxStalenessMs() {
+            return maxStalenessMs;
+        }
+
+        public void setMaxStalenessMs(long maxStalenessMs) {
+            this.maxStalenessMs = maxStalenessMs;
+        }
+    }
+
+    public static class Async {
+        // Audit logs and emails each get their own pool, so a slow Mongo or SMTP server only backs up its own queue.
+        // A full queue makes the caller do the work itself instead of dropping it.
+        private int auditLogPoolSize = 4;
+        private int auditLogQueueCapacity = 10000;
+        private int emailPoolSize = 2;
+        private int emailQueueCapacity = 1000;
+
+        public int getAuditLogPoolSize() {
+            return auditLogPoolSize;
+        }
+
+        public void setAuditLogPoolSize(int auditLogPoolSize) {
+            this.auditLogPoolSize = auditLogPoolSize;
+        }
+
+        public int getAuditLogQueueCapacity() {
+            return auditLogQueueCapacity;
+        }
+
+        public void setAuditLogQueueCapacity(int auditLogQueueCapacity) {
+            this.auditLogQueueCapacity = auditLogQueueCapacity;
+        }
+
+        public int getEmailPoolSize() {
+            return emailPoolSize;
+        }
+
+        public void setEmailPoolSize(int emailPoolSize) {
+            this.emailPoolSize = emailPoolSize;
+        }
+
+        public int getEmailQueueCapacity() {
+            return emailQueueCapacity;
+        }
+
+        public void setEmailQueueCapacity(int emailQueueCapacity) {
+            this.emailQueueCapacity = emailQueueCapacity;
+        }
+    }
+
+    public static class LoadShedding {
+        // When false the indicators still report, but readiness is never changed
+        private boolean enabled = true;
+        private long checkIntervalMs = 1000;
+        // Consecutive checks below all thresholds before readiness is restored
+        private int recoverAfterChecks = 5;
+        // Threads waiting for a database connection, and their mean wait since the previous check
+        private int poolPendingThreshold = 10;
+        private long poolAcquireThresholdMs = 200;
+        // Tasks queued or running on the async executors
+        private int auditLogBacklogThreshold = 5000;
+        private int emailBacklogThreshold = 500;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getCheckIntervalMs() {
+            return checkIntervalMs;
+        }
+
+        public void setCheckIntervalMs(long checkIntervalMs) {
+            this.checkIntervalMs = checkIntervalMs;
+        }
+
+        public int getRecoverAfterChecks() {
+            return recoverAfterChecks;
+        }
+
+        public void setRecoverAfterChecks(int recoverAfterChecks) {
+            this.recoverAfterChecks = recoverAfterChecks;
+        }
+
+        public int getPoolPendingThreshold() {
+            return poolPendingThreshold;
+        }
+
+        public void setPoolPendingThreshold(int poolPendingThreshold) {
+            this.poolPendingThreshold = poolPendingThreshold;
+        }
+
+        public long getPoolAcquireThresholdMs() {
+            return poolAcquireThresholdMs;
+        }
+
+        public void setPoolAcquireThresholdMs(long poolAcquireThresholdMs) {
+            this.poolAcquireThresholdMs = poolAcquireThresholdMs;
+        }
+
+        public int getAuditLogBacklogThreshold() {
+            return auditLogBacklogThreshold;
+        }
+
+        public void setAuditLogBacklogThreshold(int auditLogBacklogThreshold) {
+            this.auditLogBacklogThreshold = auditLogBacklogThreshold;
+        }
+
+        public int getEmailBacklogThreshold() {
+            return emailBacklogThreshold;
+        }
+
+        public void setEmailBacklogThreshold(int emailBacklogThreshold) {
+            this.emailBacklogThreshold = emailBacklogThreshold;
+        }
+    }
+
+    public static class ResponseCache {
+        private boolean enabled = true;
+        // Serialized bodies kept, counting their compressed copies; least recently used are evicted beyond it
+        private long maxBytes = 16 * 1024 * 1024;
+        // Larger responses are not cached
+        private int maxBodyBytes = 1024 * 1024;
+        // Smaller bodies are not worth a gzip copy
+        private int compressMinBytes = 1024;
+        // Upper bound for data that changes without a write, such as stale values served by the data caches
+        private long timeToLiveMs = 600000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public int getMaxBodyBytes() {
+            return maxBodyBytes;
+        }
+
+        public void setMaxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        public int getCompressMinBytes() {
+            return compressMinBytes;
+        }
+
+        public void setCompressMinBytes(int compressMinBytes) {
+            this.compressMinBytes = compressMinBytes;
+        }
+
+        public long getTimeToLiveMs() {
+            return timeToLiveMs;
+        }
+
+        public void setTimeToLiveMs(long timeToLiveMs) {
+            this.timeToLiveMs = timeToLiveMs;
+        }
+    }
+
+    public static class Dashboard {
+        // Parts of composite responses run on this pool; a full queue fails the part instead of blocking the request
+        private int poolSize = 8;
+        private int queueCapacity = 200;
+        // A part not done by then is left out of the response, which is returned with the parts that are
+        private long partTimeoutMs = 2000;
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public long getPartTimeoutMs() {
+            return partTimeoutMs;
+        }
+
+        public void setPartTimeoutMs(long partTimeoutMs) {
+            this.partTimeoutMs = partTimeoutMs;
+        }
+    }
+
+    public static class Prefetch {
+        private boolean enabled = true;
+        // Prefetches loading at once, across all listings; beyond it a sequential request prefetches nothing
+        private int maxInFlight = 4;
+        // How long a listing's last page is remembered, and a prefetched page may still be asked for to count as used
+        private long windowMs = 60000;
+        // Resolved prefetches (used or wasted) per hit-rate check
+        private int minSamples = 50;
+        // Below this share of used prefetches, prefetching switches itself off for disabledForMs, then probes again
+        private double minHitRate = 0.3;
+        private long disabledForMs = 300000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public long getWindowMs() {
+            return windowMs;
+        }
+
+        public void setWindowMs(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public double getMinHitRate() {
+            return minHitRate;
+        }
+
+        public void setMinHitRate(double minHitRate) {
+            this.minHitRate = minHitRate;
+        }
+
+        public long getDisabledForMs() {
+            return disabledForMs;
+        }
+
+        public void setDisabledForMs(long disabledForMs) {
+            this.disabledForMs = disabledForMs;
+        }
+    }
+
+    public static class ChangeFeed {
+        // Change log rows younger than this are not handed out yet: a transaction that took a lower sequence number
+        // may still be committing. Must cover the slowest commit and the clock skew between instances.
+        private long settleMs = 2000;
+        // Older rows are deleted; tokens older than this get 410 Gone and clients reload the full lists
+        private int retentionDays = 30;
+
+        public long getSettleMs() {
+            return settleMs;
+        }
+
+        public void setSettleMs(long settleMs) {
+            this.settleMs = settleMs;
+        }
+
+        public int getRetentionDays() {
+            return retentionDays;
+        }
+
+        public void setRetentionDays(int retentionDays) {
+            this.retentionDays = retentionDays;
+        }
+    }
+
     public Auth getAuth() {
         return auth;
     }
@@ -62,4 +707,52 @@ public class AppProperties {
     public OAuth2 getOauth2() {
         return oauth2;
     }
+
+    public Sql getSql() {
+        return sql;
+    }
+
+    public AccessLog getAccessLog() {
+        return accessLog;
+    }
+
+    public Jfr getJfr() {
+        return jfr;
+    }
+
+    public Startup getStartup() {
+        return startup;
+    }
+
+    public CacheWarmUp getCacheWarmUp() {
+        return cacheWarmUp;
+    }
+
+    public Caching getCaching() {
+        return caching;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public LoadShedding getLoadShedding() {
+        return loadShedding;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public Dashboard getDashboard() {
+        return dashboard;
+    }
+
+    public Prefetch getPrefetch() {
+        return prefetch;
+    }
+
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.clb.projecttracker.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors of the {@code @Async} services. Audit logging and email each get a bounded pool of their own, so
+ * their queue depths can be watched separately (see the {@code health} package) and a slow Mongo or SMTP server
+ * only backs up its own work. The parts of composite responses get a third pool, and next-page prefetches a
+ * fourth. All are bound to Micrometer as {@code executor.*{name=<bean name>}}.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String AUDIT_LOG_EXECUTOR = "auditLogExecutor";
+    public static final String EMAIL_EXECUTOR = "emailExecutor";
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+    public static final String PAGE_PREFETCH_EXECUTOR = "pagePrefetchExecutor";
+
+    private static final int AWAIT_TERMINATION_SECONDS = 10;
+
+    @Bean(name = AUDIT_LOG_EXECUTOR)
+    public ThreadPoolTaskExecutor auditLogExecutor(AppProperties appProperties) {
+        AppProperties.Async settings = appProperties.getAsync();
+        return boundedExecutor("audit-log-", settings.getAuditLogPoolSize(), settings.getAuditLogQueueCapacity());
+    }
+
+    @Bean(name = EMAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor emailExecutor(AppProperties appProperties) {
+        AppProperties.Async settings = appProperties.getAsync();
+        return boundedExecutor("email-", settings.getEmailPoolSize(), settings.getEmailQueueCapacity());
+    }
+
+    @Bean(name = DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor(AppProperties appProperties) {
+        AppProperties.Dashboard settings = appProperties.getDashboard();
+        ThreadPoolTaskExecutor executor = boundedExecutor("dashboard-", settings.getPoolSize(), settings.getQueueCapacity());
+        // Unlike audit entries, a part can be dropped: the request gets the other parts instead of running it inline
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // The parts run the same service calls as the single endpoints, as the requesting user
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        return executor;
+    }
+
+    // Not the cache refresh executor: a burst of prefetches would delay the stale-while-revalidate refreshes
+    @Bean(name = PAGE_PREFETCH_EXECUTOR)
+    public ThreadPoolTaskExecutor pagePrefetchExecutor(AppProperties appProperties) {
+        int maxInFlight = appProperties.getPrefetch().getMaxInFlight();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("page-prefetch-");
+        // PagePrefetcher starts at most maxInFlight at once; the queue only covers a thread still finishing its last one
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(maxInFlight);
+        // A prefetch can be dropped, and is counted as rejected
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        // A full queue slows the caller down instead of losing audit entries or notifications
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
+}
@@ -1,41 +1,98 @@
 package com.example.clb.projecttracker.config;
 
+import com.example.clb.projecttracker.cache.CacheKeyPopularity;
+import com.example.clb.projecttracker.cache.InstrumentedCaffeineCache;
+import com.example.clb.projecttracker.cache.StaleWhileRevalidateCache;
+import com.example.clb.projecttracker.cache.TaskCache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 
-@EnableCaching
+// The cache interceptor runs outside the transaction (a hit needs no connection) and outside CacheLoadEventAspect
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 @Configuration
 public class CacheConfig {
 
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+
+    private static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(10);
+
     @Bean
     @Primary
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(CacheKeyPopularity cacheKeyPopularity, AppProperties appProperties,
+                                     MeterRegistry meterRegistry,
+                                     @Qualifier(CACHE_REFRESH_EXECUTOR) Executor cacheRefreshExecutor) {
+        AppProperties.Caching caching = appProperties.getCaching();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected AsyncCache<Object, Object> createAsyncCaffeineCache(String name) {
+                AppProperties.StaleWhileRevalidate policy = caching.getStaleWhileRevalidate().get(name);
+                // Stale values are kept until they can no longer be served
+                Duration expiry = policy == null ? DEFAULT_EXPIRY
+                        : Duration.ofMillis(policy.getFreshForMs() + policy.getMaxStalenessMs());
+                return caffeineCacheBuilder(expiry, caching.maximumSize(name)).buildAsync();
+            }
+
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                // Single-flight loads with a per-cache wait timeout, hits and misses reported to the request
+                // metrics (cache tag of http.server.requests) and key popularity counted for the cache warm-up
+                Duration loadTimeout = caching.loadTimeout(name);
+                AppProperties.StaleWhileRevalidate policy = caching.getStaleWhileRevalidate().get(name);
+                if (policy == null) {
+                    return new InstrumentedCaffeineCache(name, cache, isAllowNullValues(), cacheKeyPopularity,
+                            loadTimeout, meterRegistry);
+                }
+                return new StaleWhileRevalidateCache(name, cache, isAllowNullValues(), cacheKeyPopularity,
+                        loadTimeout, meterRegistry, Duration.ofMillis(policy.getFreshForMs()),
+                        Duration.ofMillis(policy.getMaxStalenessMs()), cacheRefreshExecutor);
+            }
+        };
+        // Backs each cache with an AsyncCache, which holds the loads in flight; the loads themselves still run
+        // on the calling thread (see InstrumentedCaffeineCache)
+        cacheManager.setAsyncCacheMode(true);
+        // Before the names, so each cache (and the meters it registers) is only created once
+        cacheManager.setCaffeine(caffeineCacheBuilder(DEFAULT_EXPIRY, caching.getMaximumSize()));
         cacheManager.setCacheNames(Arrays.asList(
-                "projects", "projectsPage", "projectsWithNoTasksPage", "projectSummary", "projectSummariesPage",
-                "developers", "developersPage",
-                "tasks", "tasksPage", "tasksByProjectPages", "tasksByDeveloperPages", 
-                "taskSummariesPage", "taskSummariesByProjectPages", "taskSummariesByDeveloperPages",
-                "overdueTasksPage", "taskStatusCountsByProject", "taskStatusCountsOverall",
+                "projects", "projectsPage", "projectsWithNoTasksPage", "projectSummary", "projectSummariesPage", "recentProjects",
+                "developers", "developersPage", "topDevelopers",
+                // Task pages are normalized: id pages, assembled from the task DTOs (see TaskCache)
+                TaskCache.TASKS, TaskCache.ID_PAGES, "taskStatusCountsByProject", "taskStatusCountsOverall",
                 "usersByRole", "pendingApprovalUsers", "adminDashboard"
         ));
-        cacheManager.setCaffeine(caffeineCacheBuilder());
         return cacheManager;
     }
 
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
+    // Background reloads of the stale-while-revalidate caches; a full queue skips the refresh (see StaleWhileRevalidateCache)
+    @Bean(name = CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(appProperties.getCaching().getRefreshPoolSize());
+        executor.setMaxPoolSize(appProperties.getCaching().getRefreshPoolSize());
+        executor.setQueueCapacity(appProperties.getCaching().getRefreshQueueCapacity());
+        return executor;
+    }
+
+    private static Caffeine<Object, Object> caffeineCacheBuilder(Duration expireAfterWrite, long maximumSize) {
         return Caffeine.newBuilder()
                 .initialCapacity(100)
-                .maximumSize(500)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
                 .recordStats();  // Enable statistics for monitoring
     }
 } 
\ No newline at end of file
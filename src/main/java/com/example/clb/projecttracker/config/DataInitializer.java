@@ -13,7 +13,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Component
@@ -36,8 +40,8 @@ public class DataInitializer implements CommandLineRunner {
     public void run(String... args) throws Exception {
         logger.info("🚀 Starting Data Initialization...");
         try {
-            initializeRoles();
-            initializeDefaultAdmin();
+            Map<ERole, Role> roles = initializeRoles();
+            initializeDefaultAdmin(roles);
             logger.info("✅ Data Initialization completed successfully!");
         } catch (Exception e) {
             logger.error("❌ Data Initialization failed: {}", e.getMessage(), e);
@@ -45,30 +49,40 @@ public class DataInitializer implements CommandLineRunner {
         }
     }
 
-    private void initializeRoles() {
+    private Map<ERole, Role> initializeRoles() {
         logger.info("🎭 Starting role initialization...");
         try {
+            // One query for the existing roles and one batch for the missing ones, instead of a lookup per role
+            Map<ERole, Role> roles = new EnumMap<>(ERole.class);
+            for (Role role : roleRepository.findAll()) {
+                roles.put(role.getName(), role);
+            }
+            List<Role> missingRoles = new ArrayList<>();
             for (ERole roleName : ERole.values()) {
-                if (roleRepository.findByName(roleName).isEmpty()) {
+                if (!roles.containsKey(roleName)) {
                     Role role = new Role();
                     role.setName(roleName);
-                    roleRepository.save(role);
-                    logger.info("✅ Created role: {}", roleName);
-                } else {
-                    logger.info("ℹ️ Role already exists: {}", roleName);
+                    missingRoles.add(role);
                 }
             }
-            logger.info("✅ Role initialization completed successfully!");
+            for (Role role : roleRepository.saveAll(missingRoles)) {
+                roles.put(role.getName(), role);
+                logger.info("✅ Created role: {}", role.getName());
+            }
+            logger.info("✅ Role initialization completed ({} existing, {} created)",
+                    roles.size() - missingRoles.size(), missingRoles.size());
+            return roles;
         } catch (Exception e) {
             logger.error("❌ Failed to initialize roles: {}", e.getMessage(), e);
             throw e;
         }
     }
 
-    private void initializeDefaultAdmin() {
+    private void initializeDefaultAdmin(Map<ERole, Role> roles) {
         logger.info("👑 Checking for default admin user...");
-        
-        if (!userRepository.existsByUsername("admin")) {
+
+        User existingAdmin = userRepository.findByUsername("admin").orElse(null);
+        if (existingAdmin == null) {
             logger.info("🆕 Creating default admin user...");
             
             User admin = new User();
@@ -80,8 +94,10 @@ public class DataInitializer implements CommandLineRunner {
             admin.setApproved(true);
 
             Set<Role> adminRoles = new HashSet<>();
-            Role adminRole = roleRepository.findByName(ERole.ROLE_ADMIN)
-                    .orElseThrow(() -> new RuntimeException("Error: Admin role is not found."));
+            Role adminRole = roles.get(ERole.ROLE_ADMIN);
+            if (adminRole == null) {
+                throw new IllegalStateException("Error: Admin role is not found.");
+            }
             adminRoles.add(adminRole);
             admin.setRoles(adminRoles);
 
@@ -98,15 +114,12 @@ public class DataInitializer implements CommandLineRunner {
             logger.info("   ✅ Approved: {}", savedAdmin.getApproved());
         } else {
             logger.info("ℹ️  Default admin user already exists");
-            User existingAdmin = userRepository.findByUsername("admin").orElse(null);
-            if (existingAdmin != null) {
-                logger.info("📋 Existing Admin Details:");
-                logger.info("   🆔 ID: {}", existingAdmin.getId());
-                logger.info("   👤 Username: {}", existingAdmin.getUsername());
-                logger.info("   📧 Email: {}", existingAdmin.getEmail());
-                logger.info("   ✅ Active: {}", existingAdmin.getActive());
-                logger.info("   ✅ Approved: {}", existingAdmin.getApproved());
-            }
+            logger.info("📋 Existing Admin Details:");
+            logger.info("   🆔 ID: {}", existingAdmin.getId());
+            logger.info("   👤 Username: {}", existingAdmin.getUsername());
+            logger.info("   📧 Email: {}", existingAdmin.getEmail());
+            logger.info("   ✅ Active: {}", existingAdmin.getActive());
+            logger.info("   ✅ Approved: {}", existingAdmin.getApproved());
         }
     }
 }
@@ -0,0 +1,35 @@
+package com.example.clb.projecttracker.config;
+
+import com.example.clb.projecttracker.metrics.QueryMetricsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application data source in a datasource-proxy, so every JDBC statement passes through
+ * {@link QueryMetricsListener}. Replaces {@code spring.jpa.show-sql} as the way to see what the application runs.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Static: bean post-processors are created before the other beans of this class could be
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryMetricsListener> queryMetricsListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(queryMetricsListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
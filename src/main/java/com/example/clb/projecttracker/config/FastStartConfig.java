@@ -0,0 +1,45 @@
+package com.example.clb.projecttracker.config;
+
+import com.example.clb.projecttracker.controller.OAuth2TestController;
+import com.example.clb.projecttracker.controller.TestController;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+/**
+ * Fast-start profile ({@code application-fast-start.properties}): beans that only serve API documentation and
+ * manual testing are created on first use instead of during startup. Request mappings of lazy controllers are
+ * still registered at startup, so their endpoints keep working.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    private static final List<String> LAZY_BEAN_CLASS_PREFIXES = List.of(
+            "org.springdoc.",
+            OAuth2TestController.class.getName(),
+            TestController.class.getName()
+    );
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = definition.getBeanClassName();
+                // @Bean methods have no bean class; they are attributed to their configuration class
+                if (className == null && definition.getFactoryBeanName() != null
+                        && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+                    className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+                }
+                if (className != null && LAZY_BEAN_CLASS_PREFIXES.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.clb.projecttracker.config;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
 import org.springframework.cache.CacheManager;
@@ -19,6 +20,19 @@ public class MetricsConfig {
         return registry -> registry.config().commonTags("application", "project-tracker");
     }
     
+    // Guard against unbounded uri tags (e.g. a handler mapped without a path template): requests beyond the
+    // first 150 distinct uris are not recorded per uri
+    @Bean
+    public MeterFilter httpServerRequestsUriLimit() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", 150, MeterFilter.deny());
+    }
+
+    // Same guard for SQL fingerprints; normalized Hibernate statements stay far below this
+    @Bean
+    public MeterFilter dbQueryFingerprintLimit() {
+        return MeterFilter.maximumAllowableTags("db.query", "fingerprint", 500, MeterFilter.deny());
+    }
+
     @Bean
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
@@ -0,0 +1,133 @@
+package com.example.clb.projecttracker.config;
+
+import com.example.clb.projecttracker.cache.CacheKeySnapshot;
+import com.example.clb.projecttracker.document.AuditLog;
+import com.example.clb.projecttracker.model.id.PooledSequenceGenerator;
+import com.example.clb.projecttracker.security.TaskSecurityService;
+import com.example.clb.projecttracker.security.UserPrincipal;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reachability hints for the native image ({@code native} Maven profile). Spring AOT already covers beans,
+ * controller payloads, JPA entities and their listeners, Spring Data repositories and the MapStruct mappers
+ * (plain generated {@code @Component}s); these are the remaining reflective and dynamic accesses of the
+ * application and its libraries. Only read at build time, so they cost nothing on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.ApplicationRuntimeHints.class)
+public class NativeImageConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String DTO_PACKAGE = "com.example.clb.projecttracker.dto";
+
+        // Instantiated by name from Jwts and its builders (jjwt-api has no compile-time dependency on jjwt-impl)
+        private static final List<String> JJWT_IMPL_CLASSES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        // Cache and node implementations generated by Caffeine, named after the builder's features
+        private static final String CAFFEINE_GENERATED_CLASSES = "classpath*:com/github/benmanes/caffeine/cache/*.class";
+        private static final Pattern CAFFEINE_GENERATED_NAME = Pattern.compile("[A-Z]+\\.class");
+
+        private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerPayloadTypes(hints);
+            registerSecurityExpressionTypes(hints);
+            registerHibernateTypes(hints);
+            registerJjwt(hints);
+            registerCaffeine(hints, classLoader);
+            registerDataSourceProxies(hints);
+            // Flyway locations are db/migration/common and db/migration/{vendor}
+            hints.resources().registerPattern("db/migration/*/*.sql");
+        }
+
+        // DTOs also travel nested in pages and cached results, where Spring cannot see their types.
+        // The document and the cache key snapshot are read and written with Jackson outside of controllers.
+        private void registerPayloadTypes(RuntimeHints hints) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+            for (BeanDefinition candidate : scanner.findCandidateComponents(DTO_PACKAGE)) {
+                bindingHints.registerReflectionHints(hints.reflection(),
+                        ClassUtils.resolveClassName(candidate.getBeanClassName(), null));
+            }
+            bindingHints.registerReflectionHints(hints.reflection(), AuditLog.class, CacheKeySnapshot.class);
+        }
+
+        // Evaluated by SpEL in @PreAuthorize: @taskSecurityService.canViewTask(#taskId), authentication.principal.id
+        private void registerSecurityExpressionTypes(RuntimeHints hints) {
+            hints.reflection().registerType(TaskSecurityService.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(UserPrincipal.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Spring registers @IdGeneratorType generators, but not the @GenericGenerator(type = ...) ones
+        private void registerHibernateTypes(RuntimeHints hints) {
+            hints.reflection().registerType(PooledSequenceGenerator.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        private void registerJjwt(RuntimeHints hints) {
+            for (String className : JJWT_IMPL_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+
+        // Looked up with MethodHandles.Lookup.findClass; all of them, so CacheConfig can change without touching this
+        private void registerCaffeine(RuntimeHints hints, ClassLoader classLoader) {
+            try {
+                for (Resource resource : new PathMatchingResourcePatternResolver(classLoader).getResources(CAFFEINE_GENERATED_CLASSES)) {
+                    String fileName = resource.getFilename();
+                    if (fileName != null && CAFFEINE_GENERATED_NAME.matcher(fileName).matches()) {
+                        String className = "com.github.benmanes.caffeine.cache." + fileName.substring(0, fileName.length() - ".class".length());
+                        hints.reflection().registerType(TypeReference.of(className),
+                                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not list the Caffeine cache implementations", e);
+            }
+        }
+
+        // DataSourceProxyConfig wraps every JDBC object in a JDK proxy (JdkJdbcProxyFactory)
+        private void registerDataSourceProxies(RuntimeHints hints) {
+            for (Class<?> jdbcType : List.of(DataSource.class, Connection.class, Statement.class,
+                    PreparedStatement.class, CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+        }
+    }
+}
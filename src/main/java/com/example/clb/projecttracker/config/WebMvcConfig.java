@@ -1,15 +1,37 @@
 package com.example.clb.projecttracker.config;
 
+import com.example.clb.projecttracker.metrics.RequestRoleInterceptor;
+import com.example.clb.projecttracker.protobuf.SummaryProtobufHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final RequestRoleInterceptor requestRoleInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Tags request metrics with the caller's role
+        registry.addInterceptor(requestRoleInterceptor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // After the defaults, which already include Smile and CBOR, so JSON stays the answer to Accept: */*
+        converters.add(new SummaryProtobufHttpMessageConverter());
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Swagger UI resource locations
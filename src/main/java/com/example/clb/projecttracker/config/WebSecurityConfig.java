@@ -7,7 +7,6 @@ import com.example.clb.projecttracker.security.oauth2.HttpCookieOAuth2Authorizat
 import com.example.clb.projecttracker.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.example.clb.projecttracker.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.example.clb.projecttracker.security.services.UserDetailsServiceImpl;
-import com.example.clb.projecttracker.security.RequestLoggingFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -54,9 +53,6 @@ public class WebSecurityConfig {
     @Autowired
     private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 
-    @Autowired
-    private RequestLoggingFilter requestLoggingFilter;
-
     @Bean
     public HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository() {
         return new HttpCookieOAuth2AuthorizationRequestRepository();
@@ -93,7 +89,6 @@ public class WebSecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         // Enable CORS and disable CSRF for stateless API
-        http.addFilterBefore(requestLoggingFilter, org.springframework.security.web.access.channel.ChannelProcessingFilter.class);
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             
@@ -135,6 +130,8 @@ public class WebSecurityConfig {
             
             // Configure authorization
             .authorizeHttpRequests(auth -> auth
+                // Flight recordings expose heap and thread details
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("ADMIN")
                 // Public endpoints
                 .requestMatchers(
                     "/",
@@ -1,5 +1,6 @@
 package com.example.clb.projecttracker.controller;
 
+import com.example.clb.projecttracker.dto.BatchItemDto;
 import com.example.clb.projecttracker.dto.DeveloperDto;
 import com.example.clb.projecttracker.dto.DeveloperRequestDto;
 import com.example.clb.projecttracker.dto.DeveloperPerformanceDto;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/developers")
@@ -30,6 +32,11 @@ public class DeveloperController {
                 .body(createdDeveloper);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<List<BatchItemDto<DeveloperDto>>> getDevelopersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(developerService.getDevelopersByIds(ids));
+    }
+
     @GetMapping("/{developerId}")
     public ResponseEntity<DeveloperDto> getDeveloperById(@PathVariable Long developerId) {
         DeveloperDto developerDto = developerService.getDeveloperById(developerId);
@@ -43,6 +50,14 @@ public class DeveloperController {
         return ResponseEntity.ok(developers);
     }
 
+    @GetMapping(value = "/all", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllDeveloperFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "name") Pageable pageable) {
+        Page<Map<String, Object>> developers = developerService.getAllDevelopers(fields, pageable);
+        return ResponseEntity.ok(developers);
+    }
+
     @GetMapping("/top")
     public ResponseEntity<List<DeveloperPerformanceDto>> getTopDevelopers(
             @RequestParam(defaultValue = "5") int limit) {
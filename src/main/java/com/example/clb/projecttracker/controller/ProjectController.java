@@ -1,9 +1,14 @@
 package com.example.clb.projecttracker.controller;
 
+import com.example.clb.projecttracker.cache.CollectionVersionTracker;
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.dto.ProjectDashboardDto;
 import com.example.clb.projecttracker.dto.ProjectDto;
 import com.example.clb.projecttracker.dto.ProjectRequestDto;
 import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.service.ProjectDashboardService;
 import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -11,12 +16,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -25,6 +33,8 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final CollectionVersionTracker collectionVersionTracker;
+    private final ProjectDashboardService projectDashboardService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -36,22 +46,64 @@ public class ProjectController {
                 .body(createdProject);
     }
 
+    @GetMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get projects by IDs",
+               description = "Retrieves up to " + BatchItemDto.MAX_BATCH_SIZE + " projects, e.g. ids=1,2,3, in request order. "
+                       + "Unknown IDs come back with found=false.")
+    public ResponseEntity<List<BatchItemDto<ProjectDto>>> getProjectsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(projectService.getProjectsByIds(ids));
+    }
+
     @GetMapping("/{projectId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get project by ID", 
                description = "Retrieves a project by its ID. All authenticated users can view projects.")
-    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long projectId) {
+    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long projectId, WebRequest request) {
         ProjectDto projectDto = projectService.getProjectById(projectId);
-        return ResponseEntity.ok(projectDto);
+        String eTag = ETagUtils.forProject(projectDto);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ETagUtils.ok(eTag).body(projectDto);
     }
 
     @GetMapping("/{projectId}/summary")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get project summary", 
                description = "Retrieves a project summary. Accessible to all authenticated users including contractors.")
-    public ResponseEntity<ProjectSummaryDto> getProjectSummary(@PathVariable Long projectId) {
+    public ResponseEntity<ProjectSummaryDto> getProjectSummary(@PathVariable Long projectId, WebRequest request) {
+        String eTag = projectSummaryETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         ProjectSummaryDto summaryDto = projectService.getProjectSummary(projectId);
-        return ResponseEntity.ok(summaryDto);
+        return ETagUtils.ok(eTag).body(summaryDto);
+    }
+
+    @GetMapping("/{projectId}/dashboard")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get project dashboard",
+               description = "Retrieves the project, its summary, its task counts by status and a page of its task summaries "
+                       + "in one response, loaded in parallel. Parts that fail or time out are null and listed in missingParts.")
+    public ResponseEntity<ProjectDashboardDto> getProjectDashboard(
+            @PathVariable Long projectId,
+            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = ETagUtils.forCollection(request, null,
+                collectionVersionTracker.current(CollectionVersionTracker.PROJECTS),
+                collectionVersionTracker.current(CollectionVersionTracker.TASKS),
+                collectionVersionTracker.current(CollectionVersionTracker.DEVELOPERS));
+        // Checked after loading: a partial dashboard gets no tag, so it is never revalidated with a 304. When the
+        // parts are cached the load is four cache hits.
+        ProjectDashboardDto dashboard = projectDashboardService.getProjectDashboard(projectId, pageable);
+        if (!dashboard.isComplete()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(dashboard);
+        }
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ETagUtils.ok(eTag).body(dashboard);
     }
 
     @GetMapping
@@ -59,9 +111,31 @@ public class ProjectController {
     @Operation(summary = "Get all projects", 
                description = "Retrieves all projects with pagination. All authenticated users can view projects.")
     public ResponseEntity<Page<ProjectDto>> getAllProjects(
-            @PageableDefault(size = 20, sort = "name,asc") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "name") Pageable pageable,
+            WebRequest request) {
+        String eTag = projectETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<ProjectDto> projects = projectService.getAllProjects(pageable);
-        return ResponseEntity.ok(projects);
+        return ETagUtils.ok(eTag).body(projects);
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get selected fields of all projects",
+               description = "Retrieves only the comma-separated fields, e.g. fields=id,name, selected in SQL. "
+                       + "Allowed: id, name, description, deadline, status, version.")
+    public ResponseEntity<Page<Map<String, Object>>> getAllProjectFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "name") Pageable pageable,
+            WebRequest request) {
+        String eTag = projectETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<Map<String, Object>> projects = projectService.getAllProjects(fields, pageable);
+        return ETagUtils.ok(eTag).body(projects);
     }
     
     @GetMapping("/summaries")
@@ -69,9 +143,14 @@ public class ProjectController {
     @Operation(summary = "Get all project summaries", 
                description = "Retrieves all project summaries with pagination. More efficient than loading complete projects.")
     public ResponseEntity<Page<ProjectSummaryDto>> getAllProjectSummaries(
-            @PageableDefault(size = 20, sort = "name,asc") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "name") Pageable pageable,
+            WebRequest request) {
+        String eTag = projectSummaryETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<ProjectSummaryDto> summaries = projectService.getAllProjectSummaries(pageable);
-        return ResponseEntity.ok(summaries);
+        return ETagUtils.ok(eTag).body(summaries);
     }
     
     @GetMapping("/recent")
@@ -79,9 +158,14 @@ public class ProjectController {
     @Operation(summary = "Get recent projects", 
                description = "Retrieves a list of recent projects, limited by count parameter.")
     public ResponseEntity<List<ProjectSummaryDto>> getRecentProjects(
-            @RequestParam(defaultValue = "5") int count) {
+            @RequestParam(defaultValue = "5") int count,
+            WebRequest request) {
+        String eTag = projectSummaryETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<ProjectSummaryDto> projects = projectService.getRecentProjects(count);
-        return ResponseEntity.ok(projects);
+        return ETagUtils.ok(eTag).body(projects);
     }
 
     @GetMapping("/no-tasks")
@@ -89,9 +173,14 @@ public class ProjectController {
     @Operation(summary = "Get projects with no tasks", 
                description = "Retrieves projects that have no tasks assigned. Only accessible by ADMIN or MANAGER roles.")
     public ResponseEntity<Page<ProjectDto>> getProjectsWithNoTasks(
-            @PageableDefault(size = 20, sort = "name,asc") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "name") Pageable pageable,
+            WebRequest request) {
+        String eTag = projectSummaryETag(request);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<ProjectDto> projects = projectService.getProjectsWithNoTasks(pageable);
-        return ResponseEntity.ok(projects);
+        return ETagUtils.ok(eTag).body(projects);
     }
 
     @PutMapping("/{projectId}")
@@ -112,4 +201,16 @@ public class ProjectController {
         projectService.deleteProject(projectId);
         return ResponseEntity.noContent().build();
     }
+
+    private String projectETag(WebRequest request) {
+        return ETagUtils.forCollection(request, null,
+                collectionVersionTracker.current(CollectionVersionTracker.PROJECTS));
+    }
+
+    // Summaries carry task counts, so they also change whenever a task is written
+    private String projectSummaryETag(WebRequest request) {
+        return ETagUtils.forCollection(request, null,
+                collectionVersionTracker.current(CollectionVersionTracker.PROJECTS),
+                collectionVersionTracker.current(CollectionVersionTracker.TASKS));
+    }
 }
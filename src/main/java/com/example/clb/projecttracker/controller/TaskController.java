@@ -1,10 +1,20 @@
 package com.example.clb.projecttracker.controller;
 
+import com.example.clb.projecttracker.cache.CollectionVersionTracker;
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.dto.BulkOperationResultDto;
+import com.example.clb.projecttracker.dto.BulkTaskCreateRequestDto;
+import com.example.clb.projecttracker.dto.BulkTaskRequestDto;
+import com.example.clb.projecttracker.dto.ChangeFeedDto;
 import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.dto.TaskPatchRequestDto;
 import com.example.clb.projecttracker.dto.TaskRequestDto;
 import com.example.clb.projecttracker.dto.TaskStatusCountDto;
 import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.service.ChangeFeedService;
 import com.example.clb.projecttracker.service.TaskService;
+import com.example.clb.projecttracker.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -14,12 +24,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -28,6 +43,8 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ChangeFeedService changeFeedService;
+    private final CollectionVersionTracker collectionVersionTracker;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -39,13 +56,44 @@ public class TaskController {
                 .body(createdTask);
     }
 
+    @GetMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
+    @Operation(summary = "Get tasks by IDs",
+               description = "Retrieves up to " + BatchItemDto.MAX_BATCH_SIZE + " tasks, e.g. ids=1,2,3, in request order. "
+                       + "IDs that do not exist, or are not assigned to the calling developer, come back with found=false.")
+    public ResponseEntity<List<BatchItemDto<TaskDto>>> getTasksByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get task, project and developer changes since a token",
+               description = "Returns up to limit (at most " + ChangeFeedDto.MAX_LIMIT + ") changes after the since token, in "
+                       + "change order, each entity once with its current state; deletes come as DELETED with no data. "
+                       + "Continue with nextToken. Without since, returns only a token for the current end of the feed: "
+                       + "take it before downloading the full lists. A token older than the retention gets 410 Gone. "
+                       + "Only accessible by ADMIN or MANAGER roles.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes after the token"),
+            @ApiResponse(responseCode = "400", description = "Invalid token or limit"),
+            @ApiResponse(responseCode = "410", description = "Token expired, reload the full lists")
+    })
+    public ResponseEntity<ChangeFeedDto> getChanges(@RequestParam(required = false) String since,
+                                                    @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+    }
+
     @GetMapping("/{taskId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @taskSecurityService.canViewTask(#taskId)")
     @Operation(summary = "Get task by ID", 
                description = "Retrieves a task by its ID. Developers can only view tasks assigned to them.")
-    public ResponseEntity<TaskDto> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<TaskDto> getTaskById(@PathVariable Long taskId, WebRequest request) {
         TaskDto taskDto = taskService.getTaskById(taskId);
-        return ResponseEntity.ok(taskDto);
+        String eTag = ETagUtils.forTask(taskDto);
+        if (request.checkNotModified(eTag, ETagUtils.lastModified(taskDto.getUpdatedAt()))) {
+            return null;
+        }
+        return ETagUtils.ok(eTag).body(taskDto);
     }
 
     @GetMapping
@@ -53,9 +101,32 @@ public class TaskController {
     @Operation(summary = "Get all tasks", 
                description = "Retrieves all tasks with pagination. Only accessible by ADMIN or MANAGER roles.")
     public ResponseEntity<Page<TaskDto>> getAllTasks(
-            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskDto> tasks = taskService.getAllTasks(pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get selected fields of all tasks",
+               description = "Retrieves only the comma-separated fields, e.g. fields=id,title,status, selected in SQL. "
+                       + "Allowed: id, title, description, status, dueDate, createdAt, updatedAt, version, "
+                       + "project.id, project.name, developer.id, developer.name. Only accessible by ADMIN or MANAGER roles.")
+    public ResponseEntity<Page<Map<String, Object>>> getAllTaskFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<Map<String, Object>> tasks = taskService.getAllTasks(fields, pageable);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/project/{projectId}")
@@ -64,9 +135,14 @@ public class TaskController {
                description = "Retrieves tasks for a specific project. CONTRACTOR role has read-only access.")
     public ResponseEntity<Page<TaskDto>> getTasksByProjectId(
             @PathVariable Long projectId,
-            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskDto> tasks = taskService.getTasksByProjectId(projectId, pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/my-tasks")
@@ -74,9 +150,14 @@ public class TaskController {
     @Operation(summary = "Get current user's tasks", 
                description = "Retrieves tasks assigned to the current logged-in developer.")
     public ResponseEntity<Page<TaskDto>> getMyTasks(
-            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable,
+            Authentication authentication, WebRequest request) {
+        String eTag = taskListETag(request, authentication.getName());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskDto> tasks = taskService.getTasksForCurrentUser(pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/developer/{developerId}")
@@ -85,9 +166,14 @@ public class TaskController {
                description = "Retrieves tasks for a specific developer. Developers can only view their own tasks.")
     public ResponseEntity<Page<TaskDto>> getTasksByDeveloperId(
             @PathVariable Long developerId,
-            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskDto> tasks = taskService.getTasksByDeveloperId(developerId, pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/overdue")
@@ -95,9 +181,14 @@ public class TaskController {
     @Operation(summary = "Get overdue tasks", 
                description = "Retrieves overdue tasks with pagination. Only accessible by ADMIN or MANAGER roles.")
     public ResponseEntity<Page<TaskDto>> getOverdueTasks(
-            @PageableDefault(size = 20, sort = "dueDate,asc") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dueDate,asc") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, LocalDate.now());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskDto> overdueTasks = taskService.getOverdueTasks(pageable);
-        return ResponseEntity.ok(overdueTasks);
+        return ETagUtils.ok(eTag).body(overdueTasks);
     }
 
     @GetMapping("/overdue/list")
@@ -107,25 +198,37 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of overdue tasks")
     })
-    public ResponseEntity<List<TaskDto>> getOverdueTasksList() {
-        return ResponseEntity.ok(taskService.findOverdueTasks());
+    public ResponseEntity<List<TaskDto>> getOverdueTasksList(WebRequest request) {
+        String eTag = taskListETag(request, LocalDate.now());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ETagUtils.ok(eTag).body(taskService.findOverdueTasks());
     }
 
     @GetMapping("/projects/{projectId}/status-counts")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get task counts by status for a specific project")
-    public ResponseEntity<List<TaskStatusCountDto>> getTaskCountsByStatusForProject(@PathVariable Long projectId) {
+    public ResponseEntity<List<TaskStatusCountDto>> getTaskCountsByStatusForProject(@PathVariable Long projectId, WebRequest request) {
+        String eTag = taskCountsETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<TaskStatusCountDto> counts = taskService.getTaskCountsByStatusForProject(projectId);
-        return ResponseEntity.ok(counts);
+        return ETagUtils.ok(eTag).body(counts);
     }
 
     @GetMapping("/status-counts")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Get overall task status counts", 
                description = "Retrieves task counts by status across all projects. Only accessible by ADMIN or MANAGER roles.")
-    public ResponseEntity<List<TaskStatusCountDto>> getTaskCountsByStatusOverall() {
+    public ResponseEntity<List<TaskStatusCountDto>> getTaskCountsByStatusOverall(WebRequest request) {
+        String eTag = taskCountsETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<TaskStatusCountDto> counts = taskService.getTaskCountsByStatusOverall();
-        return ResponseEntity.ok(counts);
+        return ETagUtils.ok(eTag).body(counts);
     }
 
     @PutMapping("/{taskId}")
@@ -137,6 +240,25 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    @PatchMapping("/{taskId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @taskSecurityService.canUpdateTask(#taskId)")
+    @Operation(summary = "Partially update a task",
+               description = "Updates only the provided fields and writes only the changed columns. "
+                       + "If a version is sent and the task changed since it was read, the update fails with 409 Conflict.")
+    public ResponseEntity<TaskDto> patchTask(@PathVariable Long taskId, @Valid @RequestBody TaskPatchRequestDto patchRequestDto) {
+        TaskDto updatedTask = taskService.patchTask(taskId, patchRequestDto);
+        return ResponseEntity.ok(updatedTask);
+    }
+
+    @PatchMapping("/{taskId}/status")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @taskSecurityService.canUpdateTask(#taskId)")
+    @Operation(summary = "Change task status",
+               description = "Sets the task status. Idempotent, so concurrent modifications are retried instead of rejected.")
+    public ResponseEntity<TaskDto> updateTaskStatus(@PathVariable Long taskId, @RequestParam TaskStatus status) {
+        TaskDto updatedTask = taskService.updateTaskStatus(taskId, status);
+        return ResponseEntity.ok(updatedTask);
+    }
+
     @PatchMapping("/{taskId}/assign/{developerId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Assign task to developer", 
@@ -164,14 +286,52 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Create tasks in bulk",
+               description = "Creates up to 1000 tasks in one transaction. Fails as a whole if any referenced project or developer does not exist.")
+    public ResponseEntity<List<TaskDto>> createTasks(@Valid @RequestBody BulkTaskCreateRequestDto bulkRequestDto) {
+        List<TaskDto> createdTasks = taskService.createTasks(bulkRequestDto.getTasks());
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+    }
+
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Change the status of tasks in bulk",
+               description = "Sets the given status on up to 1000 tasks. Unknown task IDs are returned in notFoundIds.")
+    public ResponseEntity<BulkOperationResultDto> updateTaskStatuses(@Valid @RequestBody BulkTaskRequestDto bulkRequestDto) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(bulkRequestDto.getTaskIds(), bulkRequestDto.getStatus()));
+    }
+
+    @PatchMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Reassign tasks in bulk",
+               description = "Assigns up to 1000 tasks to the given developer. Unknown task IDs are returned in notFoundIds.")
+    public ResponseEntity<BulkOperationResultDto> assignTasksToDeveloper(@Valid @RequestBody BulkTaskRequestDto bulkRequestDto) {
+        return ResponseEntity.ok(taskService.assignTasksToDeveloper(bulkRequestDto.getTaskIds(), bulkRequestDto.getDeveloperId()));
+    }
+
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete tasks in bulk",
+               description = "Deletes up to 1000 tasks. Only accessible by ADMIN role. Unknown task IDs are returned in notFoundIds.")
+    public ResponseEntity<BulkOperationResultDto> deleteTasks(@Valid @RequestBody BulkTaskRequestDto bulkRequestDto) {
+        return ResponseEntity.ok(taskService.deleteTasks(bulkRequestDto.getTaskIds()));
+    }
+
     @GetMapping("/summaries")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Get all task summaries", 
                description = "Retrieves all task summaries with pagination. More efficient for lists. Only accessible by ADMIN or MANAGER roles.")
     public ResponseEntity<Page<TaskSummaryDto>> getAllTaskSummaries(
-            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskSummaryDto> tasks = taskService.getAllTaskSummaries(pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/project/{projectId}/summaries")
@@ -180,9 +340,14 @@ public class TaskController {
                description = "Retrieves lightweight task summaries for a specific project. Better performance for listings.")
     public ResponseEntity<Page<TaskSummaryDto>> getTaskSummariesByProjectId(
             @PathVariable Long projectId,
-            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskSummaryDto> tasks = taskService.getTaskSummariesByProjectId(projectId, pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
     }
 
     @GetMapping("/developer/{developerId}/summaries")
@@ -191,8 +356,27 @@ public class TaskController {
                description = "Retrieves lightweight task summaries for a specific developer. Better performance for listings.")
     public ResponseEntity<Page<TaskSummaryDto>> getTaskSummariesByDeveloperId(
             @PathVariable Long developerId,
-            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dueDate") Pageable pageable,
+            WebRequest request) {
+        String eTag = taskListETag(request, null);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Page<TaskSummaryDto> tasks = taskService.getTaskSummariesByDeveloperId(developerId, pageable);
-        return ResponseEntity.ok(tasks);
+        return ETagUtils.ok(eTag).body(tasks);
+    }
+
+    // Task DTOs embed project and developer names, so list tags depend on all three collections
+    private String taskListETag(WebRequest request, Object scope) {
+        return ETagUtils.forCollection(request, String.valueOf(scope),
+                collectionVersionTracker.current(CollectionVersionTracker.TASKS),
+                collectionVersionTracker.current(CollectionVersionTracker.PROJECTS),
+                collectionVersionTracker.current(CollectionVersionTracker.DEVELOPERS));
+    }
+
+    private String taskCountsETag(WebRequest request, Object scope) {
+        return ETagUtils.forCollection(request, String.valueOf(scope),
+                collectionVersionTracker.current(CollectionVersionTracker.TASKS),
+                collectionVersionTracker.current(CollectionVersionTracker.PROJECTS));
     }
 }
@@ -0,0 +1,21 @@
+package com.example.clb.projecttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One requested ID of a batch lookup, in the position it was requested. {@code item} is null when
+ * {@code found} is false: the ID does not exist, or the caller may not see it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemDto<T> {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private Long id;
+    private boolean found;
+    private T item;
+}
@@ -0,0 +1,16 @@
+package com.example.clb.projecttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDto {
+    private int requested;
+    private int affected; // Tasks that actually changed; tasks already in the target state are skipped
+    private List<Long> notFoundIds;
+}
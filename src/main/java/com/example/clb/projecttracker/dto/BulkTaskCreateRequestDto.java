@@ -0,0 +1,16 @@
+package com.example.clb.projecttracker.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTaskCreateRequestDto {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = BulkTaskRequestDto.MAX_BATCH_SIZE, message = "At most " + BulkTaskRequestDto.MAX_BATCH_SIZE + " tasks per request")
+    private List<@Valid TaskRequestDto> tasks;
+}
@@ -0,0 +1,27 @@
+package com.example.clb.projecttracker.dto;
+
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Selects the tasks of a bulk operation. {@code status} is required for status changes,
+ * {@code developerId} for reassignments; both are ignored by bulk delete.
+ */
+@Data
+public class BulkTaskRequestDto {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " tasks per request")
+    private List<@NotNull Long> taskIds;
+
+    private TaskStatus status;
+
+    private Long developerId;
+}
@@ -0,0 +1,23 @@
+package com.example.clb.projecttracker.dto;
+
+import com.example.clb.projecttracker.model.enums.ChangeEntityType;
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The latest change of one entity within a page of the change feed. {@code data} is the entity's current
+ * {@link TaskDto}, {@link ProjectDto} or {@link DeveloperDto}, and null for a {@code DELETED} tombstone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeDto {
+
+    private Long seq;
+    private ChangeEntityType entityType;
+    private Long entityId;
+    private ChangeOperation operation;
+    private Object data;
+}
@@ -0,0 +1,23 @@
+package com.example.clb.projecttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of the change feed, in change order. Pass {@code nextToken} as {@code since} to get the changes that
+ * follow; {@code hasMore} means the next page can be asked for right away.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedDto {
+
+    public static final int MAX_LIMIT = BatchItemDto.MAX_BATCH_SIZE;
+
+    private List<ChangeDto> changes;
+    private String nextToken;
+    private boolean hasMore;
+}
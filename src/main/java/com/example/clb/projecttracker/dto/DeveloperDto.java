@@ -13,5 +13,6 @@ public class DeveloperDto {
     private String name;
     private String email;
     private String skills;
+    private Long version;
     // We might add assignedTaskCount or a summarized list of tasks later
 }
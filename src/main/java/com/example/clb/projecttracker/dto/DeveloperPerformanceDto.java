@@ -17,7 +17,8 @@ public class DeveloperPerformanceDto {
                 developerEntity.getId(),
                 developerEntity.getName(),
                 developerEntity.getEmail(),
-                developerEntity.getSkills()
+                developerEntity.getSkills(),
+                developerEntity.getVersion()
         );
         this.completedTasksCount = completedTasksCount;
     }
@@ -0,0 +1,28 @@
+package com.example.clb.projecttracker.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the project detail screen shows, in one response. A part that failed or timed out is null and
+ * listed in {@code missingParts} with the reason ({@code timeout}, {@code rejected} or {@code error}).
+ */
+@Data
+@NoArgsConstructor
+public class ProjectDashboardDto {
+
+    private ProjectDto project;
+    private ProjectSummaryDto summary;
+    private List<TaskStatusCountDto> statusCounts;
+    private Page<TaskSummaryDto> tasks;
+    private Map<String, String> missingParts = new LinkedHashMap<>();
+
+    public boolean isComplete() {
+        return missingParts.isEmpty();
+    }
+}
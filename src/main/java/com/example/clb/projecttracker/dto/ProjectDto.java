@@ -13,5 +13,6 @@ public class ProjectDto {
     private String description;
     private LocalDate deadline;
     private ProjectStatus status;
+    private Long version;
     // We might add taskCount or a summarized list of tasks later if needed for specific views
 }
@@ -16,6 +16,7 @@ public class TaskDto {
     private LocalDate dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     private ProjectReferenceDto project; // Simplified reference to the project
     private DeveloperReferenceDto developer; // Simplified reference to the developer, can be null
@@ -0,0 +1,30 @@
+package com.example.clb.projecttracker.dto;
+
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Partial task update. Null fields are left unchanged; use the unassign endpoint to clear the developer.
+ */
+@Data
+public class TaskPatchRequestDto {
+
+    @Size(min = 1, max = 150, message = "Task title must be between 1 and 150 characters")
+    private String title;
+
+    private String description;
+
+    private TaskStatus status;
+
+    private LocalDate dueDate;
+
+    private Long projectId;
+
+    private Long developerId;
+
+    // Version the client last read; when present, the update is rejected if the task changed since
+    private Long version;
+}
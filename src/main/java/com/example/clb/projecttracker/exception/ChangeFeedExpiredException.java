@@ -0,0 +1,16 @@
+package com.example.clb.projecttracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The change feed no longer holds every change after the given token, so the client has to download the full
+ * lists again and continue from a fresh token.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeFeedExpiredException extends RuntimeException {
+
+    public ChangeFeedExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.clb.projecttracker.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Queue depth of one of the {@code @Async} executors. The audit log queue grows when Mongo slows down and the
+ * email queue when the SMTP server does; past the threshold the callers are about to run the work themselves
+ * (see {@link com.example.clb.projecttracker.config.AsyncConfig}).
+ */
+class ExecutorBacklogHealthIndicator extends SampledHealthIndicator {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int queuedThreshold;
+
+    ExecutorBacklogHealthIndicator(ThreadPoolTaskExecutor executor, int queuedThreshold) {
+        this.executor = executor;
+        this.queuedThreshold = queuedThreshold;
+    }
+
+    @Override
+    protected Health measure() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        int queued = pool.getQueue().size();
+        Health.Builder builder = queued > queuedThreshold ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("queued", queued)
+                .withDetail("queuedThreshold", queuedThreshold)
+                .withDetail("queueCapacity", executor.getQueueCapacity())
+                .withDetail("active", pool.getActiveCount())
+                .withDetail("poolSize", pool.getMaximumPoolSize())
+                .withDetail("completed", pool.getCompletedTaskCount())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.clb.projecttracker.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saturation of the Hikari connection pool: the number of threads waiting for a connection, and their mean wait
+ * since the previous measurement, taken from the {@code hikaricp.connections.acquire} timer. Either one past its
+ * threshold means requests already queue for the database.
+ */
+class HikariPoolHealthIndicator extends SampledHealthIndicator {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int pendingThreshold;
+    private final long acquireThresholdMs;
+
+    // Timer totals at the previous measurement; only touched by the monitor's thread
+    private long previousAcquireCount;
+    private double previousAcquireMs;
+
+    HikariPoolHealthIndicator(HikariDataSource dataSource, MeterRegistry meterRegistry,
+                              int pendingThreshold, long acquireThresholdMs) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.pendingThreshold = pendingThreshold;
+        this.acquireThresholdMs = acquireThresholdMs;
+    }
+
+    @Override
+    protected Health measure() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return Health.unknown().withDetail("reason", "Pool not started").build();
+        }
+        int pending = pool.getThreadsAwaitingConnection();
+        double meanAcquireMs = meanAcquireMsSincePreviousMeasurement();
+        boolean overloaded = pending > pendingThreshold || meanAcquireMs > acquireThresholdMs;
+        Health.Builder builder = overloaded ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("pool", dataSource.getPoolName())
+                .withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("max", dataSource.getMaximumPoolSize())
+                .withDetail("pending", pending)
+                .withDetail("pendingThreshold", pendingThreshold)
+                .withDetail("meanAcquireMs", Math.round(meanAcquireMs * 10) / 10.0)
+                .withDetail("acquireThresholdMs", acquireThresholdMs)
+                .build();
+    }
+
+    private double meanAcquireMsSincePreviousMeasurement() {
+        Timer timer = meterRegistry.find(ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+        if (timer == null) {
+            return 0;
+        }
+        long count = timer.count();
+        double totalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+        long acquired = count - previousAcquireCount;
+        double waitedMs = totalMs - previousAcquireMs;
+        previousAcquireCount = count;
+        previousAcquireMs = totalMs;
+        return acquired > 0 ? waitedMs / acquired : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.clb.projecttracker.health;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the saturation signals every {@code app.load-shedding.check-interval-ms} and sheds load by turning
+ * readiness to {@link ReadinessState#REFUSING_TRAFFIC} as soon as one is past its threshold, so
+ * {@code /actuator/health/readiness} answers 503 and the load balancer routes around this instance while it
+ * drains. Readiness is restored after {@code recover-after-checks} consecutive checks below every threshold,
+ * which keeps an instance hovering around a threshold from flapping in and out of rotation.
+ * <p>
+ * Only acts between the application being ready (after the cache warm-up) and shutdown, and only gives back
+ * the readiness it took itself.
+ */
+@Slf4j
+@Component
+class LoadSheddingMonitor {
+
+    private final Map<String, SampledHealthIndicator> signals;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int recoverAfterChecks;
+
+    private volatile boolean running;
+    private volatile boolean shedding;
+    private int healthyChecks;
+
+    LoadSheddingMonitor(Map<String, SampledHealthIndicator> signals, ApplicationEventPublisher eventPublisher,
+                        AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.signals = signals;
+        this.eventPublisher = eventPublisher;
+        this.enabled = appProperties.getLoadShedding().isEnabled();
+        this.recoverAfterChecks = appProperties.getLoadShedding().getRecoverAfterChecks();
+        Gauge.builder("load.shedding.active", this, monitor -> monitor.shedding ? 1 : 0)
+                .description("1 while readiness is refused because of saturation")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        running = true;
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    void onContextClosed() {
+        running = false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.load-shedding.check-interval-ms:1000}")
+    void check() {
+        signals.values().forEach(SampledHealthIndicator::sample);
+        if (!enabled || !running) {
+            return;
+        }
+        List<String> overloaded = signals.entrySet().stream()
+                .filter(signal -> signal.getValue().isOverloaded())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!overloaded.isEmpty()) {
+            healthyChecks = 0;
+            if (!shedding) {
+                shedding = true;
+                log.warn("Load shedding: refusing traffic, saturated: {}", describe(overloaded));
+                AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+            }
+        } else if (shedding && ++healthyChecks >= recoverAfterChecks) {
+            shedding = false;
+            healthyChecks = 0;
+            log.info("Load shedding: accepting traffic again after {} healthy checks", recoverAfterChecks);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private String describe(List<String> overloaded) {
+        return overloaded.stream()
+                .map(name -> name.replace("HealthIndicator", "") + " " + signals.get(name).health().getDetails())
+                .collect(Collectors.joining(", "));
+    }
+}
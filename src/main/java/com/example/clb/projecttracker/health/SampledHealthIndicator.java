@@ -0,0 +1,33 @@
+package com.example.clb.projecttracker.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * A saturation signal measured by {@link LoadSheddingMonitor} on every check. The health endpoint returns the
+ * latest measurement instead of taking its own, so a probe never waits on a busy pool and both always agree.
+ * Reports {@link Status#OUT_OF_SERVICE} while the measurement is past its threshold.
+ */
+abstract class SampledHealthIndicator implements HealthIndicator {
+
+    private volatile Health latest = Health.unknown().withDetail("reason", "Not measured yet").build();
+
+    /** Takes a fresh measurement and keeps it for {@link #health()}. */
+    final Health sample() {
+        Health measured = measure();
+        latest = measured;
+        return measured;
+    }
+
+    final boolean isOverloaded() {
+        return Status.OUT_OF_SERVICE.equals(latest.getStatus());
+    }
+
+    @Override
+    public Health health() {
+        return latest;
+    }
+
+    protected abstract Health measure();
+}
@@ -0,0 +1,116 @@
+package com.example.clb.projecttracker.health;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.config.AsyncConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * The saturation indicators watched by {@link LoadSheddingMonitor}. The bean names give the component names
+ * {@code hikariPool}, {@code auditLogBacklog} and {@code emailBacklog}. They belong to the readiness group
+ * ({@code management.endpoint.health.group.readiness.include}) and are kept out of the root group, along with
+ * {@code readinessState}: a saturated instance answers 503 on {@code /actuator/health/readiness} only, so a
+ * health check on {@code /actuator/health} does not restart it while it drains.
+ */
+@Configuration
+class SaturationHealthConfig {
+
+    static final Set<String> READINESS_ONLY = Set.of("readinessState", "hikariPool", "auditLogBacklog", "emailBacklog");
+
+    // Boot has no exclude for the root group, which holds every contributor
+    @Bean
+    HealthEndpointGroupsPostProcessor readinessOnlyHealthGroups() {
+        return groups -> new HealthEndpointGroups() {
+            private final HealthEndpointGroup primary = new RootGroup(groups.getPrimary());
+
+            @Override
+            public HealthEndpointGroup getPrimary() {
+                return primary;
+            }
+
+            @Override
+            public Set<String> getNames() {
+                return groups.getNames();
+            }
+
+            @Override
+            public HealthEndpointGroup get(String name) {
+                return groups.get(name);
+            }
+        };
+    }
+
+    @Bean
+    SampledHealthIndicator hikariPoolHealthIndicator(DataSource dataSource, MeterRegistry meterRegistry,
+                                                     AppProperties appProperties) {
+        // The data source bean is the datasource-proxy wrapper (DataSourceProxyConfig)
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari == null) {
+            throw new IllegalStateException("The pool saturation indicator requires a Hikari data source");
+        }
+        AppProperties.LoadShedding settings = appProperties.getLoadShedding();
+        return new HikariPoolHealthIndicator(hikari, meterRegistry,
+                settings.getPoolPendingThreshold(), settings.getPoolAcquireThresholdMs());
+    }
+
+    @Bean
+    SampledHealthIndicator auditLogBacklogHealthIndicator(
+            @Qualifier(AsyncConfig.AUDIT_LOG_EXECUTOR) ThreadPoolTaskExecutor executor, AppProperties appProperties) {
+        return new ExecutorBacklogHealthIndicator(executor, appProperties.getLoadShedding().getAuditLogBacklogThreshold());
+    }
+
+    @Bean
+    SampledHealthIndicator emailBacklogHealthIndicator(
+            @Qualifier(AsyncConfig.EMAIL_EXECUTOR) ThreadPoolTaskExecutor executor, AppProperties appProperties) {
+        return new ExecutorBacklogHealthIndicator(executor, appProperties.getLoadShedding().getEmailBacklogThreshold());
+    }
+
+    private record RootGroup(HealthEndpointGroup delegate) implements HealthEndpointGroup {
+
+        @Override
+        public boolean isMember(String name) {
+            return !READINESS_ONLY.contains(name) && delegate.isMember(name);
+        }
+
+        @Override
+        public boolean showComponents(SecurityContext securityContext) {
+            return delegate.showComponents(securityContext);
+        }
+
+        @Override
+        public boolean showDetails(SecurityContext securityContext) {
+            return delegate.showDetails(securityContext);
+        }
+
+        @Override
+        public StatusAggregator getStatusAggregator() {
+            return delegate.getStatusAggregator();
+        }
+
+        @Override
+        public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+            return delegate.getHttpCodeStatusMapper();
+        }
+
+        @Override
+        public AdditionalHealthEndpointPath getAdditionalPath() {
+            return delegate.getAdditionalPath();
+        }
+    }
+}
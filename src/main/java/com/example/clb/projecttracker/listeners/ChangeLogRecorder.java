@@ -0,0 +1,121 @@
+package com.example.clb.projecttracker.listeners;
+
+import com.example.clb.projecttracker.cache.CollectionVersionTracker;
+import com.example.clb.projecttracker.model.enums.ChangeEntityType;
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the entity writes of a transaction and, after Hibernate's last flush and right before the commit,
+ * bumps the versions of the written collections and appends the writes to {@code change_log} in one JDBC batch.
+ * Both commit or roll back with the writes. The bump locks the collections' counters first, so the sequence
+ * numbers are taken as late as possible and in commit order among writers of a collection. Writers of different
+ * collections can still commit a lower number late; see ChangeFeedServiceImpl for how readers wait that out.
+ * <p>
+ * Several writes of one entity in a transaction become one row. An entity created and deleted in the same
+ * transaction was never visible, so it gets none.
+ */
+@Component
+public class ChangeLogRecorder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO change_log (entity_type, entity_id, operation, changed_at) VALUES (?, ?, ?, ?)";
+
+    private record EntityKey(ChangeEntityType type, Long id) {
+    }
+
+    // Per transaction: the writes, then the collection versions they were committed with
+    private static final class PendingChanges {
+        private final Map<EntityKey, ChangeOperation> changes = new LinkedHashMap<>();
+        private Map<String, Long> versions = Map.of();
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CollectionVersionTracker collectionVersionTracker;
+
+    private final Map<SessionImplementor, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    public ChangeLogRecorder(CollectionVersionTracker collectionVersionTracker) {
+        this.collectionVersionTracker = collectionVersionTracker;
+    }
+
+    public void record(ChangeEntityType type, Long id, ChangeOperation operation) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        pending.computeIfAbsent(session, this::register).changes.merge(new EntityKey(type, id), operation,
+                ChangeLogRecorder::combine);
+    }
+
+    /**
+     * The operation recorded for an entity written twice in one transaction, or null for none at all.
+     */
+    static ChangeOperation combine(ChangeOperation earlier, ChangeOperation later) {
+        if (later == ChangeOperation.DELETED) {
+            return earlier == ChangeOperation.CREATED ? null : ChangeOperation.DELETED;
+        }
+        return earlier;
+    }
+
+    private PendingChanges register(SessionImplementor session) {
+        PendingChanges pendingChanges = new PendingChanges();
+        // Runs after the flush that happens on commit, so writes flushed by the commit itself are included
+        session.getActionQueue().registerProcess(s -> write(s, pendingChanges));
+        // Runs after commit and after rollback
+        session.getActionQueue().registerProcess((success, s) -> {
+            pending.remove(s);
+            if (success) {
+                collectionVersionTracker.committedLocally(pendingChanges.versions);
+            }
+        });
+        return pendingChanges;
+    }
+
+    private void write(SessionImplementor session, PendingChanges pendingChanges) {
+        Map<EntityKey, ChangeOperation> changes = pendingChanges.changes;
+        if (changes.isEmpty()) {
+            return;
+        }
+        SortedSet<String> collections = new TreeSet<>();
+        for (EntityKey key : changes.keySet()) {
+            collections.add(collection(key.type()));
+        }
+        session.doWork(connection -> {
+            // Locks the counters until the commit before taking sequence numbers: a transaction writing the same
+            // collection has committed by then, so within a collection seq order is commit order, and a wait
+            // for the lock does not age the rows towards the settle time
+            pendingChanges.versions = collectionVersionTracker.bump(connection, collections);
+            Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (Map.Entry<EntityKey, ChangeOperation> change : changes.entrySet()) {
+                    insert.setString(1, change.getKey().type().name());
+                    insert.setLong(2, change.getKey().id());
+                    insert.setString(3, change.getValue().name());
+                    insert.setTimestamp(4, changedAt);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    private static String collection(ChangeEntityType type) {
+        return switch (type) {
+            case TASK -> CollectionVersionTracker.TASKS;
+            case PROJECT -> CollectionVersionTracker.PROJECTS;
+            case DEVELOPER -> CollectionVersionTracker.DEVELOPERS;
+        };
+    }
+}
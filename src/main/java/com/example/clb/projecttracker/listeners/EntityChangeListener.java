@@ -0,0 +1,50 @@
+package com.example.clb.projecttracker.listeners;
+
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ChangeEntityType;
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that records every written entity in the change feed, which also bumps the version of
+ * its collection. Hibernate resolves it through Spring's bean container, so it can use constructor injection.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeListener {
+
+    // Resolved on first write: the recorder needs the EntityManagerFactory, which creates this listener
+    private final ObjectProvider<ChangeLogRecorder> changeLogRecorder;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        onChange(entity, ChangeOperation.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        onChange(entity, ChangeOperation.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        onChange(entity, ChangeOperation.DELETED);
+    }
+
+    private void onChange(Object entity, ChangeOperation operation) {
+        if (entity instanceof Task task) {
+            changeLogRecorder.getObject().record(ChangeEntityType.TASK, task.getId(), operation);
+        } else if (entity instanceof Project project) {
+            changeLogRecorder.getObject().record(ChangeEntityType.PROJECT, project.getId(), operation);
+        } else if (entity instanceof Developer developer) {
+            changeLogRecorder.getObject().record(ChangeEntityType.DEVELOPER, developer.getId(), operation);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.clb.projecttracker.logging;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * One access-log line, captured on the request thread and formatted as JSON by the writer thread.
+ */
+record AccessLogEntry(long timestampMillis, String method, String path, String route, int status, long durationNanos,
+                      String role, String cache, String remoteAddress, String reason) {
+
+    void appendJson(StringBuilder out) {
+        out.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(timestampMillis), out);
+        out.append('"');
+        appendField(out, "method", method);
+        appendField(out, "path", path);
+        appendField(out, "route", route);
+        out.append(",\"status\":").append(status);
+        out.append(",\"durationMs\":");
+        appendMillis(out, durationNanos);
+        appendField(out, "role", role);
+        appendField(out, "cache", cache);
+        appendField(out, "remote", remoteAddress);
+        appendField(out, "reason", reason);
+        out.append('}');
+    }
+
+    // Milliseconds with microsecond precision, without going through double formatting
+    private static void appendMillis(StringBuilder out, long nanos) {
+        long micros = Math.max(nanos, 0) / 1_000;
+        long fraction = micros % 1_000;
+        out.append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            out.append('0');
+        }
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    private static void appendField(StringBuilder out, String name, String value) {
+        out.append(",\"").append(name).append("\":");
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.clb.projecttracker.logging;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.metrics.RequestMetricsTags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access log: times every request and hands a sample of them to {@link AccessLogWriter}. Errors (status at or above
+ * {@code app.access-log.error-status}) and requests slower than {@code app.access-log.slow-threshold-ms} are always
+ * logged; other requests with probability {@code app.access-log.sample-rate}. A request that is not logged costs two
+ * clock reads and a random number, and allocates nothing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String REASON_ERROR = "error";
+    static final String REASON_SLOW = "slow";
+    static final String REASON_SAMPLED = "sampled";
+
+    private final AccessLogWriter writer;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int errorStatus;
+
+    public AccessLogFilter(AccessLogWriter writer, AppProperties appProperties) {
+        AppProperties.AccessLog settings = appProperties.getAccessLog();
+        this.writer = writer;
+        this.enabled = settings.isEnabled();
+        this.sampleRate = settings.getSampleRate();
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowThresholdMs());
+        this.errorStatus = settings.getErrorStatus();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            long duration = System.nanoTime() - start;
+            // An exception escaping the chain is turned into a 500 by the container
+            int status = completed ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            String reason = reason(status, duration);
+            if (reason != null) {
+                writer.write(entry(request, status, duration, reason));
+            }
+        }
+    }
+
+    private String reason(int status, long durationNanos) {
+        if (status >= errorStatus) {
+            return REASON_ERROR;
+        }
+        if (durationNanos >= slowThresholdNanos) {
+            return REASON_SLOW;
+        }
+        if (sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return REASON_SAMPLED;
+        }
+        return null;
+    }
+
+    private static AccessLogEntry entry(HttpServletRequest request, int status, long durationNanos, String reason) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        long startMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        return new AccessLogEntry(startMillis, request.getMethod(), request.getRequestURI(),
+                pattern != null ? pattern.toString() : null, status, durationNanos,
+                RequestMetricsTags.role(request), RequestMetricsTags.cache(request), request.getRemoteAddr(), reason);
+    }
+}
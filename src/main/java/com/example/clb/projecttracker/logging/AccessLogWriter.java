@@ -0,0 +1,149 @@
+package com.example.clb.projecttracker.logging;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes access-log entries as JSON lines from a single background thread, so request threads only enqueue.
+ * The queue is bounded: when the writer falls behind, entries are dropped and counted in {@code access.log.dropped}
+ * rather than slowing down requests. Output is buffered and flushed whenever the queue runs empty.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final int BATCH_SIZE = 256;
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final AppProperties.AccessLog settings;
+    private final BlockingQueue<AccessLogEntry> queue;
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessLogWriter(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.settings = appProperties.getAccessLog();
+        this.queue = new ArrayBlockingQueue<>(Math.max(settings.getQueueCapacity(), 1));
+        this.dropped = Counter.builder("access.log.dropped")
+                .description("Access-log entries dropped because the writer queue was full")
+                .register(meterRegistry);
+        Gauge.builder("access.log.queue.size", queue, BlockingQueue::size)
+                .description("Access-log entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    void write(AccessLogEntry entry) {
+        if (!running || !queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Runs after the web server has stopped, so the entries of the last requests are still written
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(STOP_TIMEOUT_MS);
+        }
+    }
+
+    private void run() {
+        boolean toFile = StringUtils.hasText(settings.getFile());
+        try {
+            Writer out = toFile ? openFile(settings.getFile()) : openStandardOutput();
+            try {
+                drain(out);
+            } finally {
+                if (toFile) {
+                    out.close();
+                } else {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Access log writer stopped: {}", e.getMessage());
+        }
+    }
+
+    private void drain(Writer out) {
+        List<AccessLogEntry> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder line = new StringBuilder(256);
+        while (running || !queue.isEmpty()) {
+            AccessLogEntry first;
+            try {
+                first = queue.poll(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            try {
+                for (AccessLogEntry entry : batch) {
+                    line.setLength(0);
+                    entry.appendJson(line);
+                    out.append(line).append('\n');
+                }
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                dropped.increment(batch.size());
+                logger.warn("Could not write {} access-log entries: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private static Writer openFile(String file) throws IOException {
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // Not System.out, whose PrintStream flushes on every line; the descriptor itself is never closed
+    private static Writer openStandardOutput() {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8),
+                64 * 1024);
+    }
+}
@@ -27,6 +27,13 @@ public interface TaskMapper extends EntityMapper<TaskDto, Task> {
     @Mapping(target = "developerId", source = "developer.id")
     @Mapping(target = "developerName", source = "developer.name")
     TaskSummaryDto toSummaryDto(Task task);
+
+    // Summary pages are assembled from the cached DTOs (see TaskCache)
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "projectName", source = "project.name")
+    @Mapping(target = "developerId", source = "developer.id")
+    @Mapping(target = "developerName", source = "developer.name")
+    TaskSummaryDto toSummaryDto(TaskDto task);
     
     void updateEntityFromDto(TaskRequestDto dto, @MappingTarget Task task);
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.clb.projecttracker.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the {@code role} and {@code cache} tags to {@code http.server.requests}. The {@code uri} tag stays the
+ * handler's path template, so every controller method gets its own series and ids never become tag values.
+ */
+@Component
+public class ApiRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(
+                RequestMetricsTags.ROLE, RequestMetricsTags.role(context.getCarrier()),
+                RequestMetricsTags.CACHE, RequestMetricsTags.cache(context.getCarrier()));
+    }
+}
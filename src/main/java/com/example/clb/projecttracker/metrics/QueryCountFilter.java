@@ -0,0 +1,82 @@
+package com.example.clb.projecttracker.metrics;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the JDBC statements of each request into {@code db.queries.per.request}, per endpoint, and flags N+1
+ * patterns: the same statement fingerprint executed more than {@code app.sql.repeated-statement-threshold} times
+ * within one request. Runs ahead of the security filters, so the user lookups of authentication are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+    private static final String UNMAPPED = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final AppProperties.Sql settings;
+    // Each (endpoint, statement) N+1 is logged once with its SQL; the counter keeps track of repeats
+    private final Set<String> reportedRepeats = ConcurrentHashMap.newKeySet();
+
+    public QueryCountFilter(MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.meterRegistry = meterRegistry;
+        this.settings = appProperties.getSql();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        // Path template of the matched handler, the same value as the uri tag of http.server.requests
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNMAPPED;
+
+        DistributionSummary.builder("db.queries.per.request")
+                .description("JDBC statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                .register(meterRegistry)
+                .record(stats.statements());
+
+        for (Map.Entry<SqlFingerprint, Integer> entry : stats.executionsByFingerprint().entrySet()) {
+            if (entry.getValue() <= settings.getRepeatedStatementThreshold()) {
+                continue;
+            }
+            SqlFingerprint fingerprint = entry.getKey();
+            meterRegistry.counter("db.query.n_plus_one", "uri", uri, "fingerprint", fingerprint.id()).increment();
+            if (reportedRepeats.size() < 1_000 && reportedRepeats.add(uri + ' ' + fingerprint.id())) {
+                logger.warn("Possible N+1 on {} {}: statement [{}] executed {} times in one request: {}",
+                        request.getMethod(), uri, fingerprint.id(), entry.getValue(), fingerprint.sql());
+            }
+        }
+    }
+}
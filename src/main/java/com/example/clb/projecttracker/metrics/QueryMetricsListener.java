@@ -0,0 +1,103 @@
+package com.example.clb.projecttracker.metrics;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement into {@code db.query}, tagged by SQL fingerprint, operation and table, counts it for
+ * the current request ({@link RequestQueryStats}) and writes a sampled slow-query log. Bound parameter values
+ * never reach the log, only their position and type.
+ */
+@Component
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("com.example.clb.projecttracker.sql.SlowQuery");
+    private static final String START_NANOS = "startNanos";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final AppProperties.Sql settings;
+    // Resolved on first use: the data source, and so this listener, is created before the meter registry
+    private volatile MeterRegistry meterRegistry;
+
+    public QueryMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider, AppProperties appProperties) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.settings = appProperties.getSql();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        MeterRegistry registry = meterRegistry();
+
+        // A JDBC batch or a Statement with several queries is one round-trip, timed once under its first statement
+        SqlFingerprint fingerprint = SqlFingerprint.of(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+        RequestQueryStats.record(fingerprint);
+        if (registry != null) {
+            Timer.builder("db.query")
+                    .description("JDBC statement execution time by normalized SQL")
+                    .tag("fingerprint", fingerprint.id())
+                    .tag("operation", fingerprint.operation())
+                    .tag("table", fingerprint.table())
+                    .tag("batch", String.valueOf(execInfo.isBatch()))
+                    .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                    .register(registry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(settings.getSlowQueryThresholdMs())
+                && slowQueryLogger.isWarnEnabled()
+                && ThreadLocalRandom.current().nextDouble() < settings.getSlowQuerySampleRate()) {
+            slowQueryLogger.warn("Slow query [{}] {} ms, batch size {}: {} params {}", fingerprint.id(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), execInfo.isBatch() ? execInfo.getBatchSize() : 1,
+                    fingerprint.sql(), maskedParameters(queryInfoList));
+        }
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * Parameter positions and value types of the first parameter set, e.g. {@code [1:Long, 2:String, 3:null]}.
+     */
+    private static String maskedParameters(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "[]";
+        }
+        StringBuilder masked = new StringBuilder("[");
+        for (ParameterSetOperation parameter : queryInfoList.get(0).getParametersList().get(0)) {
+            Object[] args = parameter.getArgs();
+            if (masked.length() > 1) {
+                masked.append(", ");
+            }
+            masked.append(args[0]).append(':');
+            Object value = args.length > 1 && !ParameterSetOperation.isSetNullParameterOperation(parameter) ? args[1] : null;
+            masked.append(value == null ? "null" : value.getClass().getSimpleName());
+        }
+        return masked.append(']').toString();
+    }
+}
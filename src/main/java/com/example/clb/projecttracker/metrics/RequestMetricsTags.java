@@ -0,0 +1,96 @@
+package com.example.clb.projecttracker.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+
+/**
+ * The extra tags of {@code http.server.requests}: the caller's role and whether the request was served from cache.
+ * Both have a small fixed set of values, so they multiply the number of series by a bounded factor.
+ */
+public final class RequestMetricsTags {
+
+    public static final String ROLE = "role";
+    public static final String CACHE = "cache";
+
+    public static final String ROLE_ANONYMOUS = "anonymous";
+    public static final String ROLE_OTHER = "other";
+    public static final String CACHE_HIT = "hit";
+    public static final String CACHE_MISS = "miss";
+    public static final String CACHE_NONE = "none";
+
+    private static final String ROLE_ATTRIBUTE = RequestMetricsTags.class.getName() + ".role";
+    private static final String CACHE_ATTRIBUTE = RequestMetricsTags.class.getName() + ".cache";
+
+    // Most privileged first: a user with several roles is counted under the highest one
+    private static final String[][] ROLES = {
+            {"ROLE_ADMIN", "admin"},
+            {"ROLE_MANAGER", "manager"},
+            {"ROLE_DEVELOPER", "developer"},
+            {"ROLE_CONTRACTOR", "contractor"}
+    };
+
+    private RequestMetricsTags() {
+    }
+
+    /**
+     * Remembers the role of the authenticated caller on the request, while the security context is still set.
+     */
+    public static void recordRole(HttpServletRequest request, Authentication authentication) {
+        request.setAttribute(ROLE_ATTRIBUTE, role(authentication));
+    }
+
+    public static String role(HttpServletRequest request) {
+        Object role = request.getAttribute(ROLE_ATTRIBUTE);
+        return role != null ? (String) role : ROLE_ANONYMOUS;
+    }
+
+    /**
+     * Records a cache lookup made while handling the current request. A request counts as a hit only if every
+     * lookup hit; lookups outside of a request (scheduled or async work) are ignored.
+     */
+    public static void recordCacheLookup(boolean hit) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        if (!hit) {
+            attributes.setAttribute(CACHE_ATTRIBUTE, CACHE_MISS, RequestAttributes.SCOPE_REQUEST);
+        } else if (attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+            attributes.setAttribute(CACHE_ATTRIBUTE, CACHE_HIT, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Records a request answered from cache before reaching the dispatcher servlet, where there are no request
+     * attributes bound to the thread yet.
+     */
+    public static void recordCacheHit(HttpServletRequest request) {
+        request.setAttribute(CACHE_ATTRIBUTE, CACHE_HIT);
+    }
+
+    public static String cache(HttpServletRequest request) {
+        Object cache = request.getAttribute(CACHE_ATTRIBUTE);
+        return cache != null ? (String) cache : CACHE_NONE;
+    }
+
+    private static String role(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return ROLE_ANONYMOUS;
+        }
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        for (String[] role : ROLES) {
+            for (GrantedAuthority authority : authorities) {
+                if (role[0].equals(authority.getAuthority())) {
+                    return role[1];
+                }
+            }
+        }
+        return ROLE_OTHER;
+    }
+}
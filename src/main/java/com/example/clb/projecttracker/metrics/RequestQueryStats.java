@@ -0,0 +1,42 @@
+package com.example.clb.projecttracker.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements executed by the current request thread, bound by {@link QueryCountFilter} for the duration of a request.
+ * Queries run outside of a request (schedulers, async audit writes, startup) are not tracked here.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private final Map<SqlFingerprint, Integer> executionsByFingerprint = new HashMap<>();
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(SqlFingerprint fingerprint) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.executionsByFingerprint.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    Map<SqlFingerprint, Integer> executionsByFingerprint() {
+        return executionsByFingerprint;
+    }
+}
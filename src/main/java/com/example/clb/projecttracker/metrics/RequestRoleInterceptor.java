@@ -0,0 +1,21 @@
+package com.example.clb.projecttracker.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Captures the caller's role for the request metrics. The observation is stopped outside the security filter
+ * chain, where the security context has already been cleared, so the role is copied onto the request here.
+ */
+@Component
+public class RequestRoleInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetricsTags.recordRole(request, SecurityContextHolder.getContext().getAuthentication());
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.clb.projecttracker.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * A SQL statement with literals and IN-list lengths normalized away, so that all executions of the same query
+ * share one fingerprint. {@link #id()} is short enough for a metric tag; {@link #sql()} is the normalized text
+ * logged alongside it, so a tag value can be traced back to its statement.
+ */
+public record SqlFingerprint(String id, String operation, String table, String sql) {
+
+    // Hibernate emits a fixed set of statements, so this stays small; the bound only guards against ad-hoc SQL
+    private static final int MAX_CACHED = 2_000;
+    private static final Map<String, SqlFingerprint> CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERALS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|into|update|join|table)\\s+([a-z_\"][a-z0-9_.\"]*)");
+
+    public static SqlFingerprint of(String sql) {
+        SqlFingerprint fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = compute(sql);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.putIfAbsent(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    private static SqlFingerprint compute(String sql) {
+        String normalized = COMMENTS.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERALS.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERALS.matcher(normalized).replaceAll("?");
+        normalized = IN_LISTS.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+
+        CRC32 crc = new CRC32();
+        crc.update(normalized.getBytes(StandardCharsets.UTF_8));
+        String id = String.format("%08x", crc.getValue());
+
+        int firstSpace = normalized.indexOf(' ');
+        String keyword = firstSpace > 0 ? normalized.substring(0, firstSpace) : normalized;
+        String operation = switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+        Matcher table = TABLE.matcher(normalized);
+        return new SqlFingerprint(id, operation, table.find() ? table.group(1).replace("\"", "") : "none", normalized);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.clb.projecttracker.metrics;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Logs how long startup took once the application is ready: JVM start to ready, the Spring part of it, and the
+ * slowest bean initializations (inclusive of the beans they create). Bean timings need the
+ * {@link BufferingApplicationStartup} set in {@code ProjectTrackerApplication}; the full timeline is also served by
+ * the {@code startup} actuator endpoint.
+ */
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private final AppProperties.Startup settings;
+
+    public StartupReport(AppProperties appProperties) {
+        this.settings = appProperties.getStartup();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        Duration timeTaken = event.getTimeTaken();
+        logger.info("Startup: ready {} ms after JVM start, of which {} ms in Spring; active profiles {}",
+                jvmUptime, timeTaken != null ? timeTaken.toMillis() : -1,
+                List.of(event.getApplicationContext().getEnvironment().getActiveProfiles()));
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (settings.getSlowestBeans() <= 0 || !(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = buffering.getBufferedTimeline().getEvents().stream()
+                .filter(step -> BEAN_INSTANTIATION.equals(step.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(settings.getSlowestBeans())
+                .toList();
+        StringBuilder report = new StringBuilder("Startup: slowest bean initializations");
+        for (StartupTimeline.TimelineEvent step : slowest) {
+            report.append(System.lineSeparator()).append(String.format("  %6d ms  %s",
+                    step.getDuration().toMillis(), beanName(step.getStartupStep())));
+        }
+        logger.info(report.toString());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
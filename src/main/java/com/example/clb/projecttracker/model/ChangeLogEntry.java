@@ -0,0 +1,36 @@
+package com.example.clb.projecttracker.model;
+
+import com.example.clb.projecttracker.model.enums.ChangeEntityType;
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the change feed. Only read through JPA: rows are inserted by ChangeLogRecorder, in one JDBC batch
+ * per transaction.
+ */
+@Entity
+@Table(name = "change_log")
+@Data
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -1,5 +1,7 @@
 package com.example.clb.projecttracker.model;
 
+import com.example.clb.projecttracker.listeners.EntityChangeListener;
+import com.example.clb.projecttracker.model.id.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,17 +9,23 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "developers")
+@EntityListeners(EntityChangeListener.class)
 @Data
 public class Developer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "developers_seq")
+    @GenericGenerator(name = "developers_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "developers_seq"))
     private Long id;
 
     @NotBlank(message = "Developer name cannot be blank")
@@ -34,6 +42,11 @@ public class Developer {
     @Size(max = 255, message = "Skills description must  be less than 255 characters")
     private String skills; // e.g., "Java, Spring Boot, SQL"
 
+    // Optimistic locking: concurrent writers fail with a conflict instead of silently overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // One Developer can be assigned to Many Tasks
     // 'mappedBy = "developer"' indicates the 'developer' field in Task entity owns the relationship
     @OneToMany(mappedBy = "developer", cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.DETACH}, fetch = FetchType.LAZY)
@@ -1,6 +1,8 @@
 package com.example.clb.projecttracker.model;
 
+import com.example.clb.projecttracker.listeners.EntityChangeListener;
 import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.id.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,6 +10,10 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -15,11 +21,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "projects")
+@EntityListeners(EntityChangeListener.class)
+@DynamicUpdate
 @Data // Includes @Getter, @Setter, @ToString, @EqualsAndHashCode, @RequiredArgsConstructor
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "projects_seq")
+    @GenericGenerator(name = "projects_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "projects_seq"))
     private Long id;
 
     @NotBlank(message = "Project name cannot be blank")
@@ -40,6 +50,11 @@ public class Project {
     @Column(nullable = false)
     private ProjectStatus status;
 
+    // Optimistic locking: concurrent writers fail with a conflict instead of silently overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // One Project has Many Tasks
     // mappedBy = "project" indicates that the 'project' field in the Task entity owns the relationship
     // CascadeType.ALL: operations (persist, merge, remove, refresh, detach) on Project cascade to Tasks
@@ -1,6 +1,8 @@
 package com.example.clb.projecttracker.model;
 
+import com.example.clb.projecttracker.listeners.EntityChangeListener;
 import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.model.id.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,18 +11,28 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tasks")
+@EntityListeners(EntityChangeListener.class)
+@DynamicUpdate // Only changed columns are written, so status/assignee updates skip the TEXT description
 @Data
 public class Task {
 
+    // Pooled-lo sequence instead of IDENTITY: ids are known before the INSERT, so Hibernate can batch inserts
+    // and only hits the sequence once per allocation block. The sequence is created by the V2 migration.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tasks_seq")
+    @GenericGenerator(name = "tasks_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tasks_seq"))
     private Long id;
 
     @NotBlank(message = "Task title cannot be blank")
@@ -61,4 +73,9 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic locking: concurrent writers fail with a conflict instead of silently overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
 }
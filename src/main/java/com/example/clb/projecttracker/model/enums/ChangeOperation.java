@@ -0,0 +1,7 @@
+package com.example.clb.projecttracker.model.enums;
+
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
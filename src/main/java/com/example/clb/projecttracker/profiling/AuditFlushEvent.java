@@ -0,0 +1,27 @@
+package com.example.clb.projecttracker.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.example.clb.projecttracker.AuditFlush")
+@Label("Audit Flush")
+@Category({"Project Tracker", "Audit"})
+@Description("Write of audit log documents to MongoDB, on the async executor")
+@StackTrace(false)
+@Setter
+public class AuditFlushEvent extends Event {
+
+    @Label("Entity Type")
+    private String entityType;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Documents")
+    private int documents;
+}
@@ -0,0 +1,27 @@
+package com.example.clb.projecttracker.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.example.clb.projecttracker.CacheLoad")
+@Label("Cache Load")
+@Category({"Project Tracker", "Cache"})
+@Description("A cache miss: the @Cacheable method computing the value")
+@StackTrace(false)
+@Setter
+public class CacheLoadEvent extends Event {
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Arguments")
+    private String arguments;
+}
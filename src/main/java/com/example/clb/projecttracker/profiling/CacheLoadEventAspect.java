@@ -0,0 +1,50 @@
+package com.example.clb.projecttracker.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Emits a {@link CacheLoadEvent} each time a {@code @Cacheable} method actually runs. The cache interceptor is
+ * ordered ahead of this aspect (see {@code CacheConfig}), so hits never get here and each event is one load.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CacheLoadEventAspect {
+
+    private static final int MAX_ARGUMENTS_LENGTH = 200;
+
+    // A static pointcut: binding the annotation as an argument would need the invocation exposed on the current
+    // thread, which the background refreshes of StaleWhileRevalidateCache do not have
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object recordLoad(ProceedingJoinPoint joinPoint) throws Throwable {
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                        AopUtils.getTargetClass(joinPoint.getTarget()));
+                Cacheable cacheable = method.getAnnotation(Cacheable.class);
+                String[] caches = cacheable.cacheNames().length > 0 ? cacheable.cacheNames() : cacheable.value();
+                event.setCache(String.join(",", caches));
+                event.setMethod(joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+                String arguments = Arrays.toString(joinPoint.getArgs());
+                event.setArguments(arguments.length() > MAX_ARGUMENTS_LENGTH ? arguments.substring(0, MAX_ARGUMENTS_LENGTH) : arguments);
+                event.commit();
+            }
+        }
+    }
+}
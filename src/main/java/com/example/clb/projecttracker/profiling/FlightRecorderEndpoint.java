@@ -0,0 +1,132 @@
+package com.example.clb.projecttracker.profiling;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * On-demand Java Flight Recorder recordings at {@code /actuator/jfr} (admin only, see WebSecurityConfig):
+ * <ul>
+ *     <li>{@code GET} returns the state of the current recording</li>
+ *     <li>{@code POST {"durationSeconds": 120, "settings": "profile"}} starts one</li>
+ *     <li>{@code DELETE} stops it early</li>
+ *     <li>{@code GET /actuator/jfr/recording.jfr} downloads it, or a snapshot while it is still running</li>
+ * </ul>
+ * Only one recording runs at a time and it is bounded by {@code app.jfr.max-duration-seconds} and
+ * {@code app.jfr.max-size-mb}, so a forgotten recording stops by itself.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final String DOWNLOAD_NAME = "recording.jfr";
+    private static final String RECORDING_NAME = "project-tracker";
+    private static final Set<String> PRESETS = Set.of("default", "profile");
+
+    private final AppProperties.Jfr settings;
+    private Recording recording;
+    private String preset;
+
+    public FlightRecorderEndpoint(AppProperties appProperties) {
+        this.settings = appProperties.getJfr();
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("settings", preset);
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationSeconds, @Nullable String settings)
+            throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        String requestedPreset = StringUtils.hasText(settings) ? settings : this.settings.getSettings();
+        if (!PRESETS.contains(requestedPreset)) {
+            return new WebEndpointResponse<>(Map.of("error", "settings must be one of " + PRESETS), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        long seconds = durationSeconds != null && durationSeconds > 0 ? durationSeconds : this.settings.getDefaultDurationSeconds();
+
+        if (recording != null) {
+            recording.close();
+        }
+        recording = new Recording(Configuration.getConfiguration(requestedPreset));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(Math.min(seconds, this.settings.getMaxDurationSeconds())));
+        recording.setMaxSize(this.settings.getMaxSizeMb() * 1024 * 1024);
+        // Written when the recording stops, whether at the end of its duration or through DELETE
+        recording.setDestination(file(""));
+        recording.start();
+        preset = requestedPreset;
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        if (!DOWNLOAD_NAME.equals(name) || recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path path;
+        if (recording.getState() == RecordingState.RUNNING) {
+            path = file("-snapshot");
+            recording.dump(path);
+        } else {
+            path = recording.getDestination();
+        }
+        if (path == null || !Files.exists(path)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(path), WebEndpointResponse.STATUS_OK);
+    }
+
+    private Path file(String suffix) throws IOException {
+        Path directory = Path.of(StringUtils.hasText(settings.getDirectory())
+                ? settings.getDirectory() : System.getProperty("java.io.tmpdir"));
+        Files.createDirectories(directory);
+        return directory.resolve(RECORDING_NAME + "-" + ProcessHandle.current().pid() + suffix + ".jfr");
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.clb.projecttracker.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.example.clb.projecttracker.JwtVerification")
+@Label("JWT Verification")
+@Category({"Project Tracker", "Security"})
+@Description("Signature and claims check of a bearer token")
+@StackTrace(false)
+@Setter
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+}
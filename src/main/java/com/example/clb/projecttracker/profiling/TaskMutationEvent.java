@@ -0,0 +1,32 @@
+package com.example.clb.projecttracker.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.example.clb.projecttracker.TaskMutation")
+@Label("Task Mutation")
+@Category({"Project Tracker", "Service"})
+@Description("A TaskService write, including its transaction, cache updates and conflict retries")
+@StackTrace(false)
+@Setter
+public class TaskMutationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Task Id")
+    @Description("Id of the task for single-task operations, 0 otherwise")
+    private long taskId;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Failure")
+    @Description("Exception class when the operation failed")
+    private String failure;
+}
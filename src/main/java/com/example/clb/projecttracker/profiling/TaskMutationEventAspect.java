@@ -0,0 +1,55 @@
+package com.example.clb.projecttracker.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Emits a {@link TaskMutationEvent} for every write through {@code TaskService}. Ordered first, so the event spans
+ * the transaction commit, the cache evictions and the optimistic-lock retries. When no recording is running the
+ * event is neither filled in nor committed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TaskMutationEventAspect {
+
+    @Around("execution(* com.example.clb.projecttracker.service.TaskService.create*(..))"
+            + " || execution(* com.example.clb.projecttracker.service.TaskService.update*(..))"
+            + " || execution(* com.example.clb.projecttracker.service.TaskService.patch*(..))"
+            + " || execution(* com.example.clb.projecttracker.service.TaskService.assign*(..))"
+            + " || execution(* com.example.clb.projecttracker.service.TaskService.unassign*(..))"
+            + " || execution(* com.example.clb.projecttracker.service.TaskService.delete*(..))")
+    public Object recordMutation(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setOperation(joinPoint.getSignature().getName());
+                Object target = joinPoint.getArgs().length > 0 ? joinPoint.getArgs()[0] : null;
+                if (target instanceof Long taskId) {
+                    event.setTaskId(taskId);
+                    event.setTaskCount(1);
+                } else if (target instanceof Collection<?> tasks) {
+                    event.setTaskCount(tasks.size());
+                }
+                if (failure != null) {
+                    event.setFailure(failure.getClass().getName());
+                }
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.clb.projecttracker.protobuf;
+
+import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes the summary DTOs in the protobuf wire format of {@code src/main/proto/summaries.proto}, with the coded
+ * streams of protobuf-java instead of generated message classes: the DTOs are written as they are, without a copy
+ * into messages first, and the build needs no protoc. The field and enum numbers below are those of the schema.
+ * <p>
+ * Pages and lists are written as a {@code TaskSummaryPage} or {@code ProjectSummaryPage}; the readers are for
+ * Java clients and the benchmarks.
+ */
+public final class SummaryProtobufCodec {
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-protobuf");
+
+    private static final int PAGE_CONTENT = 1;
+    private static final int PAGE_NUMBER = 2;
+    private static final int PAGE_SIZE = 3;
+    private static final int PAGE_TOTAL_ELEMENTS = 4;
+    private static final int PAGE_TOTAL_PAGES = 5;
+
+    private static final int TASK_ID = 1;
+    private static final int TASK_TITLE = 2;
+    private static final int TASK_STATUS = 3;
+    private static final int TASK_DUE_DATE = 4;
+    private static final int TASK_PROJECT_ID = 5;
+    private static final int TASK_PROJECT_NAME = 6;
+    private static final int TASK_DEVELOPER_ID = 7;
+    private static final int TASK_DEVELOPER_NAME = 8;
+
+    private static final int PROJECT_ID = 1;
+    private static final int PROJECT_NAME = 2;
+    private static final int PROJECT_STATUS = 3;
+    private static final int PROJECT_DEADLINE = 4;
+    private static final int PROJECT_TASK_COUNT = 5;
+
+    // Indexed by the schema's enum numbers, so reordering the Java enums does not change the wire format
+    private static final TaskStatus[] TASK_STATUSES = {null, TaskStatus.TO_DO, TaskStatus.IN_PROGRESS,
+            TaskStatus.BLOCKED, TaskStatus.IN_REVIEW, TaskStatus.COMPLETED, TaskStatus.CANCELLED};
+    private static final ProjectStatus[] PROJECT_STATUSES = {null, ProjectStatus.NOT_STARTED,
+            ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED, ProjectStatus.ON_HOLD, ProjectStatus.CANCELLED};
+
+    private SummaryProtobufCodec() {
+    }
+
+    public static void writeTaskSummaries(Iterable<TaskSummaryDto> summaries, CodedOutputStream out) throws IOException {
+        for (TaskSummaryDto summary : summaries) {
+            out.writeTag(PAGE_CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(taskSummarySize(summary));
+            writeTaskSummary(summary, out);
+        }
+        writePaging(summaries, out);
+    }
+
+    public static void writeProjectSummaries(Iterable<ProjectSummaryDto> summaries, CodedOutputStream out) throws IOException {
+        for (ProjectSummaryDto summary : summaries) {
+            out.writeTag(PAGE_CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(projectSummarySize(summary));
+            writeProjectSummary(summary, out);
+        }
+        writePaging(summaries, out);
+    }
+
+    public static Page<TaskSummaryDto> readTaskSummaries(CodedInputStream in) throws IOException {
+        List<TaskSummaryDto> content = new ArrayList<>();
+        Paging paging = new Paging();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == PAGE_CONTENT) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                content.add(readTaskSummary(in));
+                in.popLimit(limit);
+            } else {
+                paging.read(tag, in);
+            }
+        }
+        return paging.toPage(content);
+    }
+
+    public static Page<ProjectSummaryDto> readProjectSummaries(CodedInputStream in) throws IOException {
+        List<ProjectSummaryDto> content = new ArrayList<>();
+        Paging paging = new Paging();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == PAGE_CONTENT) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                content.add(readProjectSummary(in));
+                in.popLimit(limit);
+            } else {
+                paging.read(tag, in);
+            }
+        }
+        return paging.toPage(content);
+    }
+
+    // Implicit-presence fields (proto3 without "optional") are left out when they hold their default value
+
+    private static int taskSummarySize(TaskSummaryDto summary) {
+        int size = 0;
+        if (summary.getId() != null && summary.getId() != 0) {
+            size += CodedOutputStream.computeInt64Size(TASK_ID, summary.getId());
+        }
+        if (summary.getTitle() != null && !summary.getTitle().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(TASK_TITLE, summary.getTitle());
+        }
+        if (summary.getStatus() != null) {
+            size += CodedOutputStream.computeEnumSize(TASK_STATUS, number(TASK_STATUSES, summary.getStatus()));
+        }
+        if (summary.getDueDate() != null) {
+            size += CodedOutputStream.computeInt32Size(TASK_DUE_DATE, (int) summary.getDueDate().toEpochDay());
+        }
+        if (summary.getProjectId() != null) {
+            size += CodedOutputStream.computeInt64Size(TASK_PROJECT_ID, summary.getProjectId());
+        }
+        if (summary.getProjectName() != null) {
+            size += CodedOutputStream.computeStringSize(TASK_PROJECT_NAME, summary.getProjectName());
+        }
+        if (summary.getDeveloperId() != null) {
+            size += CodedOutputStream.computeInt64Size(TASK_DEVELOPER_ID, summary.getDeveloperId());
+        }
+        if (summary.getDeveloperName() != null) {
+            size += CodedOutputStream.computeStringSize(TASK_DEVELOPER_NAME, summary.getDeveloperName());
+        }
+        return size;
+    }
+
+    private static void writeTaskSummary(TaskSummaryDto summary, CodedOutputStream out) throws IOException {
+        if (summary.getId() != null && summary.getId() != 0) {
+            out.writeInt64(TASK_ID, summary.getId());
+        }
+        if (summary.getTitle() != null && !summary.getTitle().isEmpty()) {
+            out.writeString(TASK_TITLE, summary.getTitle());
+        }
+        if (summary.getStatus() != null) {
+            out.writeEnum(TASK_STATUS, number(TASK_STATUSES, summary.getStatus()));
+        }
+        if (summary.getDueDate() != null) {
+            out.writeInt32(TASK_DUE_DATE, (int) summary.getDueDate().toEpochDay());
+        }
+        if (summary.getProjectId() != null) {
+            out.writeInt64(TASK_PROJECT_ID, summary.getProjectId());
+        }
+        if (summary.getProjectName() != null) {
+            out.writeString(TASK_PROJECT_NAME, summary.getProjectName());
+        }
+        if (summary.getDeveloperId() != null) {
+            out.writeInt64(TASK_DEVELOPER_ID, summary.getDeveloperId());
+        }
+        if (summary.getDeveloperName() != null) {
+            out.writeString(TASK_DEVELOPER_NAME, summary.getDeveloperName());
+        }
+    }
+
+    private static TaskSummaryDto readTaskSummary(CodedInputStream in) throws IOException {
+        TaskSummaryDto summary = new TaskSummaryDto();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TASK_ID -> summary.setId(in.readInt64());
+                case TASK_TITLE -> summary.setTitle(in.readStringRequireUtf8());
+                case TASK_STATUS -> summary.setStatus(fromNumber(TASK_STATUSES, in.readEnum()));
+                case TASK_DUE_DATE -> summary.setDueDate(LocalDate.ofEpochDay(in.readInt32()));
+                case TASK_PROJECT_ID -> summary.setProjectId(in.readInt64());
+                case TASK_PROJECT_NAME -> summary.setProjectName(in.readStringRequireUtf8());
+                case TASK_DEVELOPER_ID -> summary.setDeveloperId(in.readInt64());
+                case TASK_DEVELOPER_NAME -> summary.setDeveloperName(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return summary;
+    }
+
+    private static int projectSummarySize(ProjectSummaryDto summary) {
+        int size = 0;
+        if (summary.getId() != null && summary.getId() != 0) {
+            size += CodedOutputStream.computeInt64Size(PROJECT_ID, summary.getId());
+        }
+        if (summary.getName() != null && !summary.getName().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(PROJECT_NAME, summary.getName());
+        }
+        if (summary.getStatus() != null) {
+            size += CodedOutputStream.computeEnumSize(PROJECT_STATUS, number(PROJECT_STATUSES, summary.getStatus()));
+        }
+        if (summary.getDeadline() != null) {
+            size += CodedOutputStream.computeInt32Size(PROJECT_DEADLINE, (int) summary.getDeadline().toEpochDay());
+        }
+        if (summary.getTaskCount() != 0) {
+            size += CodedOutputStream.computeInt32Size(PROJECT_TASK_COUNT, summary.getTaskCount());
+        }
+        return size;
+    }
+
+    private static void writeProjectSummary(ProjectSummaryDto summary, CodedOutputStream out) throws IOException {
+        if (summary.getId() != null && summary.getId() != 0) {
+            out.writeInt64(PROJECT_ID, summary.getId());
+        }
+        if (summary.getName() != null && !summary.getName().isEmpty()) {
+            out.writeString(PROJECT_NAME, summary.getName());
+        }
+        if (summary.getStatus() != null) {
+            out.writeEnum(PROJECT_STATUS, number(PROJECT_STATUSES, summary.getStatus()));
+        }
+        if (summary.getDeadline() != null) {
+            out.writeInt32(PROJECT_DEADLINE, (int) summary.getDeadline().toEpochDay());
+        }
+        if (summary.getTaskCount() != 0) {
+            out.writeInt32(PROJECT_TASK_COUNT, summary.getTaskCount());
+        }
+    }
+
+    private static ProjectSummaryDto readProjectSummary(CodedInputStream in) throws IOException {
+        ProjectSummaryDto summary = new ProjectSummaryDto();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PROJECT_ID -> summary.setId(in.readInt64());
+                case PROJECT_NAME -> summary.setName(in.readStringRequireUtf8());
+                case PROJECT_STATUS -> summary.setStatus(fromNumber(PROJECT_STATUSES, in.readEnum()));
+                case PROJECT_DEADLINE -> summary.setDeadline(LocalDate.ofEpochDay(in.readInt32()));
+                case PROJECT_TASK_COUNT -> summary.setTaskCount(in.readInt32());
+                default -> in.skipField(tag);
+            }
+        }
+        return summary;
+    }
+
+    private static void writePaging(Iterable<?> content, CodedOutputStream out) throws IOException {
+        if (!(content instanceof Page<?> page) || page.getPageable().isUnpaged()) {
+            return;
+        }
+        if (page.getNumber() != 0) {
+            out.writeInt32(PAGE_NUMBER, page.getNumber());
+        }
+        out.writeInt32(PAGE_SIZE, page.getSize());
+        if (page.getTotalElements() != 0) {
+            out.writeInt64(PAGE_TOTAL_ELEMENTS, page.getTotalElements());
+        }
+        if (page.getTotalPages() != 0) {
+            out.writeInt32(PAGE_TOTAL_PAGES, page.getTotalPages());
+        }
+    }
+
+    private static <E extends Enum<E>> int number(E[] byNumber, E value) {
+        for (int number = 1; number < byNumber.length; number++) {
+            if (byNumber[number] == value) {
+                return number;
+            }
+        }
+        throw new IllegalArgumentException("No protobuf enum number for " + value);
+    }
+
+    // Numbers added to the schema after this build are read as null
+    private static <E extends Enum<E>> E fromNumber(E[] byNumber, int number) {
+        return number > 0 && number < byNumber.length ? byNumber[number] : null;
+    }
+
+    private static final class Paging {
+
+        private int number;
+        private int size;
+        private long totalElements;
+
+        void read(int tag, CodedInputStream in) throws IOException {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PAGE_NUMBER -> number = in.readInt32();
+                case PAGE_SIZE -> size = in.readInt32();
+                case PAGE_TOTAL_ELEMENTS -> totalElements = in.readInt64();
+                // Derived from the size and total
+                default -> in.skipField(tag);
+            }
+        }
+
+        <T> Page<T> toPage(List<T> content) {
+            return size > 0 ? new PageImpl<>(content, PageRequest.of(number, size), totalElements) : new PageImpl<>(content);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.clb.projecttracker.protobuf;
+
+import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes pages and lists of {@link TaskSummaryDto} and {@link ProjectSummaryDto} as
+ * {@code application/x-protobuf}, with {@link SummaryProtobufCodec}. Other response types are left to the other
+ * converters, so asking for protobuf elsewhere gets a 406. Write-only: the API takes JSON request bodies.
+ */
+public class SummaryProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Iterable<?>> {
+
+    public SummaryProtobufHttpMessageConverter() {
+        super(SummaryProtobufCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        // Only decided with the generic type, see canWrite(Type, Class, MediaType)
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        Class<?> elementType = elementType(type != null ? type : clazz);
+        return (elementType == TaskSummaryDto.class || elementType == ProjectSummaryDto.class) && canWrite(mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        // Asked with the raw class while listing what a handler can produce; the element type is checked on write
+        return Iterable.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Iterable<?> summaries, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (elementType(type != null ? type : summaries.getClass()) == TaskSummaryDto.class) {
+            SummaryProtobufCodec.writeTaskSummaries((Iterable<TaskSummaryDto>) summaries, out);
+        } else {
+            SummaryProtobufCodec.writeProjectSummaries((Iterable<ProjectSummaryDto>) summaries, out);
+        }
+        out.flush();
+    }
+
+    @Override
+    public Iterable<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Iterable<?> readInternal(Class<? extends Iterable<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    private static Class<?> elementType(Type type) {
+        return ResolvableType.forType(type).as(Iterable.class).getGeneric(0).resolve();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.clb.projecttracker.repository;
+
+import com.example.clb.projecttracker.model.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // Range scan of the primary key
+    List<ChangeLogEntry> findBySeqGreaterThanOrderBySeqAsc(long seq, Limit limit);
+
+    // Backward scan of the primary key, stops at the first row old enough
+    Optional<ChangeLogEntry> findFirstByChangedAtBeforeOrderBySeqDesc(LocalDateTime changedAt);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
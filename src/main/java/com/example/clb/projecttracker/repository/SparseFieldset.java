@@ -0,0 +1,68 @@
+package com.example.clb.projecttracker.repository;
+
+import com.example.clb.projecttracker.exception.BadRequestException;
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The fields a client may pick with {@code fields=} on a list endpoint, named as in the full DTO. Dotted names
+ * select an attribute of a to-one association and are rendered nested, like the DTO's reference objects:
+ * {@code project.id} reads the foreign key column, any other attribute joins the association.
+ */
+public final class SparseFieldset {
+
+    public static final SparseFieldset TASKS = new SparseFieldset(Task.class,
+            "id", "title", "description", "status", "dueDate", "createdAt", "updatedAt", "version",
+            "project.id", "project.name", "developer.id", "developer.name");
+
+    public static final SparseFieldset PROJECTS = new SparseFieldset(Project.class,
+            "id", "name", "description", "deadline", "status", "version");
+
+    public static final SparseFieldset DEVELOPERS = new SparseFieldset(Developer.class,
+            "id", "name", "email", "skills", "version");
+
+    private final Class<?> entityClass;
+    private final List<String> fields;
+
+    private SparseFieldset(Class<?> entityClass, String... fields) {
+        this.entityClass = entityClass;
+        this.fields = List.of(fields);
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields=} value into the selected fields, in the order of the whitelist and
+     * without duplicates. Sort properties are checked too, since they become part of the same query.
+     *
+     * @throws BadRequestException if a field or sort property is not in the whitelist, or no field is given
+     */
+    public List<String> select(String requested, Sort sort) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : requested.split(",")) {
+            if (!name.isBlank()) {
+                names.add(require(name.trim(), "field"));
+            }
+        }
+        if (names.isEmpty()) {
+            throw new BadRequestException("No fields selected. Allowed fields: " + String.join(",", fields));
+        }
+        sort.forEach(order -> require(order.getProperty(), "sort property"));
+        return fields.stream().filter(names::contains).toList();
+    }
+
+    private String require(String name, String kind) {
+        if (!fields.contains(name)) {
+            throw new BadRequestException("Unknown " + kind + " '" + name + "'. Allowed fields: " + String.join(",", fields));
+        }
+        return name;
+    }
+}
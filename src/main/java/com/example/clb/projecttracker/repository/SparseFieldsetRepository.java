@@ -0,0 +1,103 @@
+package com.example.clb.projecttracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pages of entities projected onto a client-selected {@link SparseFieldset}: one tuple query that selects only
+ * the requested columns and joins only the associations whose non-id attributes were asked for. Rows come back
+ * as maps shaped like the full DTO, so the serialized body carries just the selected fields.
+ */
+@Repository
+public class SparseFieldsetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Page<Map<String, Object>> findAll(SparseFieldset fieldset, List<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(fieldset.getEntityClass());
+
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(path(root, joins, field).alias(field));
+        }
+        query.multiselect(selections);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = typedQuery.getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(fieldset));
+    }
+
+    private static Path<?> path(Root<?> root, Map<String, From<?, ?>> joins, String field) {
+        int dot = field.indexOf('.');
+        if (dot < 0) {
+            return root.get(field);
+        }
+        String association = field.substring(0, dot);
+        String attribute = field.substring(dot + 1);
+        if ("id".equals(attribute)) {
+            // Resolved to the foreign key column, without a join
+            return root.get(association).get(attribute);
+        }
+        // Left join: an unassigned task is still listed, with a null reference like its DTO
+        return joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT)).get(attribute);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            int dot = field.indexOf('.');
+            if (dot < 0) {
+                row.put(field, value);
+            } else {
+                ((Map<String, Object>) row.computeIfAbsent(field.substring(0, dot), name -> new LinkedHashMap<>()))
+                        .put(field.substring(dot + 1), value);
+            }
+        }
+        // A missing reference is null in the DTO, not an object of nulls
+        row.replaceAll((name, value) -> value instanceof Map<?, ?> reference
+                && reference.values().stream().allMatch(v -> v == null) ? null : value);
+        return row;
+    }
+
+    private long count(SparseFieldset fieldset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(fieldset.getEntityClass())));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -59,4 +60,28 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByDueDateBeforeAndStatusNotIn(LocalDate now, List<TaskStatus> excludedStatuses);
 
     long countByStatus(TaskStatus status);
+
+    // Id-only pages of the paginated queries above, cached by TaskCache; the tasks themselves are cached by id
+    @Query("SELECT t.id FROM Task t")
+    Page<Long> findAllIds(Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    Page<Long> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.developer.id = :developerId")
+    Page<Long> findIdsByDeveloperId(@Param("developerId") Long developerId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.status NOT IN (com.example.clb.projecttracker.model.enums.TaskStatus.COMPLETED, com.example.clb.projecttracker.model.enums.TaskStatus.CANCELLED) AND t.dueDate < CURRENT_DATE")
+    Page<Long> findOverdueTaskIds(Pageable pageable);
+
+    // All task ids of a project or developer, for evicting the cached DTOs that embed its name
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<Long> findAllIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.developer.id = :developerId")
+    List<Long> findAllIdsByDeveloperId(@Param("developerId") Long developerId);
+
+    // The tasks missing from the cache, with the project and developer names their DTOs carry, in one query
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.project LEFT JOIN FETCH t.developer WHERE t.id IN :ids")
+    List<Task> findAllWithReferencesByIdIn(@Param("ids") Collection<Long> ids);
 }
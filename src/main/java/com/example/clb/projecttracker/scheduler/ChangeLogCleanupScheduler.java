@@ -0,0 +1,26 @@
+package com.example.clb.projecttracker.scheduler;
+
+import com.example.clb.projecttracker.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeLogCleanupScheduler {
+
+    private final ChangeFeedService changeFeedService;
+
+    // Hourly, so each run deletes about an hour of changes. Every instance runs it; the deletes do not conflict.
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT5M")
+    public void deleteExpiredChanges() {
+        try {
+            int deleted = changeFeedService.deleteExpiredChanges();
+            log.info("Change log cleanup deleted {} expired changes", deleted);
+        } catch (Exception e) {
+            log.error("Change log cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.clb.projecttracker.security;
 
+import com.example.clb.projecttracker.dto.TaskDto;
 import com.example.clb.projecttracker.model.Task;
 import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.security.services.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service("taskSecurityService")
 @RequiredArgsConstructor
 public class TaskSecurityService {
@@ -46,6 +55,39 @@ public class TaskSecurityService {
         }).orElse(false);
     }
 
+    /**
+     * Bulk form of {@link #canViewTask(Long)}: the tasks the current user may view, decided once for the caller
+     * and then from the assignee in each DTO, without loading the tasks again. Reads the roles from the
+     * authentication, so it works for JWT principals ({@link UserDetailsImpl}) as well as OAuth2 ones.
+     */
+    public Map<Long, TaskDto> filterViewableTasks(Map<Long, TaskDto> tasks) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Map.of();
+        }
+        Set<String> authorities = AuthorityUtils.authorityListToSet(authentication.getAuthorities());
+        // Admin and Manager can view all tasks
+        if (authorities.contains("ROLE_ADMIN") || authorities.contains("ROLE_MANAGER")) {
+            return tasks;
+        }
+        // Developers can only view tasks assigned to them, contractors none
+        Long userId = userId(authentication.getPrincipal());
+        if (!authorities.contains("ROLE_DEVELOPER") || userId == null) {
+            return Map.of();
+        }
+        return tasks.entrySet().stream()
+                .filter(entry -> entry.getValue().getDeveloper() != null
+                        && userId.equals(entry.getValue().getDeveloper().getId()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static Long userId(Object principal) {
+        if (principal instanceof UserDetailsImpl userDetails) {
+            return userDetails.getId();
+        }
+        return principal instanceof UserPrincipal userPrincipal ? userPrincipal.getId() : null;
+    }
+
     public boolean canUpdateTask(Long taskId) {
         return SecurityUtil.getCurrentUserPrincipal().map(principal -> {
             // Admin and Manager can update all tasks
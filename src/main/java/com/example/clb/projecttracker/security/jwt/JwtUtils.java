@@ -1,5 +1,6 @@
 package com.example.clb.projecttracker.security.jwt;
 
+import com.example.clb.projecttracker.profiling.JwtVerificationEvent;
 import com.example.clb.projecttracker.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -94,6 +95,18 @@ public class JwtUtils {
     }
 
     public boolean validateJwtToken(String authToken) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        boolean valid = verifyJwtToken(authToken);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setValid(valid);
+            event.commit();
+        }
+        return valid;
+    }
+
+    private boolean verifyJwtToken(String authToken) {
         try {
             Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
@@ -5,10 +5,17 @@ import com.example.clb.projecttracker.document.enums.ActionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface AuditLogService {
 
     void logAction(String entityType, Long entityId, ActionType actionType, String userId, String details);
 
+    /**
+     * Records the same action for many entities with a single bulk insert. Used by batch operations.
+     */
+    void logActions(String entityType, Collection<Long> entityIds, ActionType actionType, String userId, String details);
+
     // Methods for retrieving logs - to be used by AuditLogController later
     Page<AuditLog> getAllAuditLogs(Pageable pageable);
     Page<AuditLog> getAuditLogsByEntityType(String entityType, Pageable pageable);
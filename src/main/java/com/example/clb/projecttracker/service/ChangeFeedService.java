@@ -0,0 +1,26 @@
+package com.example.clb.projecttracker.service;
+
+import com.example.clb.projecttracker.dto.ChangeFeedDto;
+
+/**
+ * Incremental sync of tasks, projects and developers from the change log.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Returns up to {@code limit} changes recorded after {@code since}, each entity once with its current state.
+     * Without {@code since}, returns no changes and a token for the current end of the feed.
+     *
+     * @throws com.example.clb.projecttracker.exception.BadRequestException if the token or limit is invalid
+     * @throws com.example.clb.projecttracker.exception.ChangeFeedExpiredException if the token is older than the
+     *                                                                              change log retention
+     */
+    ChangeFeedDto getChanges(String since, int limit);
+
+    /**
+     * Deletes the change log rows older than the retention period.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteExpiredChanges();
+}
@@ -1,12 +1,15 @@
 package com.example.clb.projecttracker.service;
 
+import com.example.clb.projecttracker.dto.BatchItemDto;
 import com.example.clb.projecttracker.dto.DeveloperDto;
 import com.example.clb.projecttracker.dto.DeveloperRequestDto;
 import com.example.clb.projecttracker.dto.DeveloperPerformanceDto;
+import com.example.clb.projecttracker.repository.SparseFieldset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface DeveloperService {
 
@@ -14,8 +17,18 @@ public interface DeveloperService {
 
     DeveloperDto getDeveloperById(Long developerId);
 
+    /**
+     * Returns the developers with the given IDs in request order, with not-found entries for unknown IDs
+     */
+    List<BatchItemDto<DeveloperDto>> getDevelopersByIds(List<Long> developerIds);
+
     Page<DeveloperDto> getAllDevelopers(Pageable pageable);
 
+    /**
+     * Returns a page of developers with only the given comma-separated fields of {@link SparseFieldset#DEVELOPERS}
+     */
+    Page<Map<String, Object>> getAllDevelopers(String fields, Pageable pageable);
+
     List<DeveloperPerformanceDto> getTopDevelopersByCompletedTasks(int limit);
 
     DeveloperDto updateDeveloper(Long developerId, DeveloperRequestDto developerRequestDto);
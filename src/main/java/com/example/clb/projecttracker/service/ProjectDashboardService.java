@@ -0,0 +1,16 @@
+package com.example.clb.projecttracker.service;
+
+import com.example.clb.projecttracker.dto.ProjectDashboardDto;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Composite views built from the cached project and task queries.
+ */
+public interface ProjectDashboardService {
+
+    /**
+     * Returns the project, its summary, its task counts by status and a page of its task summaries, loaded in
+     * parallel. Parts that do not finish within the part timeout are left out rather than failing the whole view.
+     */
+    ProjectDashboardDto getProjectDashboard(Long projectId, Pageable taskPageable);
+}
@@ -1,12 +1,15 @@
 package com.example.clb.projecttracker.service;
 
+import com.example.clb.projecttracker.dto.BatchItemDto;
 import com.example.clb.projecttracker.dto.ProjectDto;
 import com.example.clb.projecttracker.dto.ProjectRequestDto;
 import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.repository.SparseFieldset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ProjectService {
 
@@ -14,7 +17,17 @@ public interface ProjectService {
 
     ProjectDto getProjectById(Long projectId);
 
+    /**
+     * Returns the projects with the given IDs in request order, with not-found entries for unknown IDs
+     */
+    List<BatchItemDto<ProjectDto>> getProjectsByIds(List<Long> projectIds);
+
     Page<ProjectDto> getAllProjects(Pageable pageable);
+
+    /**
+     * Returns a page of projects with only the given comma-separated fields of {@link SparseFieldset#PROJECTS}
+     */
+    Page<Map<String, Object>> getAllProjects(String fields, Pageable pageable);
     
     /**
      * Returns a paginated list of lightweight project summary DTOs 
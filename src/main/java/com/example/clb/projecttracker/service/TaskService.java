@@ -1,15 +1,21 @@
 package com.example.clb.projecttracker.service;
 
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.dto.BulkOperationResultDto;
 import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.dto.TaskPatchRequestDto;
 import com.example.clb.projecttracker.dto.TaskRequestDto;
 import com.example.clb.projecttracker.dto.TaskStatusCountDto;
 import com.example.clb.projecttracker.dto.TaskSummaryDto;
 import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.SparseFieldset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing tasks.
@@ -20,8 +26,19 @@ public interface TaskService {
 
     TaskDto getTaskById(Long taskId);
 
+    /**
+     * Returns the tasks with the given IDs in request order; IDs that do not exist or that the current user
+     * may not view come back as not found
+     */
+    List<BatchItemDto<TaskDto>> getTasksByIds(List<Long> taskIds);
+
     Page<TaskDto> getAllTasks(Pageable pageable);
 
+    /**
+     * Returns a page of tasks with only the given comma-separated fields of {@link SparseFieldset#TASKS}
+     */
+    Page<Map<String, Object>> getAllTasks(String fields, Pageable pageable);
+
     Page<TaskDto> getTasksByProjectId(Long projectId, Pageable pageable);
 
     Page<TaskDto> getTasksByDeveloperId(Long developerId, Pageable pageable);
@@ -34,12 +51,40 @@ public interface TaskService {
 
     TaskDto updateTask(Long taskId, TaskRequestDto taskRequestDto);
 
+    /**
+     * Applies only the non-null fields of the patch and writes only the changed columns.
+     * Fails with a conflict when the patch carries a version that no longer matches the task.
+     */
+    TaskDto patchTask(Long taskId, TaskPatchRequestDto patchRequestDto);
+
+    /**
+     * Sets the task status. The transition is idempotent, so it is retried on optimistic lock conflicts.
+     */
+    TaskDto updateTaskStatus(Long taskId, TaskStatus status);
+
     TaskDto assignTaskToDeveloper(Long taskId, Long developerId);
 
     TaskDto unassignTaskFromDeveloper(Long taskId);
 
     void deleteTask(Long taskId);
 
+    /**
+     * Creates all tasks in one transaction. Inserts are sent in JDBC batches and caches are evicted once.
+     */
+    List<TaskDto> createTasks(List<TaskRequestDto> taskRequestDtos);
+
+    /**
+     * Sets the status of every listed task. Unknown IDs are reported instead of failing the whole batch.
+     */
+    BulkOperationResultDto updateTaskStatuses(List<Long> taskIds, TaskStatus status);
+
+    /**
+     * Assigns every listed task to one developer. Unknown task IDs are reported instead of failing the whole batch.
+     */
+    BulkOperationResultDto assignTasksToDeveloper(List<Long> taskIds, Long developerId);
+
+    BulkOperationResultDto deleteTasks(List<Long> taskIds);
+
     Page<TaskDto> findTasksByDeveloper(Long developerId, Pageable pageable);
 
     List<TaskDto> findTasksByProjectId(Long projectId);
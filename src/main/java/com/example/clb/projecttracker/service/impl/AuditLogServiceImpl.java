@@ -1,7 +1,9 @@
 package com.example.clb.projecttracker.service.impl;
 
+import com.example.clb.projecttracker.config.AsyncConfig;
 import com.example.clb.projecttracker.document.AuditLog;
 import com.example.clb.projecttracker.document.enums.ActionType;
+import com.example.clb.projecttracker.profiling.AuditFlushEvent;
 import com.example.clb.projecttracker.repository.AuditLogRepository;
 import com.example.clb.projecttracker.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,9 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +24,7 @@ public class AuditLogServiceImpl implements AuditLogService {
     private final AuditLogRepository auditLogRepository;
 
     @Override
-    @Async // Make logging asynchronous to avoid impacting main transaction performance
+    @Async(AsyncConfig.AUDIT_LOG_EXECUTOR) // Make logging asynchronous to avoid impacting main transaction performance
     public void logAction(String entityType, Long entityId, ActionType actionType, String userId, String details) {
         AuditLog auditLog = AuditLog.builder()
                 .timestamp(LocalDateTime.now())
@@ -29,7 +34,50 @@ public class AuditLogServiceImpl implements AuditLogService {
                 .userId(userId) // In a real app, get this from SecurityContextHolder
                 .details(details)
                 .build();
-        auditLogRepository.save(auditLog);
+        AuditFlushEvent event = new AuditFlushEvent();
+        event.begin();
+        try {
+            auditLogRepository.save(auditLog);
+        } finally {
+            commit(event, entityType, actionType, 1);
+        }
+    }
+
+    @Override
+    @Async(AsyncConfig.AUDIT_LOG_EXECUTOR)
+    public void logActions(String entityType, Collection<Long> entityIds, ActionType actionType, String userId, String details) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditLog> auditLogs = entityIds.stream()
+                .map(entityId -> AuditLog.builder()
+                        .timestamp(now)
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .actionType(actionType)
+                        .userId(userId)
+                        .details(details)
+                        .build())
+                .collect(Collectors.toList());
+        // New documents are written with one insertMany instead of a round-trip per record
+        AuditFlushEvent event = new AuditFlushEvent();
+        event.begin();
+        try {
+            auditLogRepository.saveAll(auditLogs);
+        } finally {
+            commit(event, entityType, actionType, auditLogs.size());
+        }
+    }
+
+    private static void commit(AuditFlushEvent event, String entityType, ActionType actionType, int documents) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setEntityType(entityType);
+            event.setAction(actionType.name());
+            event.setDocuments(documents);
+            event.commit();
+        }
     }
 
     @Override
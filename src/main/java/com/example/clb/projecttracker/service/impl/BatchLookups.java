@@ -0,0 +1,49 @@
+package com.example.clb.projecttracker.service.impl;
+
+import com.example.clb.projecttracker.cache.InstrumentedCaffeineCache;
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.exception.BadRequestException;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Multi-get of the by-id caches: one bulk lookup for all requested IDs, and one loader call, hence one query,
+ * for the IDs that are not cached.
+ */
+final class BatchLookups {
+
+    private BatchLookups() {
+    }
+
+    static <T> Map<Long, T> getAll(CacheManager cacheManager, String cacheName, List<Long> ids,
+                                   Function<Set<Long>, Map<Long, T>> loader) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new BadRequestException("ids must list at least one ID");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > BatchItemDto.MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + BatchItemDto.MAX_BATCH_SIZE + " IDs per batch");
+        }
+        InstrumentedCaffeineCache cache = (InstrumentedCaffeineCache) cacheManager.getCache(cacheName);
+        return cache.getAll(distinctIds, loader);
+    }
+
+    /**
+     * The results in request order, repeated IDs included, with a not-found entry for each ID missing from
+     * {@code found}.
+     */
+    static <T> List<BatchItemDto<T>> inRequestOrder(List<Long> ids, Map<Long, T> found) {
+        List<BatchItemDto<T>> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T item = found.get(id);
+            items.add(new BatchItemDto<>(id, item != null, item));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.clb.projecttracker.service.impl;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.dto.ChangeDto;
+import com.example.clb.projecttracker.dto.ChangeFeedDto;
+import com.example.clb.projecttracker.exception.BadRequestException;
+import com.example.clb.projecttracker.exception.ChangeFeedExpiredException;
+import com.example.clb.projecttracker.model.ChangeLogEntry;
+import com.example.clb.projecttracker.model.enums.ChangeEntityType;
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import com.example.clb.projecttracker.repository.ChangeLogRepository;
+import com.example.clb.projecttracker.service.ChangeFeedService;
+import com.example.clb.projecttracker.service.DeveloperService;
+import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.service.TaskService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads the change log written by ChangeLogRecorder. Sequence numbers are taken right before commit, in commit
+ * order among writers of one collection, but a transaction writing another collection may still commit a number
+ * lower than one already visible. The feed therefore only hands out rows
+ * older than the settle time, and stops at the first younger one, so a token never moves past a change that
+ * was not visible yet.
+ * <p>
+ * A page lists each changed entity once, at its latest change, with its current state from the by-id caches.
+ * That state may already include later changes, which then come again on a following page; clients apply
+ * changes as upserts and deletes, so this is harmless.
+ * <p>
+ * Tokens are {@code <seq>.<issued at, epoch millis>}. A token is refused once rows after it may have been
+ * deleted by the retention cleanup.
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private record EntityKey(ChangeEntityType type, Long id) {
+    }
+
+    private record Token(long seq, long issuedAtMillis) {
+    }
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final DeveloperService developerService;
+    private final Duration settle;
+    private final Duration retention;
+
+    public ChangeFeedServiceImpl(ChangeLogRepository changeLogRepository, TaskService taskService,
+                                 ProjectService projectService, DeveloperService developerService,
+                                 AppProperties appProperties) {
+        this.changeLogRepository = changeLogRepository;
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.developerService = developerService;
+        this.settle = Duration.ofMillis(appProperties.getChangeFeed().getSettleMs());
+        this.retention = Duration.ofDays(appProperties.getChangeFeed().getRetentionDays());
+    }
+
+    @Override
+    public ChangeFeedDto getChanges(String since, int limit) {
+        if (limit < 1 || limit > ChangeFeedDto.MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + ChangeFeedDto.MAX_LIMIT);
+        }
+        Instant now = Instant.now();
+        LocalDateTime settledBefore = LocalDateTime.ofInstant(now.minus(settle), ZoneId.systemDefault());
+        if (since == null || since.isBlank()) {
+            long head = changeLogRepository.findFirstByChangedAtBeforeOrderBySeqDesc(settledBefore)
+                    .map(ChangeLogEntry::getSeq)
+                    .orElse(0L);
+            return new ChangeFeedDto(List.of(), format(head, now), false);
+        }
+
+        Token token = parse(since);
+        if (token.issuedAtMillis() < now.minus(retention).plus(settle).toEpochMilli()) {
+            throw new ChangeFeedExpiredException("The change token is older than the change log retention of "
+                    + retention.toDays() + " days. Reload the full lists and continue from a new token.");
+        }
+
+        List<ChangeLogEntry> rows = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(token.seq(),
+                Limit.of(limit + 1));
+        Map<EntityKey, ChangeLogEntry> latest = new LinkedHashMap<>();
+        long lastSeq = token.seq();
+        int read = 0;
+        for (ChangeLogEntry row : rows) {
+            if (read == limit || !row.getChangedAt().isBefore(settledBefore)) {
+                break;
+            }
+            EntityKey key = new EntityKey(row.getEntityType(), row.getEntityId());
+            // Re-inserted, so entities are listed in the order of their latest change
+            latest.remove(key);
+            latest.put(key, row);
+            lastSeq = row.getSeq();
+            read++;
+        }
+        boolean hasMore = read == limit && rows.size() > limit;
+        return new ChangeFeedDto(toChanges(latest.values()), format(lastSeq, now), hasMore);
+    }
+
+    private List<ChangeDto> toChanges(Iterable<ChangeLogEntry> rows) {
+        Map<ChangeEntityType, List<Long>> idsByType = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeLogEntry row : rows) {
+            if (row.getOperation() != ChangeOperation.DELETED) {
+                idsByType.computeIfAbsent(row.getEntityType(), type -> new ArrayList<>()).add(row.getEntityId());
+            }
+        }
+        Map<EntityKey, Object> states = new HashMap<>();
+        load(states, ChangeEntityType.TASK, idsByType, taskService::getTasksByIds);
+        load(states, ChangeEntityType.PROJECT, idsByType, projectService::getProjectsByIds);
+        load(states, ChangeEntityType.DEVELOPER, idsByType, developerService::getDevelopersByIds);
+
+        List<ChangeDto> changes = new ArrayList<>();
+        for (ChangeLogEntry row : rows) {
+            Object data = states.get(new EntityKey(row.getEntityType(), row.getEntityId()));
+            // Deleted since: sent as the tombstone that follows later in the feed
+            ChangeOperation operation = data == null ? ChangeOperation.DELETED : row.getOperation();
+            changes.add(new ChangeDto(row.getSeq(), row.getEntityType(), row.getEntityId(), operation, data));
+        }
+        return changes;
+    }
+
+    private static <T> void load(Map<EntityKey, Object> states, ChangeEntityType type,
+                                 Map<ChangeEntityType, List<Long>> idsByType,
+                                 Function<List<Long>, List<BatchItemDto<T>>> lookup) {
+        List<Long> ids = idsByType.get(type);
+        if (ids == null) {
+            return;
+        }
+        for (BatchItemDto<T> item : lookup.apply(ids)) {
+            if (item.isFound()) {
+                states.put(new EntityKey(type, item.getId()), item.getItem());
+            }
+        }
+    }
+
+    private static String format(long seq, Instant issuedAt) {
+        return seq + "." + issuedAt.toEpochMilli();
+    }
+
+    private static Token parse(String since) {
+        int dot = since.indexOf('.');
+        try {
+            if (dot > 0) {
+                Token token = new Token(Long.parseLong(since.substring(0, dot)),
+                        Long.parseLong(since.substring(dot + 1)));
+                if (token.seq() >= 0) {
+                    return token;
+                }
+            }
+        } catch (NumberFormatException ex) {
+            // Reported below
+        }
+        throw new BadRequestException("Invalid change token '" + since + "'");
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredChanges() {
+        return changeLogRepository.deleteChangedBefore(LocalDateTime.now().minus(retention));
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.clb.projecttracker.service.impl;
 
+import com.example.clb.projecttracker.cache.TaskCache;
 import com.example.clb.projecttracker.document.enums.ActionType;
+import com.example.clb.projecttracker.dto.BatchItemDto;
 import com.example.clb.projecttracker.dto.DeveloperDto;
 import com.example.clb.projecttracker.dto.DeveloperRequestDto;
 import com.example.clb.projecttracker.dto.DeveloperPerformanceDto;
 import com.example.clb.projecttracker.exception.DuplicateResourceException;
 import com.example.clb.projecttracker.exception.ResourceNotFoundException;
 import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Task;
 import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.SparseFieldset;
+import com.example.clb.projecttracker.repository.SparseFieldsetRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
 import com.example.clb.projecttracker.service.AuditLogService;
 import com.example.clb.projecttracker.service.DeveloperService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
@@ -22,6 +29,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +39,10 @@ public class DeveloperServiceImpl implements DeveloperService {
 
     private final DeveloperRepository developerRepository;
     private final AuditLogService auditLogService;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
+    private final CacheManager cacheManager;
+    private final TaskRepository taskRepository;
+    private final TaskCache taskCache;
 
     @Override
     @Transactional
@@ -47,16 +61,24 @@ public class DeveloperServiceImpl implements DeveloperService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "developers", key = "#developerId")
+    @Cacheable(value = "developers", key = "#developerId", sync = true)
     public DeveloperDto getDeveloperById(Long developerId) {
         Developer developer = developerRepository.findById(developerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", developerId));
         return mapToDto(developer);
     }
 
+    @Override
+    public List<BatchItemDto<DeveloperDto>> getDevelopersByIds(List<Long> developerIds) {
+        Map<Long, DeveloperDto> developers = BatchLookups.getAll(cacheManager, "developers", developerIds,
+                ids -> developerRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Developer::getId, this::mapToDto)));
+        return BatchLookups.inRequestOrder(developerIds, developers);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "developersPage") // Key will be generated based on Pageable
+    @Cacheable(value = "developersPage", sync = true) // Key will be generated based on Pageable
     public Page<DeveloperDto> getAllDevelopers(Pageable pageable) {
         Page<Developer> developers = developerRepository.findAll(pageable);
         return developers.map(this::mapToDto);
@@ -64,7 +86,14 @@ public class DeveloperServiceImpl implements DeveloperService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topDevelopers", key = "#limit")
+    public Page<Map<String, Object>> getAllDevelopers(String fields, Pageable pageable) {
+        List<String> selected = SparseFieldset.DEVELOPERS.select(fields, pageable.getSort());
+        return sparseFieldsetRepository.findAll(SparseFieldset.DEVELOPERS, selected, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "topDevelopers", key = "#limit", sync = true)
     public List<DeveloperPerformanceDto> getTopDevelopersByCompletedTasks(int limit) {
         if (limit <= 0) {
             return List.of(); // Or throw an IllegalArgumentException
@@ -92,11 +121,15 @@ public class DeveloperServiceImpl implements DeveloperService {
             }
         });
 
+        boolean renamed = !Objects.equals(developer.getName(), developerRequestDto.getName());
         developer.setName(developerRequestDto.getName());
         developer.setEmail(developerRequestDto.getEmail());
         developer.setSkills(developerRequestDto.getSkills());
 
-        Developer updatedDeveloper = developerRepository.save(developer);
+        Developer updatedDeveloper = developerRepository.saveAndFlush(developer);
+        if (renamed) {
+            taskCache.evictTasksReferencing("developer", taskRepository.findAllIdsByDeveloperId(developerId));
+        }
         // Log action
         auditLogService.logAction("Developer", updatedDeveloper.getId(), ActionType.UPDATED, "SYSTEM", "Developer updated: " + updatedDeveloper.getName());
         return mapToDto(updatedDeveloper);
@@ -116,6 +149,8 @@ public class DeveloperServiceImpl implements DeveloperService {
         // Disassociate tasks before deletion
         developer.getAssignedTasks().forEach(task -> task.setDeveloper(null));
         developerRepository.save(developer); // Save changes to tasks (disassociation)
+        taskCache.evictTasks(developer.getAssignedTasks().stream().map(Task::getId).toList());
+        taskCache.evictPagesChangedBy(List.of("developer"), List.of(), List.of(developerId));
 
         // Log action before deletion
         auditLogService.logAction("Developer", developerId, ActionType.DELETED, "SYSTEM", "Developer deleted: " + developer.getName());
@@ -129,6 +164,7 @@ public class DeveloperServiceImpl implements DeveloperService {
         dto.setName(developer.getName());
         dto.setEmail(developer.getEmail());
         dto.setSkills(developer.getSkills());
+        dto.setVersion(developer.getVersion());
         return dto;
     }
 
@@ -1,5 +1,6 @@
 package com.example.clb.projecttracker.service.impl;
 
+import com.example.clb.projecttracker.config.AsyncConfig;
 import com.example.clb.projecttracker.service.EmailService;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -27,7 +28,7 @@ public class EmailServiceImpl implements EmailService {
     private String subjectPrefix;
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendSimpleMessage(String to, String subject, String body) {
         try {
             SimpleMailMessage message = new SimpleMailMessage();
@@ -43,7 +44,7 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendHtmlMessage(String to, String subject, String htmlBody) {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         try {
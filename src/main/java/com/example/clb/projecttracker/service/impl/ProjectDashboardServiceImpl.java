@@ -0,0 +1,113 @@
+package com.example.clb.projecttracker.service.impl;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.config.AsyncConfig;
+import com.example.clb.projecttracker.dto.ProjectDashboardDto;
+import com.example.clb.projecttracker.exception.ResourceNotFoundException;
+import com.example.clb.projecttracker.service.ProjectDashboardService;
+import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Fans the parts of a dashboard out to the dashboard executor and waits for them against one deadline, so the
+ * response takes as long as the slowest part, at most the part timeout. The parts call the same cached service
+ * methods as the single endpoints, so a warm dashboard is four cache hits.
+ * <p>
+ * Reports {@code project.dashboard.parts{part, outcome=ok|timeout|rejected|error}}.
+ */
+@Service
+@Slf4j
+public class ProjectDashboardServiceImpl implements ProjectDashboardService {
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final Executor executor;
+    private final long partTimeoutNanos;
+    private final MeterRegistry meterRegistry;
+
+    public ProjectDashboardServiceImpl(ProjectService projectService, TaskService taskService,
+                                       @Qualifier(AsyncConfig.DASHBOARD_EXECUTOR) Executor executor,
+                                       AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.executor = executor;
+        this.partTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(appProperties.getDashboard().getPartTimeoutMs());
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Part<T>(String name, CompletableFuture<T> result, BiConsumer<ProjectDashboardDto, T> setter) {
+    }
+
+    @Override
+    public ProjectDashboardDto getProjectDashboard(Long projectId, Pageable taskPageable) {
+        long deadline = System.nanoTime() + partTimeoutNanos;
+        List<Part<?>> parts = List.of(
+                start("project", () -> projectService.getProjectById(projectId), ProjectDashboardDto::setProject),
+                start("summary", () -> projectService.getProjectSummary(projectId), ProjectDashboardDto::setSummary),
+                start("statusCounts", () -> taskService.getTaskCountsByStatusForProject(projectId),
+                        ProjectDashboardDto::setStatusCounts),
+                start("tasks", () -> taskService.getTaskSummariesByProjectId(projectId, taskPageable),
+                        ProjectDashboardDto::setTasks));
+
+        ProjectDashboardDto dashboard = new ProjectDashboardDto();
+        for (Part<?> part : parts) {
+            collect(part, dashboard, deadline);
+        }
+        return dashboard;
+    }
+
+    private <T> Part<T> start(String name, Supplier<T> loader, BiConsumer<ProjectDashboardDto, T> setter) {
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(loader, executor);
+        } catch (RejectedExecutionException ex) {
+            result = CompletableFuture.failedFuture(ex);
+        }
+        return new Part<>(name, result, setter);
+    }
+
+    private <T> void collect(Part<T> part, ProjectDashboardDto dashboard, long deadline) {
+        String outcome;
+        try {
+            T value = part.result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            part.setter().accept(dashboard, value);
+            outcome = "ok";
+        } catch (TimeoutException ex) {
+            // Still runs to completion, and fills the caches for the next request
+            outcome = "timeout";
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            outcome = "error";
+        } catch (ExecutionException ex) {
+            // Every part looks the project up: a missing project is a 404, not a partial dashboard
+            if (ex.getCause() instanceof ResourceNotFoundException notFound) {
+                throw notFound;
+            }
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                outcome = "rejected";
+            } else {
+                log.warn("Dashboard part {} failed", part.name(), ex.getCause());
+                outcome = "error";
+            }
+        }
+        if (!"ok".equals(outcome)) {
+            dashboard.getMissingParts().put(part.name(), outcome);
+        }
+        meterRegistry.counter("project.dashboard.parts", "part", part.name(), "outcome", outcome).increment();
+    }
+}
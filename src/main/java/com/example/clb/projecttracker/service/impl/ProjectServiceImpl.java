@@ -1,6 +1,8 @@
 package com.example.clb.projecttracker.service.impl;
 
+import com.example.clb.projecttracker.cache.TaskCache;
 import com.example.clb.projecttracker.document.enums.ActionType;
+import com.example.clb.projecttracker.dto.BatchItemDto;
 import com.example.clb.projecttracker.dto.ProjectDto;
 import com.example.clb.projecttracker.dto.ProjectRequestDto;
 import com.example.clb.projecttracker.dto.ProjectSummaryDto;
@@ -8,7 +10,10 @@ import com.example.clb.projecttracker.exception.DuplicateResourceException;
 import com.example.clb.projecttracker.exception.ResourceNotFoundException;
 import com.example.clb.projecttracker.mapper.ProjectMapper;
 import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
 import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.SparseFieldset;
+import com.example.clb.projecttracker.repository.SparseFieldsetRepository;
 import com.example.clb.projecttracker.repository.TaskRepository;
 import com.example.clb.projecttracker.service.AuditLogService;
 import com.example.clb.projecttracker.service.ProjectService;
@@ -16,6 +21,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
@@ -28,6 +34,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +48,9 @@ public class ProjectServiceImpl implements ProjectService {
     private final AuditLogService auditLogService;
     private final ProjectMapper projectMapper;
     private final MeterRegistry meterRegistry;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
+    private final CacheManager cacheManager;
+    private final TaskCache taskCache;
 
     @Override
     @Transactional
@@ -67,7 +78,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projects", key = "#projectId")
+    @Cacheable(value = "projects", key = "#projectId", sync = true)
     public ProjectDto getProjectById(Long projectId) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
@@ -81,9 +92,17 @@ public class ProjectServiceImpl implements ProjectService {
         }
     }
 
+    @Override
+    public List<BatchItemDto<ProjectDto>> getProjectsByIds(List<Long> projectIds) {
+        Map<Long, ProjectDto> projects = BatchLookups.getAll(cacheManager, "projects", projectIds,
+                ids -> projectRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Project::getId, projectMapper::toDto)));
+        return BatchLookups.inRequestOrder(projectIds, projects);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectSummary", key = "#projectId")
+    @Cacheable(value = "projectSummary", key = "#projectId", sync = true)
     public ProjectSummaryDto getProjectSummary(Long projectId) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
@@ -105,7 +124,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectsPage") // Key will be generated based on Pageable
+    @Cacheable(value = "projectsPage", sync = true) // Key will be generated based on Pageable
     public Page<ProjectDto> getAllProjects(Pageable pageable) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
@@ -117,10 +136,17 @@ public class ProjectServiceImpl implements ProjectService {
             sample.stop(meterRegistry.timer("service.project.getAllProjects"));
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProjects(String fields, Pageable pageable) {
+        List<String> selected = SparseFieldset.PROJECTS.select(fields, pageable.getSort());
+        return sparseFieldsetRepository.findAll(SparseFieldset.PROJECTS, selected, pageable);
+    }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectSummariesPage") 
+    @Cacheable(value = "projectSummariesPage", sync = true) 
     public Page<ProjectSummaryDto> getAllProjectSummaries(Pageable pageable) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
@@ -140,21 +166,22 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable("projectsWithNoTasksPage")
+    @Cacheable(value = "projectsWithNoTasksPage", sync = true)
     public Page<ProjectDto> getProjectsWithNoTasks(Pageable pageable) {
         return projectRepository.findProjectsWithNoTasks(pageable).map(projectMapper::toDto);
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable("recentProjects") 
+    @Cacheable(value = "recentProjects", sync = true) 
     public List<ProjectSummaryDto> getRecentProjects(int limit) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
         try {
             log.debug("Getting {} recent projects", limit);
+            // Projects have no modification timestamp; ids are handed out in creation order
             List<Project> projects = projectRepository.findAll(
-                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "updatedAt"))
+                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id"))
             ).getContent();
             
             return projects.stream().map(project -> {
@@ -185,7 +212,8 @@ public class ProjectServiceImpl implements ProjectService {
                     .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
     
             // Check for name conflict if name is being changed
-            if (projectRequestDto.getName() != null && !projectRequestDto.getName().equals(project.getName())) {
+            boolean renamed = projectRequestDto.getName() != null && !projectRequestDto.getName().equals(project.getName());
+            if (renamed) {
                 projectRepository.findByName(projectRequestDto.getName()).ifPresent(p -> {
                     if (!p.getId().equals(projectId)) {
                         throw new DuplicateResourceException("Project", "name", projectRequestDto.getName());
@@ -196,7 +224,10 @@ public class ProjectServiceImpl implements ProjectService {
             // Use the mapper to update entity fields from DTO
             projectMapper.updateEntityFromDto(projectRequestDto, project);
             
-            Project updatedProject = projectRepository.save(project);
+            Project updatedProject = projectRepository.saveAndFlush(project);
+            if (renamed) {
+                taskCache.evictTasksReferencing("project", taskRepository.findAllIdsByProjectId(projectId));
+            }
             
             // Log action
             auditLogService.logAction("Project", updatedProject.getId(), ActionType.UPDATED, "SYSTEM", 
@@ -213,7 +244,9 @@ public class ProjectServiceImpl implements ProjectService {
     @Caching(evict = {
         @CacheEvict(value = "projects", key = "#projectId"),
         @CacheEvict(value = {"projectsPage", "projectSummariesPage", "projectSummary", "recentProjects", 
-                            "projectsWithNoTasksPage"}, allEntries = true)
+                            "projectsWithNoTasksPage"}, allEntries = true),
+        @CacheEvict(value = "taskStatusCountsByProject", key = "#projectId"),
+        @CacheEvict(value = {"taskStatusCountsOverall", "topDevelopers"}, allEntries = true)
     })
     public void deleteProject(Long projectId) {
         Timer.Sample sample = Timer.start(meterRegistry);
@@ -222,7 +255,15 @@ public class ProjectServiceImpl implements ProjectService {
             Project project = projectRepository.findById(projectId)
                     .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
                     
+            // The tasks go with the project (cascade): drop their DTOs and every page listing them
+            List<Long> taskIds = project.getTasks().stream().map(Task::getId).toList();
+            Set<Long> developerIds = project.getTasks().stream()
+                    .filter(task -> task.getDeveloper() != null)
+                    .map(task -> task.getDeveloper().getId())
+                    .collect(Collectors.toSet());
             projectRepository.delete(project);
+            taskCache.evictTasks(taskIds);
+            taskCache.evictPagesContaining(List.of(projectId), developerIds);
             
             // Log action
             auditLogService.logAction("Project", projectId, ActionType.DELETED, "SYSTEM", 
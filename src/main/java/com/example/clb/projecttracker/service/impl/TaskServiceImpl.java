@@ -1,10 +1,17 @@
 package com.example.clb.projecttracker.service.impl;
 
+import com.example.clb.projecttracker.cache.PagePrefetcher;
+import com.example.clb.projecttracker.cache.TaskCache;
+import com.example.clb.projecttracker.cache.TaskCache.PageQuery;
 import com.example.clb.projecttracker.document.enums.ActionType;
+import com.example.clb.projecttracker.dto.BatchItemDto;
+import com.example.clb.projecttracker.dto.BulkOperationResultDto;
 import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.dto.TaskPatchRequestDto;
 import com.example.clb.projecttracker.dto.TaskRequestDto;
 import com.example.clb.projecttracker.dto.TaskStatusCountDto;
 import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.exception.BadRequestException;
 import com.example.clb.projecttracker.exception.ResourceNotFoundException;
 import com.example.clb.projecttracker.mapper.TaskMapper;
 import com.example.clb.projecttracker.model.Developer;
@@ -13,48 +20,68 @@ import com.example.clb.projecttracker.model.Task;
 import com.example.clb.projecttracker.model.enums.TaskStatus;
 import com.example.clb.projecttracker.repository.DeveloperRepository;
 import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.SparseFieldset;
+import com.example.clb.projecttracker.repository.SparseFieldsetRepository;
 import com.example.clb.projecttracker.repository.TaskRepository;
 import com.example.clb.projecttracker.service.AuditLogService;
 import com.example.clb.projecttracker.service.TaskService;
 import com.example.clb.projecttracker.security.SecurityUtil;
+import com.example.clb.projecttracker.security.TaskSecurityService;
 import com.example.clb.projecttracker.security.UserPrincipal;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final DeveloperRepository developerRepository;
     private final AuditLogService auditLogService;
     private final TaskMapper taskMapper;
     private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskCache taskCache;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
+    private final CacheManager cacheManager;
+    private final TaskSecurityService taskSecurityService;
+    private final PagePrefetcher pagePrefetcher;
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "tasksPage", allEntries = true),
-        @CacheEvict(value = "tasksByProjectPages", allEntries = true),
-        @CacheEvict(value = "tasksByDeveloperPages", allEntries = true)
-    })
+    @CachePut(value = TaskCache.TASKS, key = "#result.id")
     public TaskDto createTask(TaskRequestDto taskRequestDto) {
         Project project = projectRepository.findById(taskRequestDto.getProjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", taskRequestDto.getProjectId()));
@@ -70,43 +97,51 @@ public class TaskServiceImpl implements TaskService {
         String developerName = developer != null ? developer.getName() : "Unassigned";
         auditLogService.logAction("Task", savedTask.getId(), ActionType.CREATED, "SYSTEM",
                 String.format("Task created: '%s' for Project '%s', Assigned to: '%s'", savedTask.getTitle(), project.getName(), developerName));
+        taskCache.evictPagesContaining(Set.of(project.getId()), ids(taskRequestDto.getDeveloperId()));
         return mapToDto(savedTask);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "#taskId")
+    @Cacheable(value = TaskCache.TASKS, key = "#taskId", sync = true)
     public TaskDto getTaskById(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         return mapToDto(task);
     }
 
+    // No transaction either: when every task is cached, the batch is served without a connection
+    @Override
+    public List<BatchItemDto<TaskDto>> getTasksByIds(List<Long> taskIds) {
+        Map<Long, TaskDto> tasks = BatchLookups.getAll(cacheManager, TaskCache.TASKS, taskIds, this::loadTaskDtos);
+        return BatchLookups.inRequestOrder(taskIds, taskSecurityService.filterViewableTasks(tasks));
+    }
+
+    // Cached pages are assembled from TaskCache without a transaction, so a full hit never takes a connection
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable("tasksPage")
     public Page<TaskDto> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable).map(this::mapToDto);
+        return taskCache.getPage(PageQuery.ALL, null, pageable,
+                () -> taskRepository.findAllIds(pageable), this::loadTaskDtos, Function.identity());
     }
 
+    // Projections bypass the task cache: each field combination would be its own entry
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasksByProjectPages", key = "#projectId")
+    public Page<Map<String, Object>> getAllTasks(String fields, Pageable pageable) {
+        List<String> selected = SparseFieldset.TASKS.select(fields, pageable.getSort());
+        return sparseFieldsetRepository.findAll(SparseFieldset.TASKS, selected, pageable);
+    }
+
+    @Override
     public Page<TaskDto> getTasksByProjectId(Long projectId, Pageable pageable) {
-        if (!projectRepository.existsById(projectId)) {
-            throw new ResourceNotFoundException("Project", "id", projectId);
-        }
-        return taskRepository.findByProjectId(projectId, pageable).map(this::mapToDto);
+        return taskCache.getPage(PageQuery.PROJECT, projectId, pageable,
+                () -> findTaskIdsByProjectId(projectId, pageable), this::loadTaskDtos, Function.identity());
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "tasksByDeveloperPages", key = "#developerId")
     public Page<TaskDto> getTasksByDeveloperId(Long developerId, Pageable pageable) {
-        if (!developerRepository.existsById(developerId)) {
-            throw new ResourceNotFoundException("Developer", "id", developerId);
-        }
-        return taskRepository.findByDeveloperId(developerId, pageable).map(this::mapToDto);
+        return taskCache.getPage(PageQuery.DEVELOPER, developerId, pageable,
+                () -> findTaskIdsByDeveloperId(developerId, pageable), this::loadTaskDtos, Function.identity());
     }
 
     @Override
@@ -119,15 +154,14 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable("overdueTasksPage")
     public Page<TaskDto> getOverdueTasks(Pageable pageable) {
-        return taskRepository.findOverdueTasks(pageable).map(this::mapToDto);
+        return taskCache.getPage(PageQuery.OVERDUE, null, pageable,
+                () -> taskRepository.findOverdueTaskIds(pageable), this::loadTaskDtos, Function.identity());
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "taskStatusCountsByProject", key = "#projectId")
+    @Cacheable(value = "taskStatusCountsByProject", key = "#projectId", sync = true)
     public List<TaskStatusCountDto> getTaskCountsByStatusForProject(Long projectId) {
         if (!projectRepository.existsById(projectId)) {
             throw new ResourceNotFoundException("Project", "id", projectId);
@@ -137,7 +171,7 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable("taskStatusCountsOverall")
+    @Cacheable(value = "taskStatusCountsOverall", sync = true)
     public List<TaskStatusCountDto> getTaskCountsByStatusOverall() {
         return taskRepository.countTasksByStatusOverall();
     }
@@ -145,12 +179,8 @@ public class TaskServiceImpl implements TaskService {
     @Override
     @Transactional
     @Caching(put = {
-        @CachePut(value = "tasks", key = "#taskId")
+        @CachePut(value = TaskCache.TASKS, key = "#taskId")
     }, evict = {
-        @CacheEvict(value = "tasksPage", allEntries = true),
-        @CacheEvict(value = "tasksByProjectPages", allEntries = true),
-        @CacheEvict(value = "tasksByDeveloperPages", allEntries = true),
-        @CacheEvict(value = "overdueTasksPage", allEntries = true),
         @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
         @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
     })
@@ -167,6 +197,28 @@ public class TaskServiceImpl implements TaskService {
                     .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", taskRequestDto.getDeveloperId()));
         }
 
+        Long previousProjectId = task.getProject().getId();
+        Long previousDeveloperId = developerIdOf(task);
+        List<String> changedFields = new ArrayList<>();
+        if (!Objects.equals(task.getTitle(), taskRequestDto.getTitle())) {
+            changedFields.add("title");
+        }
+        if (!Objects.equals(task.getDescription(), taskRequestDto.getDescription())) {
+            changedFields.add("description");
+        }
+        if (task.getStatus() != taskRequestDto.getStatus()) {
+            changedFields.add("status");
+        }
+        if (!Objects.equals(task.getDueDate(), taskRequestDto.getDueDate())) {
+            changedFields.add("dueDate");
+        }
+        if (!Objects.equals(previousProjectId, project.getId())) {
+            changedFields.add("project");
+        }
+        if (!Objects.equals(previousDeveloperId, taskRequestDto.getDeveloperId())) {
+            changedFields.add("developer");
+        }
+
         task.setTitle(taskRequestDto.getTitle());
         task.setDescription(taskRequestDto.getDescription());
         task.setStatus(taskRequestDto.getStatus());
@@ -174,45 +226,132 @@ public class TaskServiceImpl implements TaskService {
         task.setProject(project);
         task.setDeveloper(developer);
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
         auditLogService.logAction("Task", updatedTask.getId(), ActionType.UPDATED, "SYSTEM", "Task updated: " + updatedTask.getTitle());
+        taskCache.evictPagesChangedBy(changedFields, ids(previousProjectId, project.getId()),
+                ids(previousDeveloperId, taskRequestDto.getDeveloperId()));
         return mapToDto(updatedTask);
     }
 
     @Override
     @Transactional
     @Caching(put = {
-        @CachePut(value = "tasks", key = "#taskId")
+        @CachePut(value = TaskCache.TASKS, key = "#taskId")
     }, evict = {
-        @CacheEvict(value = "tasksPage", allEntries = true),
-        @CacheEvict(value = "tasksByProjectPages", allEntries = true),
-        @CacheEvict(value = "tasksByDeveloperPages", allEntries = true),
-        @CacheEvict(value = "overdueTasksPage", allEntries = true),
-        @CacheEvict(value = "taskStatusCountsByProject", key = "#result.project.id", condition="#result != null && #result.project != null"),
+        @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
         @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
     })
-    public TaskDto assignTaskToDeveloper(Long taskId, Long developerId) {
+    public TaskDto patchTask(Long taskId, TaskPatchRequestDto patchRequestDto) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
-        Developer developer = developerRepository.findById(developerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", developerId));
 
-        task.setDeveloper(developer);
-        Task updatedTask = taskRepository.save(task);
-        auditLogService.logAction("Task", updatedTask.getId(), ActionType.ASSIGNED, "SYSTEM",
-                String.format("Task '%s' assigned to developer '%s'", updatedTask.getTitle(), developer.getName()));
+        if (patchRequestDto.getVersion() != null && !patchRequestDto.getVersion().equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, taskId);
+        }
+
+        Long previousProjectId = task.getProject().getId();
+        Long previousDeveloperId = developerIdOf(task);
+        List<String> changedFields = new ArrayList<>();
+        if (patchRequestDto.getTitle() != null && !patchRequestDto.getTitle().equals(task.getTitle())) {
+            task.setTitle(patchRequestDto.getTitle());
+            changedFields.add("title");
+        }
+        if (patchRequestDto.getDescription() != null && !patchRequestDto.getDescription().equals(task.getDescription())) {
+            task.setDescription(patchRequestDto.getDescription());
+            changedFields.add("description");
+        }
+        if (patchRequestDto.getStatus() != null && patchRequestDto.getStatus() != task.getStatus()) {
+            task.setStatus(patchRequestDto.getStatus());
+            changedFields.add("status");
+        }
+        if (patchRequestDto.getDueDate() != null && !patchRequestDto.getDueDate().equals(task.getDueDate())) {
+            task.setDueDate(patchRequestDto.getDueDate());
+            changedFields.add("dueDate");
+        }
+        if (patchRequestDto.getProjectId() != null && !patchRequestDto.getProjectId().equals(task.getProject().getId())) {
+            Project project = projectRepository.findById(patchRequestDto.getProjectId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", patchRequestDto.getProjectId()));
+            task.setProject(project);
+            changedFields.add("project");
+        }
+        if (patchRequestDto.getDeveloperId() != null
+                && (task.getDeveloper() == null || !patchRequestDto.getDeveloperId().equals(task.getDeveloper().getId()))) {
+            Developer developer = developerRepository.findById(patchRequestDto.getDeveloperId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", patchRequestDto.getDeveloperId()));
+            task.setDeveloper(developer);
+            changedFields.add("developer");
+        }
+
+        if (changedFields.isEmpty()) {
+            return mapToDto(task);
+        }
+
+        // Flush inside the transaction so the version check runs here and the returned DTO carries the new version
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        auditLogService.logAction("Task", updatedTask.getId(), ActionType.UPDATED, "SYSTEM",
+                String.format("Task '%s' patched: %s", updatedTask.getTitle(), String.join(", ", changedFields)));
+        taskCache.evictPagesChangedBy(changedFields, ids(previousProjectId, updatedTask.getProject().getId()),
+                ids(previousDeveloperId, developerIdOf(updatedTask)));
         return mapToDto(updatedTask);
     }
 
+    @Override
+    @Caching(put = {
+        @CachePut(value = TaskCache.TASKS, key = "#taskId")
+    }, evict = {
+        @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
+        @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
+    })
+    public TaskDto updateTaskStatus(Long taskId, TaskStatus status) {
+        return retryOnConflict(() -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+            if (task.getStatus() == status) {
+                return mapToDto(task);
+            }
+            TaskStatus previousStatus = task.getStatus();
+            task.setStatus(status);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            auditLogService.logAction("Task", updatedTask.getId(), ActionType.UPDATED, "SYSTEM",
+                    String.format("Task '%s' status changed from %s to %s", updatedTask.getTitle(), previousStatus, status));
+            taskCache.evictPagesChangedBy(List.of("status"), Set.of(), Set.of());
+            return mapToDto(updatedTask);
+        });
+    }
+
+    @Override
+    @Caching(put = {
+        @CachePut(value = TaskCache.TASKS, key = "#taskId")
+    }, evict = {
+        @CacheEvict(value = "taskStatusCountsByProject", key = "#result.project.id", condition="#result != null && #result.project != null"),
+        @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
+    })
+    public TaskDto assignTaskToDeveloper(Long taskId, Long developerId) {
+        // Assigning to a given developer is idempotent, so a concurrent write is simply retried
+        return retryOnConflict(() -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+            Developer developer = developerRepository.findById(developerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", developerId));
+            if (task.getDeveloper() != null && Objects.equals(task.getDeveloper().getId(), developerId)) {
+                return mapToDto(task);
+            }
+
+            Long previousDeveloperId = developerIdOf(task);
+            task.setDeveloper(developer);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            auditLogService.logAction("Task", updatedTask.getId(), ActionType.ASSIGNED, "SYSTEM",
+                    String.format("Task '%s' assigned to developer '%s'", updatedTask.getTitle(), developer.getName()));
+            taskCache.evictPagesChangedBy(List.of("developer"), Set.of(), ids(previousDeveloperId, developerId));
+            return mapToDto(updatedTask);
+        });
+    }
+
     @Override
     @Transactional
     @Caching(put = {
-        @CachePut(value = "tasks", key = "#taskId")
+        @CachePut(value = TaskCache.TASKS, key = "#taskId")
     }, evict = {
-        @CacheEvict(value = "tasksPage", allEntries = true),
-        @CacheEvict(value = "tasksByProjectPages", allEntries = true),
-        @CacheEvict(value = "tasksByDeveloperPages", allEntries = true),
-        @CacheEvict(value = "overdueTasksPage", allEntries = true),
         @CacheEvict(value = "taskStatusCountsByProject", key = "#result.project.id", condition="#result != null && #result.project != null"),
         @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
     })
@@ -221,21 +360,19 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
 
         String oldDeveloperName = task.getDeveloper() != null ? task.getDeveloper().getName() : "N/A";
+        Long previousDeveloperId = developerIdOf(task);
         task.setDeveloper(null);
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
         auditLogService.logAction("Task", updatedTask.getId(), ActionType.UNASSIGNED, "SYSTEM",
                 String.format("Task '%s' unassigned from developer '%s'", updatedTask.getTitle(), oldDeveloperName));
+        taskCache.evictPagesChangedBy(List.of("developer"), Set.of(), ids(previousDeveloperId));
         return mapToDto(updatedTask);
     }
 
     @Override
     @Transactional
     @Caching(evict = {
-        @CacheEvict(value = "tasks", key = "#taskId"),
-        @CacheEvict(value = "tasksPage", allEntries = true),
-        @CacheEvict(value = "tasksByProjectPages", allEntries = true),
-        @CacheEvict(value = "tasksByDeveloperPages", allEntries = true),
-        @CacheEvict(value = "overdueTasksPage", allEntries = true),
+        @CacheEvict(value = TaskCache.TASKS, key = "#taskId"),
         @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
         @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
     })
@@ -244,6 +381,139 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         auditLogService.logAction("Task", taskId, ActionType.DELETED, "SYSTEM", "Task deleted: " + task.getTitle());
         taskRepository.deleteById(taskId);
+        taskCache.evictPagesContaining(Set.of(task.getProject().getId()), ids(developerIdOf(task)));
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
+        @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
+    })
+    public List<TaskDto> createTasks(List<TaskRequestDto> taskRequestDtos) {
+        // One lookup per referenced table instead of one per task
+        Set<Long> projectIds = taskRequestDtos.stream()
+                .map(TaskRequestDto::getProjectId)
+                .collect(Collectors.toSet());
+        Set<Long> developerIds = taskRequestDtos.stream()
+                .map(TaskRequestDto::getDeveloperId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<Long, Developer> developers = developerIds.isEmpty() ? Map.of()
+                : developerRepository.findAllById(developerIds).stream()
+                        .collect(Collectors.toMap(Developer::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(taskRequestDtos.size());
+        for (TaskRequestDto dto : taskRequestDtos) {
+            Project project = projects.get(dto.getProjectId());
+            if (project == null) {
+                throw new ResourceNotFoundException("Project", "id", dto.getProjectId());
+            }
+            Developer developer = null;
+            if (dto.getDeveloperId() != null) {
+                developer = developers.get(dto.getDeveloperId());
+                if (developer == null) {
+                    throw new ResourceNotFoundException("Developer", "id", dto.getDeveloperId());
+                }
+            }
+            tasks.add(mapToEntity(dto, project, developer));
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        // Ids come from the pooled sequence, so the inserts are only sent here, in JDBC batches
+        taskRepository.flush();
+
+        List<Long> taskIds = savedTasks.stream().map(Task::getId).collect(Collectors.toList());
+        auditLogService.logActions("Task", taskIds, ActionType.CREATED, "SYSTEM",
+                String.format("Task created in bulk (%d tasks)", taskIds.size()));
+        taskCache.evictPagesContaining(projectIds, developerIds);
+        return savedTasks.stream().map(this::mapToDto).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
+        @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
+    })
+    public BulkOperationResultDto updateTaskStatuses(List<Long> taskIds, TaskStatus status) {
+        if (status == null) {
+            throw new BadRequestException("A status is required for a bulk status change");
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(taskIds);
+        List<Task> tasks = taskRepository.findAllById(requestedIds);
+
+        List<Long> changedIds = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.getStatus() != status) {
+                task.setStatus(status);
+                changedIds.add(task.getId());
+            }
+        }
+        // One version-checked UPDATE per changed task, not a JDBC batch: Hibernate does not batch @DynamicUpdate
+        // entities. A version conflict on any row rolls back the whole batch
+        taskRepository.flush();
+
+        auditLogService.logActions("Task", changedIds, ActionType.UPDATED, "SYSTEM",
+                String.format("Task status changed to %s in bulk (%d tasks)", status, changedIds.size()));
+        taskCache.evictTasks(changedIds);
+        taskCache.evictPagesChangedBy(List.of("status"), Set.of(), Set.of());
+        return new BulkOperationResultDto(requestedIds.size(), changedIds.size(), missingIds(requestedIds, tasks));
+    }
+
+    @Override
+    @Transactional
+    public BulkOperationResultDto assignTasksToDeveloper(List<Long> taskIds, Long developerId) {
+        if (developerId == null) {
+            throw new BadRequestException("A developer ID is required for a bulk reassignment");
+        }
+        Developer developer = developerRepository.findById(developerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Developer", "id", developerId));
+        Set<Long> requestedIds = new LinkedHashSet<>(taskIds);
+        List<Task> tasks = taskRepository.findAllById(requestedIds);
+
+        List<Long> changedIds = new ArrayList<>();
+        Set<Long> affectedDeveloperIds = new HashSet<>(Set.of(developerId));
+        for (Task task : tasks) {
+            if (task.getDeveloper() == null || !Objects.equals(task.getDeveloper().getId(), developerId)) {
+                affectedDeveloperIds.addAll(ids(developerIdOf(task)));
+                task.setDeveloper(developer);
+                changedIds.add(task.getId());
+            }
+        }
+        taskRepository.flush();
+
+        auditLogService.logActions("Task", changedIds, ActionType.ASSIGNED, "SYSTEM",
+                String.format("Task assigned to developer '%s' in bulk (%d tasks)", developer.getName(), changedIds.size()));
+        taskCache.evictTasks(changedIds);
+        taskCache.evictPagesChangedBy(List.of("developer"), Set.of(), affectedDeveloperIds);
+        return new BulkOperationResultDto(requestedIds.size(), changedIds.size(), missingIds(requestedIds, tasks));
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "taskStatusCountsByProject", allEntries = true),
+        @CacheEvict(value = "taskStatusCountsOverall", allEntries = true)
+    })
+    public BulkOperationResultDto deleteTasks(List<Long> taskIds) {
+        Set<Long> requestedIds = new LinkedHashSet<>(taskIds);
+        List<Task> tasks = taskRepository.findAllById(requestedIds);
+        List<Long> deletedIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+
+        // Entity removal (not a JPQL bulk delete) keeps version checks and entity listeners; the DELETEs are batched
+        taskRepository.deleteAll(tasks);
+        taskRepository.flush();
+
+        auditLogService.logActions("Task", deletedIds, ActionType.DELETED, "SYSTEM",
+                String.format("Task deleted in bulk (%d tasks)", deletedIds.size()));
+        taskCache.evictTasks(deletedIds);
+        taskCache.evictPagesContaining(
+                tasks.stream().map(task -> task.getProject().getId()).collect(Collectors.toSet()),
+                tasks.stream().map(this::developerIdOf).filter(Objects::nonNull).collect(Collectors.toSet()));
+        return new BulkOperationResultDto(requestedIds.size(), deletedIds.size(), missingIds(requestedIds, tasks));
     }
 
     @Override
@@ -289,56 +559,98 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable("taskSummariesPage")
     public Page<TaskSummaryDto> getAllTaskSummaries(Pageable pageable) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
         try {
             log.debug("Getting all task summaries with pagination: {}", pageable);
-            Page<Task> tasks = taskRepository.findAll(pageable);
-            return tasks.map(taskMapper::toSummaryDto);
+            return taskCache.getPage(PageQuery.ALL, null, pageable,
+                    () -> taskRepository.findAllIds(pageable), this::loadTaskDtos, taskMapper::toSummaryDto);
         } finally {
             sample.stop(meterRegistry.timer("service.task.getAllSummaries"));
         }
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "taskSummariesByProjectPages", key = "#projectId")
     public Page<TaskSummaryDto> getTaskSummariesByProjectId(Long projectId, Pageable pageable) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
         try {
             log.debug("Getting task summaries for project ID {}: {}", projectId, pageable);
-            if (!projectRepository.existsById(projectId)) {
-                throw new ResourceNotFoundException("Project", "id", projectId);
-            }
-            Page<Task> tasks = taskRepository.findByProjectId(projectId, pageable);
-            return tasks.map(taskMapper::toSummaryDto);
+            Page<TaskSummaryDto> page = taskCache.getPage(PageQuery.PROJECT, projectId, pageable,
+                    () -> findTaskIdsByProjectId(projectId, pageable), this::loadTaskDtos, taskMapper::toSummaryDto);
+            // Loads the id page and the task DTOs, which the full and summary views of the next page share
+            pagePrefetcher.pageServed(List.of(PageQuery.PROJECT, projectId), page,
+                    next -> taskCache.getPage(PageQuery.PROJECT, projectId, next,
+                            () -> findTaskIdsByProjectId(projectId, next), this::loadTaskDtos, Function.identity()));
+            return page;
         } finally {
             sample.stop(meterRegistry.timer("service.task.getSummariesByProjectId"));
         }
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "taskSummariesByDeveloperPages", key = "#developerId")
     public Page<TaskSummaryDto> getTaskSummariesByDeveloperId(Long developerId, Pageable pageable) {
         Timer.Sample sample = Timer.start(meterRegistry);
         
         try {
             log.debug("Getting task summaries for developer ID {}: {}", developerId, pageable);
-            if (!developerRepository.existsById(developerId)) {
-                throw new ResourceNotFoundException("Developer", "id", developerId);
-            }
-            Page<Task> tasks = taskRepository.findByDeveloperId(developerId, pageable);
-            return tasks.map(taskMapper::toSummaryDto);
+            return taskCache.getPage(PageQuery.DEVELOPER, developerId, pageable,
+                    () -> findTaskIdsByDeveloperId(developerId, pageable), this::loadTaskDtos, taskMapper::toSummaryDto);
         } finally {
             sample.stop(meterRegistry.timer("service.task.getSummariesByDeveloperId"));
         }
     }
 
+    /**
+     * Runs an idempotent write in its own transaction, retrying when another writer bumped the version first.
+     */
+    private <T> T retryOnConflict(Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_RETRIES) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict on attempt {}, retrying", attempt);
+            }
+        }
+    }
+
+    private Page<Long> findTaskIdsByProjectId(Long projectId, Pageable pageable) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+        return taskRepository.findIdsByProjectId(projectId, pageable);
+    }
+
+    private Page<Long> findTaskIdsByDeveloperId(Long developerId, Pageable pageable) {
+        if (!developerRepository.existsById(developerId)) {
+            throw new ResourceNotFoundException("Developer", "id", developerId);
+        }
+        return taskRepository.findIdsByDeveloperId(developerId, pageable);
+    }
+
+    // The tasks of a cached page that are not in the task cache, in one query
+    private Map<Long, TaskDto> loadTaskDtos(Set<Long> taskIds) {
+        return taskRepository.findAllWithReferencesByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, this::mapToDto));
+    }
+
+    private Long developerIdOf(Task task) {
+        return task.getDeveloper() != null ? task.getDeveloper().getId() : null;
+    }
+
+    private static Set<Long> ids(Long... ids) {
+        return Stream.of(ids).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private List<Long> missingIds(Set<Long> requestedIds, List<Task> foundTasks) {
+        Set<Long> foundIds = foundTasks.stream().map(Task::getId).collect(Collectors.toSet());
+        return requestedIds.stream().filter(id -> !foundIds.contains(id)).collect(Collectors.toList());
+    }
+
     // --- Helper Mapper Methods ---
     private TaskDto mapToDto(Task task) {
         TaskDto dto = new TaskDto();
@@ -349,6 +661,7 @@ public class TaskServiceImpl implements TaskService {
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
 
         if (task.getProject() != null) {
             TaskDto.ProjectReferenceDto projectRef = new TaskDto.ProjectReferenceDto();
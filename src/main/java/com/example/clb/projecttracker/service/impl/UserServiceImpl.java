@@ -14,6 +14,7 @@ import com.example.clb.projecttracker.service.UserMapper;
 import com.example.clb.projecttracker.service.UserService;
 import com.example.clb.projecttracker.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -132,6 +133,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(value = "adminDashboard", sync = true)
     public AdminDashboardDto getAdminDashboard() {
         long totalUsers = userRepository.count();
         long totalProjects = projectRepository.count();
@@ -0,0 +1,67 @@
+package com.example.clb.projecttracker.util;
+
+import com.example.clb.projecttracker.dto.ProjectDto;
+import com.example.clb.projecttracker.dto.TaskDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Builds strong ETags for conditional GET support.
+ * Collection tags are derived from the shared collection change counters, entity tags from the cached DTO,
+ * so a matching If-None-Match can be answered without running the query behind the response.
+ */
+public class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Tag for a list/page response: the request URI, query string, Accept header and caller scope
+     * combined with the current versions of every collection the response depends on.
+     */
+    public static String forCollection(WebRequest webRequest, String scope, long... versions) {
+        HttpServletRequest request = webRequest instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class) : null;
+        String key = request != null
+                ? request.getRequestURI() + "?" + request.getQueryString() + "|" + request.getHeader(HttpHeaders.ACCEPT)
+                : webRequest.getDescription(false);
+        StringBuilder tag = new StringBuilder("\"c-")
+                .append(Integer.toHexString(Objects.hash(key, scope)));
+        for (long version : versions) {
+            tag.append('-').append(version);
+        }
+        return tag.append('"').toString();
+    }
+
+    public static String forTask(TaskDto task) {
+        String references = (task.getProject() != null ? task.getProject().getName() : "")
+                + "|" + (task.getDeveloper() != null ? task.getDeveloper().getName() : "");
+        return "\"t-" + task.getId() + "-" + task.getVersion()
+                + "-" + Integer.toHexString(references.hashCode()) + "\"";
+    }
+
+    public static String forProject(ProjectDto project) {
+        return "\"p-" + project.getId() + "-" + project.getVersion() + "\"";
+    }
+
+    /**
+     * 200 response carrying the tag. "private, no-cache" lets clients keep the body but forces revalidation.
+     */
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag);
+    }
+
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,5 @@
+-- Optimistic locking columns. Databases baselined at V1 may or may not have them, depending on whether
+-- ddl-auto=update ran after they were mapped, so they are only added where missing. Existing rows start at version 0.
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE developers ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,68 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Databases created that way are baselined at version 1, so this script only runs on empty databases.
+
+CREATE TABLE projects (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    description TEXT,
+    deadline    DATE         NOT NULL,
+    status      VARCHAR(255) NOT NULL
+        CHECK (status IN ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'ON_HOLD', 'CANCELLED')),
+    CONSTRAINT pk_projects PRIMARY KEY (id),
+    CONSTRAINT uk_projects_name UNIQUE (name)
+);
+
+CREATE TABLE developers (
+    id      BIGINT       NOT NULL,
+    name    VARCHAR(100) NOT NULL,
+    email   VARCHAR(100) NOT NULL,
+    skills  VARCHAR(255),
+    CONSTRAINT pk_developers PRIMARY KEY (id),
+    CONSTRAINT uk_developers_email UNIQUE (email)
+);
+
+CREATE TABLE tasks (
+    id           BIGINT       NOT NULL,
+    title        VARCHAR(150) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL
+        CHECK (status IN ('TO_DO', 'IN_PROGRESS', 'BLOCKED', 'IN_REVIEW', 'COMPLETED', 'CANCELLED')),
+    due_date     DATE,
+    project_id   BIGINT       NOT NULL,
+    developer_id BIGINT,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_tasks_developer FOREIGN KEY (developer_id) REFERENCES developers (id)
+);
+
+CREATE TABLE roles (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(20)
+        CHECK (name IN ('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER', 'ROLE_CONTRACTOR')),
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL,
+    username    VARCHAR(50),
+    email       VARCHAR(120),
+    password    VARCHAR(120),
+    provider    VARCHAR(255) NOT NULL CHECK (provider IN ('LOCAL', 'GOOGLE', 'GITHUB')),
+    provider_id VARCHAR(255),
+    active      BOOLEAN      NOT NULL,
+    approved    BOOLEAN      NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT  NOT NULL,
+    role_id INTEGER NOT NULL,
+    CONSTRAINT pk_user_roles PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
@@ -0,0 +1,10 @@
+-- Indexes for the task lookups in TaskRepository. PostgreSQL does not index foreign key columns on its own.
+
+-- findByProjectId and countTasksByStatusForProject: equality on project_id, grouped by status
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status);
+
+-- findByDeveloperId: equality on developer_id, pages sorted by due_date
+CREATE INDEX idx_tasks_developer_due_date ON tasks (developer_id, due_date);
+
+-- findByStatus, countByStatus and countTasksByStatusOverall
+CREATE INDEX idx_tasks_status ON tasks (status);
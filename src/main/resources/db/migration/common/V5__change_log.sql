@@ -0,0 +1,17 @@
+-- Append-only change feed behind GET /api/tasks/changes: one row per task, project and developer written in a
+-- transaction, deletes included. seq is an identity column so it grows in insert order across all instances;
+-- rows are inserted right before commit, see ChangeLogRecorder.
+
+CREATE TABLE change_log (
+    seq         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    entity_type VARCHAR(20)  NOT NULL
+        CHECK (entity_type IN ('TASK', 'PROJECT', 'DEVELOPER')),
+    entity_id   BIGINT       NOT NULL,
+    operation   VARCHAR(10)  NOT NULL
+        CHECK (operation IN ('CREATED', 'UPDATED', 'DELETED')),
+    changed_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_change_log PRIMARY KEY (seq)
+);
+
+-- Retention cleanup deletes by age
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
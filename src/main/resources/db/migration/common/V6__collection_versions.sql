@@ -0,0 +1,12 @@
+-- Change counters behind the collection ETags and the response body cache, shared by all instances.
+-- Bumped in the writing transaction, right before commit, see CollectionVersionTracker.
+
+CREATE TABLE collection_versions (
+    name    VARCHAR(20) NOT NULL,
+    version BIGINT      NOT NULL,
+    CONSTRAINT pk_collection_versions PRIMARY KEY (name)
+);
+
+INSERT INTO collection_versions (name, version) VALUES ('tasks', 0);
+INSERT INTO collection_versions (name, version) VALUES ('projects', 0);
+INSERT INTO collection_versions (name, version) VALUES ('developers', 0);
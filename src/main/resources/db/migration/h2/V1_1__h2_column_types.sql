@@ -0,0 +1,3 @@
+-- H2 reads TEXT as VARCHAR while the entities map descriptions as LOBs; use H2's CLOB so schema validation passes.
+ALTER TABLE projects ALTER COLUMN description CLOB;
+ALTER TABLE tasks ALTER COLUMN description CLOB;
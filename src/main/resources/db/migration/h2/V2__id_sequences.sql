@@ -0,0 +1,5 @@
+-- Pooled-lo id sequences (see PooledSequenceGenerator). H2 databases are always created empty.
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY ${idAllocationSize};
+CREATE SEQUENCE projects_seq START WITH 1 INCREMENT BY ${idAllocationSize};
+CREATE SEQUENCE developers_seq START WITH 1 INCREMENT BY ${idAllocationSize};
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY ${idAllocationSize};
@@ -0,0 +1,2 @@
+-- H2 has no partial indexes; a plain due_date index keeps the overdue queries on an index in tests.
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date);
@@ -0,0 +1,24 @@
+-- Pooled-lo id sequences (see PooledSequenceGenerator).
+-- Tables filled through the former IDENTITY columns get a sequence starting right after their max id.
+-- Sequences that already exist are left alone: resetting them could hand out ids from blocks other instances still hold.
+-- The increment is the idAllocationSize placeholder, set from the same APP_ID_ALLOCATION_SIZE as app.id.allocation-size;
+-- Hibernate refuses to start if the two differ.
+DO $$
+DECLARE
+    seq RECORD;
+    next_id BIGINT;
+BEGIN
+    FOR seq IN
+        SELECT * FROM (VALUES
+            ('tasks_seq', 'tasks'),
+            ('projects_seq', 'projects'),
+            ('developers_seq', 'developers'),
+            ('users_seq', 'users')
+        ) AS s(sequence_name, table_name)
+    LOOP
+        IF to_regclass(seq.sequence_name) IS NULL THEN
+            EXECUTE format('SELECT COALESCE(MAX(id), 0) + 1 FROM %I', seq.table_name) INTO next_id;
+            EXECUTE format('CREATE SEQUENCE %I START WITH %s INCREMENT BY ${idAllocationSize}', seq.sequence_name, next_id);
+        END IF;
+    END LOOP;
+END $$;
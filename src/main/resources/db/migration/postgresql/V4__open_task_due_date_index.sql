@@ -0,0 +1,5 @@
+-- findOverdueTasks and findByDueDateBeforeAndStatusNotIn: only open tasks can be overdue,
+-- so the partial index stays small as completed and cancelled tasks pile up.
+-- The predicate must match the query's status filter for the planner to use it.
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date)
+    WHERE status NOT IN ('COMPLETED', 'CANCELLED');
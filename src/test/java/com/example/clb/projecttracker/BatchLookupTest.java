@@ -0,0 +1,250 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.security.services.UserDetailsImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The {@code /batch} endpoints: results in request order with repeated and unknown IDs, tasks filtered by what
+ * the caller may view, and cached IDs served without going back to the database. The repositories are spied to
+ * count the bulk loads.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchLookupTest {
+
+    private static final long UNKNOWN_ID = 999_999_999L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private ProjectRepository projectRepository;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long firstProjectId;
+    private Long secondProjectId;
+    private Long thirdProjectId;
+    private Long developerId;
+    private Long otherDeveloperId;
+    private Long ownTaskId;
+    private Long othersTaskId;
+    private Long unassignedTaskId;
+
+    @BeforeEach
+    void createEntities() {
+        String suffix = UUID.randomUUID().toString();
+        firstProjectId = saveProject("Batch first " + suffix).getId();
+        secondProjectId = saveProject("Batch second " + suffix).getId();
+        thirdProjectId = saveProject("Batch third " + suffix).getId();
+
+        Developer developer = saveDeveloper("batch-" + suffix + "@example.com");
+        developerId = developer.getId();
+        Developer otherDeveloper = saveDeveloper("batch-other-" + suffix + "@example.com");
+        otherDeveloperId = otherDeveloper.getId();
+
+        Project project = projectRepository.findById(firstProjectId).orElseThrow();
+        ownTaskId = saveTask("Own", project, developer).getId();
+        othersTaskId = saveTask("Someone else's", project, otherDeveloper).getId();
+        unassignedTaskId = saveTask("Unassigned", project, null).getId();
+        clearInvocations(projectRepository);
+        clearInvocations(taskRepository);
+    }
+
+    private Project saveProject(String name) {
+        Project project = new Project();
+        project.setName(name);
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        return projectRepository.save(project);
+    }
+
+    private Developer saveDeveloper(String email) {
+        Developer developer = new Developer();
+        developer.setName("Batch developer");
+        developer.setEmail(email);
+        return developerRepository.save(developer);
+    }
+
+    private Task saveTask(String title, Project project, Developer developer) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setProject(project);
+        task.setDeveloper(developer);
+        return taskRepository.save(task);
+    }
+
+    private static RequestPostProcessor admin() {
+        return user("admin").roles("ADMIN");
+    }
+
+    // filterViewableTasks compares the assignee with the id of the principal, as for a JWT login
+    private static RequestPostProcessor developer(Long id, String role) {
+        return user(new UserDetailsImpl(id, "batch-developer", "batch@example.com", "secret",
+                List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private JsonNode batch(String uri, RequestPostProcessor caller, Long... ids) throws Exception {
+        String idList = List.of(ids).stream().map(String::valueOf).collect(Collectors.joining(","));
+        byte[] body = mockMvc.perform(get(uri).param("ids", idList).with(caller))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(body);
+    }
+
+    private static void assertItem(JsonNode item, Long id, boolean found) {
+        assertEquals(id.longValue(), item.path("id").asLong(), item::toString);
+        assertEquals(found, item.path("found").asBoolean(), item::toString);
+        assertEquals(found, !item.path("item").isNull(), item::toString);
+        if (found) {
+            assertEquals(id.longValue(), item.path("item").path("id").asLong(), item::toString);
+        }
+    }
+
+    @Test
+    void projectsComeBackInRequestOrderWithRepeatedAndUnknownIds() throws Exception {
+        JsonNode items = batch("/api/projects/batch", admin(),
+                secondProjectId, UNKNOWN_ID, firstProjectId, secondProjectId);
+
+        assertEquals(4, items.size());
+        assertItem(items.get(0), secondProjectId, true);
+        assertItem(items.get(1), UNKNOWN_ID, false);
+        assertItem(items.get(2), firstProjectId, true);
+        assertItem(items.get(3), secondProjectId, true);
+        assertEquals(items.get(0), items.get(3));
+        // Each distinct ID is looked up once, in one query
+        verify(projectRepository).findAllById(Set.of(secondProjectId, UNKNOWN_ID, firstProjectId));
+    }
+
+    @Test
+    void cachedProjectsAreNotLoadedAgain() throws Exception {
+        batch("/api/projects/batch", admin(), firstProjectId, secondProjectId);
+        verify(projectRepository, times(1)).findAllById(any());
+
+        clearInvocations(projectRepository);
+        JsonNode items = batch("/api/projects/batch", admin(), secondProjectId, firstProjectId);
+        assertItem(items.get(0), secondProjectId, true);
+        assertItem(items.get(1), firstProjectId, true);
+        verify(projectRepository, never()).findAllById(any());
+
+        // Only the missing ID goes to the database
+        batch("/api/projects/batch", admin(), firstProjectId, thirdProjectId, secondProjectId);
+        verify(projectRepository).findAllById(Set.of(thirdProjectId));
+    }
+
+    @Test
+    void developersComeBackInRequestOrder() throws Exception {
+        JsonNode items = batch("/api/v1/developers/batch", admin(), otherDeveloperId, UNKNOWN_ID, developerId);
+
+        assertItem(items.get(0), otherDeveloperId, true);
+        assertItem(items.get(1), UNKNOWN_ID, false);
+        assertItem(items.get(2), developerId, true);
+    }
+
+    @Test
+    void adminSeesEveryTask() throws Exception {
+        JsonNode items = batch("/api/tasks/batch", admin(), othersTaskId, ownTaskId, UNKNOWN_ID, unassignedTaskId);
+
+        assertItem(items.get(0), othersTaskId, true);
+        assertItem(items.get(1), ownTaskId, true);
+        assertItem(items.get(2), UNKNOWN_ID, false);
+        assertItem(items.get(3), unassignedTaskId, true);
+        verify(taskRepository, times(1)).findAllWithReferencesByIdIn(anyCollection());
+    }
+
+    @Test
+    void developerOnlySeesOwnTasks() throws Exception {
+        JsonNode items = batch("/api/tasks/batch", developer(developerId, "ROLE_DEVELOPER"),
+                othersTaskId, ownTaskId, unassignedTaskId, ownTaskId);
+
+        // Tasks of others are reported like unknown IDs
+        assertItem(items.get(0), othersTaskId, false);
+        assertItem(items.get(1), ownTaskId, true);
+        assertItem(items.get(2), unassignedTaskId, false);
+        assertItem(items.get(3), ownTaskId, true);
+    }
+
+    @Test
+    void filteringAppliesToCachedTasks() throws Exception {
+        batch("/api/tasks/batch", admin(), othersTaskId, ownTaskId);
+        clearInvocations(taskRepository);
+
+        JsonNode items = batch("/api/tasks/batch", developer(otherDeveloperId, "ROLE_DEVELOPER"), othersTaskId, ownTaskId);
+
+        assertItem(items.get(0), othersTaskId, true);
+        assertItem(items.get(1), ownTaskId, false);
+        verify(taskRepository, never()).findAllWithReferencesByIdIn(anyCollection());
+    }
+
+    @Test
+    void contractorCannotUseTheTaskBatch() throws Exception {
+        mockMvc.perform(get("/api/tasks/batch").param("ids", String.valueOf(ownTaskId))
+                        .with(developer(developerId, "ROLE_CONTRACTOR")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void batchSizeIsChecked() throws Exception {
+        mockMvc.perform(get("/api/projects/batch").param("ids", "").with(admin()))
+                .andExpect(status().isBadRequest());
+
+        String tooMany = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/projects/batch").param("ids", tooMany).with(admin()))
+                .andExpect(status().isBadRequest());
+
+        // Repeats do not count against the limit
+        String repeated = LongStream.rangeClosed(1, 101).mapToObj(i -> String.valueOf(firstProjectId))
+                .collect(Collectors.joining(","));
+        JsonNode items = objectMapper.readTree(mockMvc.perform(get("/api/projects/batch").param("ids", repeated).with(admin()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+        assertEquals(101, items.size());
+        assertTrue(items.get(100).path("found").asBoolean());
+        assertFalse(items.get(100).path("item").isNull());
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.cache.CollectionVersionTracker;
+import com.example.clb.projecttracker.cache.TaskCache;
+import com.example.clb.projecttracker.dto.BulkOperationResultDto;
+import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.dto.TaskRequestDto;
+import com.example.clb.projecttracker.exception.ResourceNotFoundException;
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.service.TaskService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The bulk task operations of TaskService: IDs that do not exist are reported, a batch is one transaction with
+ * one collection version bump and one round of cache evictions, its tasks are read with one query, and inserts
+ * and deletes go out in JDBC batches ({@code hibernate.jdbc.batch_size=50}). Statements are counted through the
+ * datasource-proxy listener.
+ */
+@SpringBootTest
+@WithMockUser(roles = "ADMIN")
+class BulkTaskOperationsTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int TASK_COUNT = 60;
+    private static final long UNKNOWN_ID = 999_999_999L;
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private TaskCache taskCache;
+
+    @Autowired
+    private CollectionVersionTracker collectionVersionTracker;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private record Execution(String sql, boolean batch, int batchSize) {
+    }
+
+    private final List<Execution> executions = new CopyOnWriteArrayList<>();
+    private final QueryExecutionListener listener = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                executions.add(new Execution(query.getQuery().toLowerCase(Locale.ROOT), execInfo.isBatch(),
+                        execInfo.getBatchSize()));
+            }
+        }
+    };
+
+    private Long projectId;
+    private Long developerId;
+
+    @BeforeEach
+    void createProject() {
+        String suffix = UUID.randomUUID().toString();
+        Project project = new Project();
+        project.setName("Bulk project " + suffix);
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectId = projectRepository.save(project).getId();
+
+        Developer developer = new Developer();
+        developer.setName("Bulk developer");
+        developer.setEmail("bulk-" + suffix + "@example.com");
+        developerId = developerRepository.save(developer).getId();
+    }
+
+    @BeforeEach
+    void captureQueries() {
+        // DataSourceProxyConfig wraps the pool in a ProxyDataSource; listen next to QueryMetricsListener
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(listener);
+    }
+
+    @AfterEach
+    void stopCapturing() {
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().getListeners().remove(listener);
+    }
+
+    private List<Long> createTasks() {
+        List<TaskRequestDto> requests = IntStream.range(0, TASK_COUNT)
+                .mapToObj(i -> {
+                    TaskRequestDto request = new TaskRequestDto();
+                    request.setTitle("Bulk task " + i);
+                    request.setStatus(TaskStatus.TO_DO);
+                    request.setProjectId(projectId);
+                    return request;
+                })
+                .toList();
+        return taskService.createTasks(requests).stream().map(TaskDto::getId).collect(Collectors.toList());
+    }
+
+    // Warms the per-id cache the way GET /api/tasks/{id} does
+    private void cacheTasks(List<Long> taskIds) {
+        taskIds.forEach(taskService::getTaskById);
+        taskIds.forEach(id -> assertNotNull(cacheManager.getCache(TaskCache.TASKS).get(id)));
+    }
+
+    private List<Long> withUnknownAndRepeatedIds(List<Long> taskIds) {
+        List<Long> requested = new ArrayList<>(taskIds);
+        requested.add(UNKNOWN_ID);
+        requested.add(taskIds.get(0));
+        return requested;
+    }
+
+    private long tasksVersion() {
+        return collectionVersionTracker.current(CollectionVersionTracker.TASKS);
+    }
+
+    private void resetCounts() {
+        executions.clear();
+        clearInvocations(taskCache);
+    }
+
+    // JDBC executions of the statement: a batch of up to BATCH_SIZE rows counts once
+    private List<Execution> executionsOf(String statementStart) {
+        return executions.stream().filter(execution -> execution.sql().startsWith(statementStart)).toList();
+    }
+
+    private void assertTasksReadOnce() {
+        List<Execution> reads = executions.stream()
+                .filter(execution -> execution.sql().startsWith("select") && execution.sql().contains(" from tasks "))
+                .toList();
+        assertEquals(1, reads.size(), reads::toString);
+    }
+
+    // Task is @DynamicUpdate, and Hibernate does not batch dynamic updates: one UPDATE per changed task, no more
+    private void assertUpdatedOnce() {
+        assertEquals(TASK_COUNT, executionsOf("update tasks ").size());
+    }
+
+    private void assertBatched(String statementStart) {
+        List<Execution> statements = executionsOf(statementStart);
+        assertEquals(2, statements.size(), () -> statementStart + ": " + statements);
+        assertTrue(statements.stream().allMatch(Execution::batch), statements::toString);
+        assertEquals(List.of(BATCH_SIZE, TASK_COUNT - BATCH_SIZE),
+                statements.stream().map(Execution::batchSize).toList());
+    }
+
+    @Test
+    void createdTasksAreInsertedInBatches() {
+        long version = tasksVersion();
+        resetCounts();
+
+        List<Long> taskIds = createTasks();
+
+        assertEquals(TASK_COUNT, taskIds.size());
+        assertBatched("insert into tasks ");
+        assertEquals(version + 1, tasksVersion());
+        verify(taskCache, times(1)).evictPagesContaining(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void statusChangeReportsUnknownIdsAndIsOneWrite() {
+        List<Long> taskIds = createTasks();
+        cacheTasks(taskIds);
+        long version = tasksVersion();
+        resetCounts();
+
+        BulkOperationResultDto result = taskService.updateTaskStatuses(withUnknownAndRepeatedIds(taskIds),
+                TaskStatus.IN_PROGRESS);
+
+        assertEquals(new BulkOperationResultDto(TASK_COUNT + 1, TASK_COUNT, List.of(UNKNOWN_ID)), result);
+        assertTasksReadOnce();
+        assertUpdatedOnce();
+        assertEquals(version + 1, tasksVersion());
+        verify(taskCache, times(1)).evictTasks(anyCollection());
+        verify(taskCache, times(1)).evictPagesChangedBy(anyCollection(), anyCollection(), anyCollection());
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.getTaskById(taskIds.get(0)).getStatus());
+    }
+
+    @Test
+    void unchangedTasksAreNotWritten() {
+        List<Long> taskIds = createTasks();
+        resetCounts();
+
+        BulkOperationResultDto result = taskService.updateTaskStatuses(taskIds, TaskStatus.TO_DO);
+
+        assertEquals(new BulkOperationResultDto(TASK_COUNT, 0, List.of()), result);
+        assertTrue(executionsOf("update tasks ").isEmpty(), executions::toString);
+    }
+
+    @Test
+    void assignmentReportsUnknownIdsAndIsOneWrite() {
+        List<Long> taskIds = createTasks();
+        cacheTasks(taskIds);
+        long version = tasksVersion();
+        resetCounts();
+
+        BulkOperationResultDto result = taskService.assignTasksToDeveloper(withUnknownAndRepeatedIds(taskIds), developerId);
+
+        assertEquals(new BulkOperationResultDto(TASK_COUNT + 1, TASK_COUNT, List.of(UNKNOWN_ID)), result);
+        assertTasksReadOnce();
+        assertUpdatedOnce();
+        assertEquals(version + 1, tasksVersion());
+        verify(taskCache, times(1)).evictTasks(anyCollection());
+        verify(taskCache, times(1)).evictPagesChangedBy(anyCollection(), anyCollection(), anyCollection());
+        assertEquals(developerId, taskService.getTaskById(taskIds.get(0)).getDeveloper().getId());
+    }
+
+    @Test
+    void deletedTasksLeaveThePerIdCache() {
+        List<Long> taskIds = createTasks();
+        cacheTasks(taskIds);
+        long version = tasksVersion();
+        resetCounts();
+
+        BulkOperationResultDto result = taskService.deleteTasks(withUnknownAndRepeatedIds(taskIds));
+
+        assertEquals(new BulkOperationResultDto(TASK_COUNT + 1, TASK_COUNT, List.of(UNKNOWN_ID)), result);
+        assertTasksReadOnce();
+        assertBatched("delete from tasks ");
+        assertEquals(version + 1, tasksVersion());
+        verify(taskCache, times(1)).evictTasks(anyCollection());
+        verify(taskCache, times(1)).evictPagesContaining(anyCollection(), anyCollection());
+        for (Long taskId : taskIds) {
+            assertNull(cacheManager.getCache(TaskCache.TASKS).get(taskId), () -> "Task " + taskId + " still cached");
+        }
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(taskIds.get(0)));
+        assertTrue(taskRepository.findAllById(taskIds).isEmpty());
+    }
+
+    @Test
+    void batchOfUnknownIdsChangesNothing() {
+        long version = tasksVersion();
+        resetCounts();
+
+        BulkOperationResultDto result = taskService.deleteTasks(List.of(UNKNOWN_ID, UNKNOWN_ID + 1));
+
+        assertEquals(new BulkOperationResultDto(2, 0, List.of(UNKNOWN_ID, UNKNOWN_ID + 1)), result);
+        assertTrue(executionsOf("delete from tasks ").isEmpty(), executions::toString);
+        assertEquals(version, tasksVersion());
+        verify(taskCache, never()).evictPagesChangedBy(anyCollection(), anyCollection(), anyCollection());
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.dto.ChangeDto;
+import com.example.clb.projecttracker.dto.ChangeFeedDto;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages through GET /api/tasks/changes after real writes. Rows only become visible once older than the settle
+ * time, which is set far beyond the test's run time: the test moves time forward for chosen rows by backdating
+ * their {@code changed_at}. A database of its own keeps the change log free of other test classes' writes; its
+ * lock timeout lets a writer wait out another one's commit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changefeed;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "app.change-feed.settle-ms=60000",
+        "app.change-feed.retention-days=30"
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = "MANAGER")
+class ChangeFeedTest {
+
+    private static final Duration SETTLE = Duration.ofMinutes(1);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Project project;
+    private String head;
+
+    @BeforeEach
+    void startAtEndOfFeed() throws Exception {
+        project = new Project();
+        project.setName("Change feed " + UUID.randomUUID());
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project = projectRepository.save(project);
+
+        settleAll();
+        head = changes(null, ChangeFeedDto.MAX_LIMIT).getNextToken();
+    }
+
+    private Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setProject(project);
+        return task;
+    }
+
+    private ChangeFeedDto changes(String since, int limit) throws Exception {
+        var request = get("/api/tasks/changes").param("limit", String.valueOf(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        byte[] body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readValue(body, ChangeFeedDto.class);
+    }
+
+    // Moves the clock past the settle time, as seen by the feed, for every row written so far
+    private void settleAll() {
+        jdbcTemplate.update("UPDATE change_log SET changed_at = ?", settledAt());
+    }
+
+    private void settleTask(Long taskId) {
+        jdbcTemplate.update("UPDATE change_log SET changed_at = ? WHERE entity_type = 'TASK' AND entity_id = ?",
+                settledAt(), taskId);
+    }
+
+    private static Timestamp settledAt() {
+        return Timestamp.valueOf(LocalDateTime.now().minus(SETTLE.multipliedBy(2)));
+    }
+
+    private static long seq(String token) {
+        return Long.parseLong(token.substring(0, token.indexOf('.')));
+    }
+
+    // TYPE:id:OPERATION of each change, for comparing pages
+    private static List<String> summary(ChangeFeedDto page) {
+        return page.getChanges().stream()
+                .map(change -> change.getEntityType() + ":" + change.getEntityId() + ":" + change.getOperation())
+                .toList();
+    }
+
+    private static String task(Long id, String operation) {
+        return "TASK:" + id + ":" + operation;
+    }
+
+    @Test
+    void pagesThroughChangesWithReturnedTokens() throws Exception {
+        Task first = taskRepository.save(newTask("First"));
+        Task second = taskRepository.save(newTask("Second"));
+        Task third = taskRepository.save(newTask("Third"));
+        first.setTitle("First, renamed");
+        taskRepository.save(first);
+        settleAll();
+
+        ChangeFeedDto page1 = changes(head, 2);
+        assertEquals(List.of(task(first.getId(), "CREATED"), task(second.getId(), "CREATED")), summary(page1));
+        assertTrue(page1.isHasMore());
+        // The current state, which already includes the later rename
+        assertEquals("First, renamed", ((Map<?, ?>) page1.getChanges().get(0).getData()).get("title"));
+
+        ChangeFeedDto page2 = changes(page1.getNextToken(), 2);
+        assertEquals(List.of(task(third.getId(), "CREATED"), task(first.getId(), "UPDATED")), summary(page2));
+        assertFalse(page2.isHasMore());
+
+        ChangeFeedDto page3 = changes(page2.getNextToken(), 2);
+        assertEquals(List.of(), page3.getChanges());
+        assertFalse(page3.isHasMore());
+        assertEquals(seq(page2.getNextToken()), seq(page3.getNextToken()));
+    }
+
+    @Test
+    void entityIsListedOnceAtItsLatestChangeWithinAPage() throws Exception {
+        Task task = taskRepository.save(newTask("Original"));
+        Task other = taskRepository.save(newTask("Other"));
+        task.setTitle("Renamed");
+        taskRepository.save(task);
+        settleAll();
+
+        assertEquals(List.of(task(other.getId(), "CREATED"), task(task.getId(), "UPDATED")),
+                summary(changes(head, ChangeFeedDto.MAX_LIMIT)));
+    }
+
+    @Test
+    void stopsAtFirstUnsettledRow() throws Exception {
+        Task settled = taskRepository.save(newTask("Settled"));
+        Task recent = taskRepository.save(newTask("Recent"));
+        settleTask(settled.getId());
+
+        ChangeFeedDto page = changes(head, ChangeFeedDto.MAX_LIMIT);
+        assertEquals(List.of(task(settled.getId(), "CREATED")), summary(page));
+        assertFalse(page.isHasMore());
+
+        settleAll();
+        assertEquals(List.of(task(recent.getId(), "CREATED")), summary(changes(page.getNextToken(), ChangeFeedDto.MAX_LIMIT)));
+    }
+
+    @Test
+    void settledRowAfterUnsettledOneWaits() throws Exception {
+        // The lower sequence number committed last, so it is still within the settle time
+        Task committedLate = taskRepository.save(newTask("Committed late"));
+        Task committedFirst = taskRepository.save(newTask("Committed first"));
+        settleTask(committedFirst.getId());
+
+        ChangeFeedDto page = changes(head, ChangeFeedDto.MAX_LIMIT);
+        assertEquals(List.of(), page.getChanges());
+        assertEquals(seq(head), seq(page.getNextToken()));
+
+        settleAll();
+        assertEquals(List.of(task(committedLate.getId(), "CREATED"), task(committedFirst.getId(), "CREATED")),
+                summary(changes(page.getNextToken(), ChangeFeedDto.MAX_LIMIT)));
+    }
+
+    @Test
+    void overlappingWritersOfACollectionTakeSequenceNumbersInCommitOrder() throws Exception {
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+
+        // The first writer is committing and holds the tasks counter, as its bump would
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE collection_versions SET version = version WHERE name = 'tasks'");
+            firstLocked.countDown();
+            await(releaseFirst);
+            return taskRepository.save(newTask("Committed first")).getId();
+        }));
+        firstLocked.await();
+        // The second one starts committing meanwhile and waits for the counter
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> {
+            secondThread.set(Thread.currentThread());
+            return taskRepository.save(newTask("Committed second")).getId();
+        });
+        awaitBlockedInDatabase(secondThread);
+        releaseFirst.countDown();
+
+        Long firstId = first.get(10, TimeUnit.SECONDS);
+        Long secondId = second.get(10, TimeUnit.SECONDS);
+        settleAll();
+
+        assertEquals(List.of(task(firstId, "CREATED"), task(secondId, "CREATED")),
+                summary(changes(head, ChangeFeedDto.MAX_LIMIT)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Until the thread waits for a row lock held by another transaction
+    private static void awaitBlockedInDatabase(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Thread waiting = thread.get();
+            if (waiting != null && waiting.getState() == Thread.State.TIMED_WAITING
+                    && Arrays.stream(waiting.getStackTrace()).anyMatch(frame -> frame.getClassName().startsWith("org.h2."))) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Second writer never waited for the lock");
+    }
+
+    @Test
+    void writesOfOneTransactionCollapse() throws Exception {
+        Long[] ids = transactionTemplate.execute(status -> {
+            Task createdAndDeleted = taskRepository.saveAndFlush(newTask("Never visible"));
+            taskRepository.delete(createdAndDeleted);
+            taskRepository.flush();
+
+            Task createdAndUpdated = taskRepository.saveAndFlush(newTask("Created"));
+            createdAndUpdated.setTitle("Created, then updated");
+            taskRepository.flush();
+            return new Long[]{createdAndDeleted.getId(), createdAndUpdated.getId()};
+        });
+        settleAll();
+
+        ChangeFeedDto page = changes(head, ChangeFeedDto.MAX_LIMIT);
+        assertEquals(List.of(task(ids[1], "CREATED")), summary(page));
+        assertEquals("Created, then updated", ((Map<?, ?>) page.getChanges().get(0).getData()).get("title"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_log WHERE seq > ?", Integer.class, seq(head)));
+    }
+
+    @Test
+    void rowsOfEntitiesDeletedSinceAreSentAsTombstones() throws Exception {
+        Task task = taskRepository.save(newTask("Deleted later"));
+        taskRepository.deleteById(task.getId());
+        settleAll();
+
+        // The CREATED row is read before the DELETED one, but the task is gone by now
+        ChangeFeedDto page1 = changes(head, 1);
+        assertEquals(List.of(task(task.getId(), "DELETED")), summary(page1));
+        assertNull(page1.getChanges().get(0).getData());
+        assertTrue(page1.isHasMore());
+
+        ChangeFeedDto page2 = changes(page1.getNextToken(), 1);
+        ChangeDto tombstone = page2.getChanges().get(0);
+        assertEquals(task(task.getId(), "DELETED"), summary(page2).get(0));
+        assertNull(tombstone.getData());
+        assertTrue(tombstone.getSeq() > page1.getChanges().get(0).getSeq());
+        assertFalse(page2.isHasMore());
+    }
+
+    @Test
+    void tokenOlderThanRetentionIsGone() throws Exception {
+        String expired = seq(head) + "." + Instant.now().minus(RETENTION).minusSeconds(1).toEpochMilli();
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", expired))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void invalidTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+}
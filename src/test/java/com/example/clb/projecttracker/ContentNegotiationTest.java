@@ -0,0 +1,151 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.protobuf.SummaryProtobufCodec;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The content type chosen for each {@code Accept} header, and that each binary body carries the same page as the
+ * JSON one. Uses the task summaries of a fresh project, which every format can serve.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class ContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private String projectName;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        Project project = new Project();
+        projectName = "Negotiation " + UUID.randomUUID();
+        project.setName(projectName);
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectId = projectRepository.save(project).getId();
+
+        Task task = new Task();
+        task.setTitle("Negotiated");
+        task.setStatus(TaskStatus.IN_REVIEW);
+        task.setDueDate(LocalDate.of(2027, 5, 1));
+        task.setProject(project);
+        taskId = taskRepository.save(task).getId();
+    }
+
+    private MockHttpServletResponse summaries(String accept) throws Exception {
+        return mockMvc.perform(get("/api/tasks/project/{projectId}/summaries", projectId)
+                        .headers(headers(accept)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static HttpHeaders headers(String accept) {
+        HttpHeaders headers = new HttpHeaders();
+        if (accept != null) {
+            headers.set(HttpHeaders.ACCEPT, accept);
+        }
+        return headers;
+    }
+
+    // Without parameters such as a charset
+    private static MediaType contentType(MockHttpServletResponse response) {
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        return new MediaType(contentType.getType(), contentType.getSubtype());
+    }
+
+    @Test
+    void jsonIsTheDefault() throws Exception {
+        for (String accept : new String[]{null, "*/*", "application/json", "application/*"}) {
+            assertEquals(MediaType.APPLICATION_JSON, contentType(summaries(accept)), () -> "Accept: " + accept);
+        }
+    }
+
+    @Test
+    void smileAndCborCarryTheJsonPage() throws Exception {
+        JsonNode json = new ObjectMapper().readTree(summaries("application/json").getContentAsByteArray());
+
+        MockHttpServletResponse smile = summaries(SMILE.toString());
+        assertEquals(SMILE, contentType(smile));
+        assertEquals(json, new SmileMapper().readTree(smile.getContentAsByteArray()));
+
+        MockHttpServletResponse cbor = summaries(CBOR.toString());
+        assertEquals(CBOR, contentType(cbor));
+        assertEquals(json, new CBORMapper().readTree(cbor.getContentAsByteArray()));
+    }
+
+    @Test
+    void protobufCarriesTheSummaryPage() throws Exception {
+        MockHttpServletResponse response = summaries(SummaryProtobufCodec.MEDIA_TYPE.toString());
+
+        assertEquals(SummaryProtobufCodec.MEDIA_TYPE, contentType(response));
+        Page<TaskSummaryDto> page = SummaryProtobufCodec.readTaskSummaries(
+                CodedInputStream.newInstance(response.getContentAsByteArray()));
+        assertEquals(List.of(new TaskSummaryDto(taskId, "Negotiated", TaskStatus.IN_REVIEW, LocalDate.of(2027, 5, 1),
+                projectId, projectName, null, null)), page.getContent());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(20, page.getSize());
+    }
+
+    @Test
+    void highestRankedTypeWins() throws Exception {
+        assertEquals(SummaryProtobufCodec.MEDIA_TYPE,
+                contentType(summaries("application/json;q=0.5, application/x-protobuf")));
+        assertEquals(SMILE, contentType(summaries("application/cbor;q=0.8, application/x-jackson-smile")));
+    }
+
+    @Test
+    void protobufIsOnlyServedForSummaries() throws Exception {
+        mockMvc.perform(get("/api/projects/{projectId}", projectId)
+                        .accept(SummaryProtobufCodec.MEDIA_TYPE))
+                .andExpect(status().isNotAcceptable());
+
+        MockHttpServletResponse fallback = mockMvc.perform(get("/api/projects/{projectId}", projectId)
+                        .headers(headers("application/x-protobuf, application/json;q=0.5")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertEquals(MediaType.APPLICATION_JSON, contentType(fallback));
+    }
+}
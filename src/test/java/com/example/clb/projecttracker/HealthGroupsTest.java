@@ -0,0 +1,77 @@
+package com.example.clb.projecttracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With the email backlog always past its threshold, readiness refuses traffic while liveness and the root
+ * group, which a container health check calls, leave the saturation out. The health settings are those of the
+ * main application.properties, which the test one replaces.
+ */
+@SpringBootTest(properties = {
+        "management.endpoint.health.show-components=always",
+        "management.endpoint.health.show-details=always",
+        "management.endpoint.health.probes.enabled=true",
+        "management.endpoint.health.group.readiness.include=readinessState,hikariPool,auditLogBacklog,emailBacklog",
+        "app.load-shedding.email-backlog-threshold=-1",
+        "app.load-shedding.check-interval-ms=50"
+})
+@AutoConfigureMockMvc
+class HealthGroupsTest {
+
+    private static final List<String> READINESS_ONLY = List.of("readinessState", "hikariPool", "auditLogBacklog", "emailBacklog");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockHttpServletResponse health(String path) throws Exception {
+        return mockMvc.perform(get("/actuator/health" + path)).andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse awaitReadinessRefused() throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        MockHttpServletResponse readiness = health("/readiness");
+        while (readiness.getStatus() != 503 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            readiness = health("/readiness");
+        }
+        return readiness;
+    }
+
+    @Test
+    void saturationOnlyFailsReadiness() throws Exception {
+        MockHttpServletResponse readiness = awaitReadinessRefused();
+        JsonNode body = objectMapper.readTree(readiness.getContentAsByteArray());
+        assertEquals(503, readiness.getStatus(), body::toString);
+        JsonNode components = body.path("components");
+        assertEquals("OUT_OF_SERVICE", components.path("readinessState").path("status").asText());
+        assertEquals("OUT_OF_SERVICE", components.path("emailBacklog").path("status").asText());
+        assertEquals("UP", components.path("hikariPool").path("status").asText());
+
+        mockMvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk());
+
+        JsonNode root = objectMapper.readTree(health("").getContentAsByteArray());
+        assertFalse(root.path("components").isEmpty(), root::toString);
+        for (String name : READINESS_ONLY) {
+            assertFalse(root.path("components").has(name), () -> name + " in " + root);
+        }
+        assertTrue(root.path("components").has("db"), root::toString);
+        assertFalse("OUT_OF_SERVICE".equals(root.path("status").asText()), root::toString);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.service.TaskService;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application on a database created by the former ddl-auto=update (db/legacy/ddl-auto-schema.sql):
+ * Flyway has to baseline it at V1 and bring it up to date, after which Hibernate's schema validation passes
+ * and the existing rows take part in optimistic locking.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:legacy;DB_CLOSE_DELAY=-1")
+class LegacySchemaMigrationTest {
+
+    private static final long LEGACY_ID = 1_000_001L;
+
+    @TestConfiguration
+    static class LegacySchema {
+
+        // Runs before Flyway, on the still empty database
+        @Bean
+        FlywayMigrationStrategy createLegacySchemaFirst() {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("db/legacy/ddl-auto-schema.sql"))
+                        .execute(flyway.getConfiguration().getDataSource());
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Test
+    void legacyDatabaseIsBaselinedAndMigrated() {
+        List<MigrationInfo> applied = Arrays.asList(flyway.info().applied());
+
+        assertTrue(applied.get(0).getType().isBaseline(), "baselined");
+        assertEquals("1", applied.get(0).getVersion().getVersion());
+        assertTrue(applied.stream().anyMatch(migration -> "1.2".equals(migration.getVersion().getVersion())),
+                "version columns migration applied");
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void existingRowsStartAtVersionZero() {
+        assertEquals(0L, projectRepository.findById(LEGACY_ID).orElseThrow().getVersion());
+        assertEquals(0L, developerRepository.findById(LEGACY_ID).orElseThrow().getVersion());
+    }
+
+    @Test
+    void existingTaskIsUpdatedWithVersionCheck() {
+        Long versionBefore = taskRepository.findById(LEGACY_ID).orElseThrow().getVersion();
+
+        taskService.updateTaskStatus(LEGACY_ID, TaskStatus.IN_PROGRESS);
+
+        assertEquals(versionBefore + 1, taskRepository.findById(LEGACY_ID).orElseThrow().getVersion());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.clb.projecttracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Smoke tests over HTTP against an already running application, meant for the native image where reflection,
+ * proxies and resources only work if they were reachable at build time (see NativeImageConfig). Each test goes
+ * through one of those paths: JWT issuing and parsing, Hibernate and Flyway, MapStruct and Jackson on the DTOs,
+ * the Caffeine caches, SpringDoc and the actuator. Runs just as well against the JVM build, for comparison:
+ * {@code mvn test -Dtest=NativeImageSmokeTest -Dsmoke.baseUrl=http://localhost:8080}
+ */
+@EnabledIfSystemProperty(named = "smoke.baseUrl", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NativeImageSmokeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private URI baseUri;
+    private String adminToken;
+
+    @BeforeAll
+    void login() throws Exception {
+        baseUri = URI.create(System.getProperty("smoke.baseUrl"));
+        String body = objectMapper.createObjectNode()
+                .put("username", System.getProperty("smoke.username", "admin"))
+                .put("password", System.getProperty("smoke.password", "728728"))
+                .toString();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        assertEquals(200, response.statusCode(), response::body);
+        adminToken = objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    @Test
+    void databaseIsUpAndMigrated() throws Exception {
+        // Only the db component: Mongo and SMTP may be absent on a local comparison run, and the Mongo check then
+        // waits for the server selection timeout
+        JsonNode health = getJson("/actuator/health/db", null);
+        assertEquals("UP", health.path("status").asText(), health::toString);
+    }
+
+    @Test
+    void issuedTokenIsAcceptedAndForgedTokenRejected() throws Exception {
+        assertEquals(200, get("/api/projects?size=1&sort=name", adminToken).statusCode());
+        String forged = adminToken.substring(0, adminToken.lastIndexOf('.') + 1) + "c2lnbmF0dXJl";
+        assertEquals(401, get("/api/projects?size=1&sort=name", forged).statusCode());
+    }
+
+    @Test
+    void pagesOfDtosAreSerialized() throws Exception {
+        assertTrue(getJson("/api/projects?size=5&sort=name", adminToken).has("content"));
+        assertTrue(getJson("/api/tasks/summaries?size=5", adminToken).has("content"));
+        assertTrue(getJson("/api/v1/developers/top?limit=5", adminToken).isArray());
+    }
+
+    @Test
+    void cachedAggregatesAreServedAgain() throws Exception {
+        HttpResponse<String> first = get("/api/tasks/status-counts", adminToken);
+        HttpResponse<String> second = get("/api/tasks/status-counts", adminToken);
+        assertEquals(200, first.statusCode(), first::body);
+        assertEquals(first.body(), second.body());
+        assertEquals(200, get("/api/admin/dashboard", adminToken).statusCode());
+    }
+
+    @Test
+    void apiDocumentationIsGenerated() throws Exception {
+        assertTrue(getJson("/v3/api-docs", null).path("paths").has("/api/projects"));
+    }
+
+    @Test
+    void metricsAreExported() throws Exception {
+        HttpResponse<String> response = get("/actuator/prometheus", null);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("http_server_requests_seconds"), "No request metrics exported");
+    }
+
+    private JsonNode getJson(String path, String token) throws Exception {
+        HttpResponse<String> response = get(path, token);
+        assertTrue(response.statusCode() == 200, () -> path + " returned " + response.statusCode() + ": " + response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request.GET());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Serves the task summaries of a fresh project through ResponseBodyCacheFilter, telling hits from misses by
+ * {@code response.cache.requests}. Every body gets a gzip copy here, however small.
+ */
+@SpringBootTest(properties = "app.response-cache.compress-min-bytes=1")
+@AutoConfigureMockMvc
+class ResponseBodyCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        Project project = new Project();
+        project.setName("Response cache " + UUID.randomUUID());
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectId = projectRepository.save(project).getId();
+    }
+
+    private MockHttpServletRequestBuilder summaries(String role) {
+        return get("/api/tasks/project/{projectId}/summaries", projectId)
+                .accept(MediaType.APPLICATION_JSON)
+                .with(user(role.toLowerCase()).roles(role));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    private double requests(String outcome) {
+        return meterRegistry.get("response.cache.requests").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void writeInvalidatesCachedBody() throws Exception {
+        String before = perform(summaries("ADMIN")).getContentAsString();
+        double hits = requests("hit");
+        assertEquals(before, perform(summaries("ADMIN")).getContentAsString());
+        assertEquals(hits + 1, requests("hit"), "second read is served from the cache");
+
+        mockMvc.perform(post("/api/tasks")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Written after caching\", \"status\": \"TO_DO\", \"projectId\": " + projectId + "}"))
+                .andExpect(status().isCreated());
+
+        double misses = requests("miss");
+        String after = perform(summaries("ADMIN")).getContentAsString();
+        assertEquals(misses + 1, requests("miss"), "the write retired the cached body");
+        assertFalse(before.contains("Written after caching"));
+        assertTrue(after.contains("Written after caching"));
+    }
+
+    @Test
+    void hitRunsNoQueries() throws Exception {
+        perform(summaries("ADMIN"));
+        DistributionSummary queries = meterRegistry.get("db.queries.per.request")
+                .tag("uri", "/api/tasks/project/{projectId}/summaries").summary();
+        long requestsBefore = queries.count();
+        double statementsBefore = queries.totalAmount();
+        double hits = requests("hit");
+
+        perform(summaries("ADMIN"));
+
+        assertEquals(hits + 1, requests("hit"));
+        assertEquals(requestsBefore + 1, queries.count());
+        assertEquals(statementsBefore, queries.totalAmount(), "collection versions are checked in memory");
+    }
+
+    @Test
+    void authoritiesHaveSeparateEntries() throws Exception {
+        double misses = requests("miss");
+        perform(summaries("ADMIN"));
+        perform(summaries("MANAGER"));
+        assertEquals(misses + 2, requests("miss"), "a manager does not get the admin's entry");
+
+        double hits = requests("hit");
+        perform(summaries("ADMIN"));
+        perform(summaries("MANAGER"));
+        assertEquals(hits + 2, requests("hit"));
+        assertEquals(misses + 2, requests("miss"));
+    }
+
+    @Test
+    void gzipIsServedOnlyToClientsAcceptingIt() throws Exception {
+        byte[] plain = perform(summaries("ADMIN")).getContentAsByteArray();
+        double hits = requests("hit");
+
+        MockHttpServletResponse gzipped = perform(summaries("ADMIN").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+        assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzipped.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        assertArrayEquals(plain, gunzip(gzipped.getContentAsByteArray()));
+
+        for (String acceptEncoding : new String[]{null, "deflate", "gzip;q=0"}) {
+            MockHttpServletRequestBuilder request = summaries("ADMIN");
+            if (acceptEncoding != null) {
+                request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+            }
+            MockHttpServletResponse response = perform(request);
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING), () -> "Accept-Encoding: " + acceptEncoding);
+            assertArrayEquals(plain, response.getContentAsByteArray());
+        }
+        assertEquals(hits + 4, requests("hit"), "all served from the one entry");
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code fields=} on the list endpoints: the fields are checked against the whitelist, the body carries only the
+ * selected ones, and the SQL reads only their columns. Pages are sorted newest first, so the task of each test
+ * is the first row.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class SparseFieldsetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> executedSql = new CopyOnWriteArrayList<>();
+    private final QueryExecutionListener listener = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            queryInfoList.forEach(query -> executedSql.add(query.getQuery().toLowerCase(Locale.ROOT)));
+        }
+    };
+
+    private Long projectId;
+    private String projectName;
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        Project project = new Project();
+        projectName = "Sparse " + UUID.randomUUID();
+        project.setName(projectName);
+        project.setDescription("Not selected");
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectId = projectRepository.save(project).getId();
+
+        Developer developer = new Developer();
+        developer.setName("Sparse Developer");
+        developer.setEmail("sparse-" + UUID.randomUUID() + "@example.com");
+        developerRepository.save(developer);
+
+        Task task = new Task();
+        task.setTitle("Selected");
+        task.setDescription("A long description nobody asked for");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDate.of(2027, 5, 1));
+        task.setProject(project);
+        task.setDeveloper(developer);
+        taskId = taskRepository.save(task).getId();
+    }
+
+    @BeforeEach
+    void captureQueries() {
+        // DataSourceProxyConfig wraps the pool in a ProxyDataSource; listen next to QueryMetricsListener
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(listener);
+    }
+
+    @AfterEach
+    void stopCapturing() {
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().getListeners().remove(listener);
+    }
+
+    private JsonNode firstRow(String uri, String fields) throws Exception {
+        executedSql.clear();
+        byte[] body = mockMvc.perform(get(uri).param("fields", fields).param("sort", "id,desc"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(body).path("content").path(0);
+    }
+
+    private static List<String> keys(JsonNode node) {
+        List<String> keys = new ArrayList<>();
+        node.fieldNames().forEachRemaining(keys::add);
+        return keys;
+    }
+
+    private List<String> sqlOn(String table) {
+        return executedSql.stream().filter(sql -> sql.contains(" from " + table + " ")).toList();
+    }
+
+    @Test
+    void onlySelectedTaskFieldsAreReturned() throws Exception {
+        JsonNode row = firstRow("/api/tasks", "status,id,title,status");
+
+        // In the order of the whitelist, each once
+        assertEquals(List.of("id", "title", "status"), keys(row));
+        assertEquals(taskId.longValue(), row.path("id").asLong());
+        assertEquals("Selected", row.path("title").asText());
+        assertEquals("IN_PROGRESS", row.path("status").asText());
+    }
+
+    @Test
+    void onlySelectedColumnsAreRead() throws Exception {
+        firstRow("/api/tasks", "id,title,status");
+
+        List<String> queries = sqlOn("tasks");
+        assertFalse(queries.isEmpty(), () -> "No task query in " + executedSql);
+        for (String sql : queries) {
+            assertFalse(sql.contains("description"), sql);
+            assertFalse(sql.contains("join"), sql);
+            assertFalse(sql.contains("projects"), sql);
+            assertFalse(sql.contains("developers"), sql);
+        }
+    }
+
+    @Test
+    void referenceIdsAreReadWithoutJoin() throws Exception {
+        JsonNode row = firstRow("/api/tasks", "id,project.id,developer.id");
+
+        assertEquals(projectId.longValue(), row.path("project").path("id").asLong());
+        assertEquals(List.of("id"), keys(row.path("project")));
+        for (String sql : sqlOn("tasks")) {
+            assertFalse(sql.contains("join"), sql);
+        }
+    }
+
+    @Test
+    void referenceNamesJoinOnlyTheirAssociation() throws Exception {
+        JsonNode row = firstRow("/api/tasks", "id,project.name");
+
+        assertEquals(projectName, row.path("project").path("name").asText());
+        assertFalse(row.has("developer"), row::toString);
+        List<String> queries = sqlOn("tasks");
+        assertTrue(queries.stream().anyMatch(sql -> sql.contains("join projects")), queries::toString);
+        for (String sql : queries) {
+            assertFalse(sql.contains("developers"), sql);
+        }
+    }
+
+    @Test
+    void unassignedReferenceIsNull() throws Exception {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        task.setDeveloper(null);
+        taskRepository.save(task);
+
+        JsonNode row = firstRow("/api/tasks", "id,developer.id,developer.name");
+
+        assertTrue(row.path("developer").isNull(), row::toString);
+    }
+
+    @Test
+    void projectAndDeveloperListingsSelectTheirFields() throws Exception {
+        JsonNode project = firstRow("/api/projects", "id,name");
+        assertEquals(List.of("id", "name"), keys(project));
+        assertEquals(projectName, project.path("name").asText());
+        for (String sql : sqlOn("projects")) {
+            assertFalse(sql.contains("description"), sql);
+        }
+
+        JsonNode developer = firstRow("/api/v1/developers/all", "id,name");
+        assertEquals(List.of("id", "name"), keys(developer));
+        for (String sql : sqlOn("developers")) {
+            assertFalse(sql.contains("email"), sql);
+        }
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Unknown field 'secret'")));
+        mockMvc.perform(get("/api/projects").param("fields", "id,project.name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("fields", "id,title").param("sort", "assignedTasks"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void emptySelectionIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("fields", " , "))
+                .andExpect(status().isBadRequest());
+    }
+}
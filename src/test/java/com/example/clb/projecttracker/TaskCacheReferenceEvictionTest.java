@@ -0,0 +1,141 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.dto.DeveloperRequestDto;
+import com.example.clb.projecttracker.dto.ProjectRequestDto;
+import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.exception.ResourceNotFoundException;
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.service.DeveloperService;
+import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cached task DTOs embed the names of their project and developer: renaming or deleting either must not leave
+ * them, or the pages built from them, behind.
+ */
+@SpringBootTest
+class TaskCacheReferenceEvictionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private String suffix;
+    private Long projectId;
+    private Long developerId;
+    private Long taskId;
+
+    @BeforeEach
+    void createAssignedTask() {
+        suffix = UUID.randomUUID().toString();
+        Project project = new Project();
+        project.setName("Cache project " + suffix);
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectId = projectRepository.save(project).getId();
+
+        Developer developer = new Developer();
+        developer.setName("Cache developer");
+        developer.setEmail("cache-" + suffix + "@example.com");
+        developerId = developerRepository.save(developer).getId();
+
+        Task task = new Task();
+        task.setTitle("Cached task");
+        task.setStatus(TaskStatus.TO_DO);
+        task.setProject(project);
+        task.setDeveloper(developer);
+        taskId = taskRepository.save(task).getId();
+
+        // Cache the DTO, by id and on a page
+        taskService.getTaskById(taskId);
+        pagedTask();
+    }
+
+    private Optional<TaskDto> pagedTask() {
+        return taskService.getTasksByDeveloperId(developerId, PageRequest.of(0, 10, Sort.by("id"))).stream()
+                .filter(task -> task.getId().equals(taskId))
+                .findFirst();
+    }
+
+    @Test
+    void projectRenameRefreshesCachedTasks() {
+        ProjectRequestDto rename = new ProjectRequestDto();
+        rename.setName("Renamed project " + suffix);
+        rename.setDeadline(LocalDate.now().plusYears(1));
+        rename.setStatus(ProjectStatus.IN_PROGRESS);
+
+        projectService.updateProject(projectId, rename);
+
+        assertEquals(rename.getName(), taskService.getTaskById(taskId).getProject().getName());
+        assertEquals(rename.getName(), pagedTask().orElseThrow().getProject().getName());
+    }
+
+    @Test
+    void developerRenameRefreshesCachedTasks() {
+        DeveloperRequestDto rename = new DeveloperRequestDto();
+        rename.setName("Renamed developer");
+        rename.setEmail("cache-" + suffix + "@example.com");
+
+        developerService.updateDeveloper(developerId, rename);
+
+        assertEquals("Renamed developer", taskService.getTaskById(taskId).getDeveloper().getName());
+        assertEquals("Renamed developer", pagedTask().orElseThrow().getDeveloper().getName());
+    }
+
+    @Test
+    void developerDeletionUnassignsCachedTasks() {
+        developerService.deleteDeveloper(developerId);
+
+        assertNull(taskService.getTaskById(taskId).getDeveloper());
+    }
+
+    @Test
+    void projectDeletionDropsCachedTasks() {
+        List<Long> pageBefore = taskService.getAllTasks(PageRequest.of(0, 1000, Sort.by("id"))).map(TaskDto::getId).getContent();
+        assertTrue(pageBefore.contains(taskId));
+
+        projectService.deleteProject(projectId);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(taskId));
+        List<Long> pageAfter = taskService.getAllTasks(PageRequest.of(0, 1000, Sort.by("id"))).map(TaskDto::getId).getContent();
+        assertFalse(pageAfter.contains(taskId), "deleted task still listed");
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.dto.TaskDto;
+import com.example.clb.projecttracker.model.Developer;
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.DeveloperRepository;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import com.example.clb.projecttracker.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Optimistic locking of task writes: a PATCH carrying a stale version is rejected with 409, while the idempotent
+ * status change and assignment retry a conflicting write up to MAX_CONFLICT_RETRIES (3) times before giving up.
+ * Conflicts are injected by failing {@code saveAndFlush}, the call that runs the version check.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskConflictTest {
+
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private Long taskId;
+    private Long developerId;
+
+    @BeforeEach
+    void createTask() {
+        String suffix = UUID.randomUUID().toString();
+        Project project = new Project();
+        project.setName("Conflict test " + suffix);
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectRepository.save(project);
+
+        Developer developer = new Developer();
+        developer.setName("Conflict developer");
+        developer.setEmail("conflict-" + suffix + "@example.com");
+        developerId = developerRepository.save(developer).getId();
+
+        Task task = new Task();
+        task.setTitle("Original");
+        task.setStatus(TaskStatus.TO_DO);
+        task.setProject(project);
+        taskId = taskRepository.save(task).getId();
+    }
+
+    // The spy wraps a repository proxy, which has no real method to call: delegate like the unstubbed calls do
+    private Answer<?> delegateToRepository() {
+        return mockingDetails(taskRepository).getMockCreationSettings().getDefaultAnswer();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void patchWithStaleVersionIsRejected() throws Exception {
+        taskService.updateTaskStatus(taskId, TaskStatus.IN_PROGRESS);
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Renamed\", \"version\": 0}"))
+                .andExpect(status().isConflict());
+
+        assertEquals("Original", taskRepository.findById(taskId).orElseThrow().getTitle());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void patchWithCurrentVersionIsApplied() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{taskId}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Renamed\", \"version\": 0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void statusChangeIsRetriedAfterConflict() {
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId))
+                .doAnswer(delegateToRepository())
+                .when(taskRepository).saveAndFlush(any(Task.class));
+
+        TaskDto task = taskService.updateTaskStatus(taskId, TaskStatus.BLOCKED);
+
+        assertEquals(TaskStatus.BLOCKED, task.getStatus());
+        verify(taskRepository, times(2)).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void statusChangeFailsAfterMaxRetries() {
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId))
+                .when(taskRepository).saveAndFlush(any(Task.class));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> taskService.updateTaskStatus(taskId, TaskStatus.BLOCKED));
+
+        verify(taskRepository, times(MAX_CONFLICT_RETRIES)).saveAndFlush(any(Task.class));
+        assertEquals(TaskStatus.TO_DO, taskRepository.findById(taskId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void assignmentIsRetriedAfterConflict() {
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId))
+                .doThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId))
+                .doAnswer(delegateToRepository())
+                .when(taskRepository).saveAndFlush(any(Task.class));
+
+        TaskDto task = taskService.assignTaskToDeveloper(taskId, developerId);
+
+        assertEquals(developerId, task.getDeveloper().getId());
+        verify(taskRepository, times(MAX_CONFLICT_RETRIES)).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void assignmentFailsAfterMaxRetries() {
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId))
+                .when(taskRepository).saveAndFlush(any(Task.class));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> taskService.assignTaskToDeveloper(taskId, developerId));
+
+        verify(taskRepository, times(MAX_CONFLICT_RETRIES)).saveAndFlush(any(Task.class));
+        assertNull(taskRepository.findById(taskId).orElseThrow().getDeveloper());
+    }
+}
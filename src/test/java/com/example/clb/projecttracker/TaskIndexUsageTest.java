@@ -0,0 +1,174 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.repository.TaskRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the task queries of TaskRepository are planned on the indexes created by the Flyway migrations.
+ * The SQL Hibernate generates for each repository call is captured with its bound parameters and run through
+ * EXPLAIN on a seeded and analyzed PostgreSQL, where the partial index of V4 exists. Needs Docker.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskIndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Explicit ids far above anything the sequences hand out during the test run
+    private static final long FIRST_ID = 1_000_000L;
+    private static final int PROJECTS = 100;
+    private static final int DEVELOPERS = 100;
+    private static final int TASKS = 20_000;
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "BLOCKED", "IN_REVIEW", "COMPLETED", "CANCELLED"};
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<QueryInfo> executedQueries = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    void captureQueries() {
+        // DataSourceProxyConfig wraps the pool in a ProxyDataSource; listen next to QueryMetricsListener
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                executedQueries.addAll(queryInfoList);
+            }
+        });
+    }
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < PROJECTS; i++) {
+            jdbcTemplate.update("INSERT INTO projects (id, name, deadline, status, version) VALUES (?, ?, ?, 'IN_PROGRESS', 0)",
+                    FIRST_ID + i, "Index test project " + i, Date.valueOf(LocalDate.now().plusYears(1)));
+        }
+        for (int i = 0; i < DEVELOPERS; i++) {
+            jdbcTemplate.update("INSERT INTO developers (id, name, email, version) VALUES (?, ?, ?, 0)",
+                    FIRST_ID + i, "Developer " + i, "index-test-" + i + "@example.com");
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            // Most tasks are due in the future, so overdue queries are selective
+            LocalDate dueDate = i % 50 == 0 ? LocalDate.now().minusDays(1 + i % 30) : LocalDate.now().plusDays(1 + i % 365);
+            tasks.add(new Object[]{FIRST_ID + i, "Task " + i, STATUSES[i % STATUSES.length], Date.valueOf(dueDate),
+                    FIRST_ID + i % PROJECTS, FIRST_ID + i % DEVELOPERS, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, status, due_date, project_id, developer_id, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", tasks);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // Pages are requested the way TaskController does by default: sorted by due date
+
+    @Test
+    void tasksByProjectUseProjectStatusIndex() {
+        assertUsesIndex(() -> taskRepository.findByProjectId(FIRST_ID, PageRequest.of(0, 10, Sort.by("dueDate"))),
+                "idx_tasks_project_status");
+    }
+
+    @Test
+    void statusCountsForProjectUseProjectStatusIndex() {
+        assertUsesIndex(() -> taskRepository.countTasksByStatusForProject(FIRST_ID), "idx_tasks_project_status");
+    }
+
+    @Test
+    void tasksByDeveloperUseDeveloperDueDateIndex() {
+        assertUsesIndex(() -> taskRepository.findByDeveloperId(FIRST_ID, PageRequest.of(0, 10, Sort.by("dueDate"))),
+                "idx_tasks_developer_due_date");
+    }
+
+    @Test
+    void overdueTasksUseOpenDueDatePartialIndex() {
+        assertUsesIndex(() -> taskRepository.findOverdueTasks(PageRequest.of(0, 20, Sort.by("dueDate"))),
+                "idx_tasks_open_due_date");
+    }
+
+    private void assertUsesIndex(Runnable repositoryCall, String index) {
+        QueryInfo query = firstSelect(repositoryCall);
+        String plan = explain(query);
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(index),
+                () -> "Expected " + index + " in plan of\n" + query.getQuery() + "\n" + plan);
+    }
+
+    // The row query of the call; paged calls may follow it with a count query
+    private QueryInfo firstSelect(Runnable repositoryCall) {
+        executedQueries.clear();
+        repositoryCall.run();
+        return executedQueries.stream()
+                .filter(query -> query.getQuery().stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No SELECT captured"));
+    }
+
+    // Replays the captured parameter bindings, so the planner sees the same values as the application's query
+    private String explain(QueryInfo query) {
+        return jdbcTemplate.execute("EXPLAIN " + query.getQuery(), (PreparedStatement statement) -> {
+            if (!query.getParametersList().isEmpty()) {
+                for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                    try {
+                        operation.getMethod().invoke(statement, operation.getArgs());
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IllegalStateException("Cannot bind " + operation.getMethod().getName(), e);
+                    }
+                }
+            }
+            List<String> lines = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    lines.add(resultSet.getString(1));
+                }
+            }
+            return String.join("\n", lines);
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.clb.projecttracker;
+
+import com.example.clb.projecttracker.model.Project;
+import com.example.clb.projecttracker.model.Task;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.repository.ProjectRepository;
+import com.example.clb.projecttracker.repository.TaskRepository;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Inserts 100k tasks in transactions of 1000 and prints the throughput, once into a copy of the tasks table keyed
+ * by an IDENTITY column (the id mapping before pooled-lo sequences) and once into tasks itself.
+ * Opt-in, as it takes a while: {@code mvn test -Dtest=TaskInsertBenchmarkTest -Dbenchmark=true}
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor},classpath:db/benchmark",
+        "spring.jpa.mapping-resources=META-INF/benchmark-orm.xml"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskInsertBenchmarkTest {
+
+    private static final int TASK_COUNT = 100_000;
+    private static final int TASKS_PER_TRANSACTION = 1_000;
+    private static final int WARM_UP_TASK_COUNT = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertTasks() {
+        Project project = new Project();
+        project.setName("Insert benchmark");
+        project.setDeadline(LocalDate.now().plusYears(1));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        Long projectId = projectRepository.save(project).getId();
+        long tasksBefore = taskRepository.count();
+
+        // Both variants run once untimed, so neither pays for JIT warm-up alone
+        insert(projectId, WARM_UP_TASK_COUNT, TaskInsertBenchmarkTest::identityTask);
+        insert(projectId, WARM_UP_TASK_COUNT, TaskInsertBenchmarkTest::pooledTask);
+
+        long identityMillis = insert(projectId, TASK_COUNT, TaskInsertBenchmarkTest::identityTask);
+        long pooledMillis = insert(projectId, TASK_COUNT, TaskInsertBenchmarkTest::pooledTask);
+
+        print("IDENTITY", identityMillis);
+        print("pooled-lo sequence", pooledMillis);
+        assertEquals(tasksBefore + WARM_UP_TASK_COUNT + TASK_COUNT, taskRepository.count());
+    }
+
+    private long insert(Long projectId, int count, BiFunction<Integer, Project, Object> taskFactory) {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < count; offset += TASKS_PER_TRANSACTION) {
+            int first = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                Project projectReference = entityManager.getReference(Project.class, projectId);
+                for (int i = first; i < first + TASKS_PER_TRANSACTION; i++) {
+                    entityManager.persist(taskFactory.apply(i, projectReference));
+                }
+            });
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static void print(String idStrategy, long elapsedMillis) {
+        System.out.printf("%s: inserted %d tasks in %d ms (%.0f rows/s)%n",
+                idStrategy, TASK_COUNT, elapsedMillis, TASK_COUNT * 1000.0 / Math.max(elapsedMillis, 1));
+    }
+
+    private static Task pooledTask(int i, Project project) {
+        Task task = new Task();
+        task.setTitle("Task " + i);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setDueDate(LocalDate.now().plusDays(i % 90));
+        task.setProject(project);
+        return task;
+    }
+
+    private static IdentityTask identityTask(int i, Project project) {
+        IdentityTask task = new IdentityTask();
+        task.title = "Task " + i;
+        task.status = TaskStatus.TO_DO;
+        task.dueDate = LocalDate.now().plusDays(i % 90);
+        task.project = project;
+        return task;
+    }
+
+    /**
+     * Task columns with the former IDENTITY id: Hibernate has to run each INSERT on persist to learn the id,
+     * so the inserts are neither deferred nor batched. Mapped by META-INF/benchmark-orm.xml.
+     */
+    static class IdentityTask {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false, length = 150)
+        private String title;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false)
+        private TaskStatus status;
+
+        private LocalDate dueDate;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "project_id", nullable = false)
+        private Project project;
+
+        @CreationTimestamp
+        @Column(name = "created_at", nullable = false, updatable = false)
+        private LocalDateTime createdAt;
+
+        @UpdateTimestamp
+        @Column(name = "updated_at", nullable = false)
+        private LocalDateTime updatedAt;
+
+        @Version
+        @Column(nullable = false)
+        private Long version;
+    }
+}
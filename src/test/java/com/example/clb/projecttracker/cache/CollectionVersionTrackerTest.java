@@ -0,0 +1,108 @@
+package com.example.clb.projecttracker.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CollectionVersionTrackerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final CollectionVersionTracker tracker = new CollectionVersionTracker(jdbcTemplate, cacheManager);
+
+    private void stored(long version) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(CollectionVersionTracker.TASKS))).thenReturn(version);
+    }
+
+    private void polled(String collection, long version) throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString("name")).thenReturn(collection);
+        when(row.getLong("version")).thenReturn(version);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        tracker.poll();
+    }
+
+    private void cacheSomething() {
+        cacheManager.getCache(TaskCache.TASKS).put(1L, "task");
+    }
+
+    private Object cached() {
+        return cacheManager.getCache(TaskCache.TASKS).get(1L);
+    }
+
+    @Test
+    void versionIsReadOnceThenServedFromMemory() {
+        stored(7);
+
+        assertEquals(7, tracker.current(CollectionVersionTracker.TASKS));
+        assertEquals(7, tracker.current(CollectionVersionTracker.TASKS));
+        assertEquals(7, tracker.current(CollectionVersionTracker.TASKS));
+
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), eq(CollectionVersionTracker.TASKS));
+    }
+
+    @Test
+    void polledVersionIsServedWithoutRead() throws Exception {
+        polled(CollectionVersionTracker.TASKS, 4);
+
+        assertEquals(4, tracker.current(CollectionVersionTracker.TASKS));
+        verify(jdbcTemplate, times(0)).queryForObject(anyString(), eq(Long.class), anyString());
+    }
+
+    @Test
+    void localCommitAdvancesVersionAndKeepsCaches() {
+        stored(7);
+        tracker.current(CollectionVersionTracker.TASKS);
+        cacheSomething();
+
+        tracker.committedLocally(Map.of(CollectionVersionTracker.TASKS, 8L));
+
+        assertEquals(8, tracker.current(CollectionVersionTracker.TASKS));
+        assertNotNull(cached());
+    }
+
+    @Test
+    void localCommitAfterUnpolledRemoteWriteClearsCaches() {
+        stored(7);
+        tracker.current(CollectionVersionTracker.TASKS);
+        cacheSomething();
+
+        // Version 8 was committed elsewhere and not polled yet
+        tracker.committedLocally(Map.of(CollectionVersionTracker.TASKS, 9L));
+
+        assertEquals(9, tracker.current(CollectionVersionTracker.TASKS));
+        assertNull(cached());
+    }
+
+    @Test
+    void pollSeeingRemoteWriteAdvancesVersionAndClearsCaches() throws Exception {
+        stored(7);
+        tracker.current(CollectionVersionTracker.TASKS);
+        cacheSomething();
+
+        polled(CollectionVersionTracker.TASKS, 8);
+
+        assertEquals(8, tracker.current(CollectionVersionTracker.TASKS));
+        assertNull(cached());
+    }
+}
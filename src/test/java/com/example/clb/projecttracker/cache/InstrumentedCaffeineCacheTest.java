@@ -0,0 +1,121 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.metrics.RequestMetricsTags;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InstrumentedCaffeineCacheTest {
+
+    private static final Duration LOAD_TIMEOUT = Duration.ofMillis(100);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstrumentedCaffeineCache cache = new InstrumentedCaffeineCache("test", Caffeine.newBuilder().buildAsync(),
+            true, new CacheKeyPopularity(new AppProperties()), LOAD_TIMEOUT, meterRegistry);
+    private final List<Set<String>> loadedKeys = new CopyOnWriteArrayList<>();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @BeforeEach
+    void bindRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private Map<String, String> load(Set<String> keys) {
+        loadedKeys.add(Set.copyOf(keys));
+        Map<String, String> values = new HashMap<>();
+        keys.forEach(key -> values.put(key, "loaded " + key));
+        return values;
+    }
+
+    @Test
+    void getAllLoadsOnlyTheMissingKeys() {
+        cache.put("a", "cached a");
+
+        Map<String, String> values = cache.getAll(List.of("a", "b"), this::load);
+
+        assertEquals(Map.of("a", "cached a", "b", "loaded b"), values);
+        assertEquals(List.of(Set.of("b")), loadedKeys);
+        assertEquals(RequestMetricsTags.CACHE_MISS, RequestMetricsTags.cache(request));
+        assertEquals("loaded b", cache.get("b", String.class));
+    }
+
+    @Test
+    void getAllOfCachedKeysIsAHit() {
+        cache.put("a", "cached a");
+        cache.put("b", "cached b");
+
+        Map<String, String> values = cache.getAll(List.of("a", "b"), this::load);
+
+        assertEquals(Map.of("a", "cached a", "b", "cached b"), values);
+        assertEquals(List.of(), loadedKeys);
+        assertEquals(RequestMetricsTags.CACHE_HIT, RequestMetricsTags.cache(request));
+    }
+
+    @Test
+    void getAllStopsWaitingForStuckLoadAfterTimeout() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> stuck = CompletableFuture.supplyAsync(() -> cache.get("a", () -> {
+            loading.countDown();
+            release.await();
+            return "slow a";
+        }));
+        loading.await();
+
+        Map<String, String> values = cache.getAll(List.of("a", "b"), this::load);
+
+        assertEquals(Map.of("a", "loaded a", "b", "loaded b"), values);
+        assertEquals(List.of(Set.of("b"), Set.of("a")), loadedKeys);
+        assertEquals(1, meterRegistry.get("cache.coalesced.waits").tag("outcome", "timeout").timer().count());
+
+        // The stuck load still owns the key and caches its value once done
+        release.countDown();
+        assertEquals("slow a", stuck.get(5, TimeUnit.SECONDS));
+        assertEquals("slow a", cache.get("a", String.class));
+    }
+
+    @Test
+    void getAllSharesLoadInFlightThatFinishesInTime() throws Exception {
+        InstrumentedCaffeineCache patientCache = new InstrumentedCaffeineCache("patient", Caffeine.newBuilder().buildAsync(),
+                true, new CacheKeyPopularity(new AppProperties()), Duration.ofSeconds(30), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> patientCache.get("a", () -> {
+            loading.countDown();
+            release.await();
+            return "shared a";
+        }));
+        loading.await();
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(release::countDown);
+
+        Map<String, String> values = patientCache.getAll(List.of("a", "b"), this::load);
+
+        assertEquals(Map.of("a", "shared a", "b", "loaded b"), values);
+        assertEquals(List.of(Set.of("b")), loadedKeys);
+        assertEquals(1, meterRegistry.get("cache.coalesced.waits").tags("cache", "patient", "outcome", "shared").timer().count());
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagePrefetcherTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final AppProperties appProperties = new AppProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Prefetches wait here until a test runs them
+    private final List<Runnable> queued = new ArrayList<>();
+    private final List<Pageable> loaded = new ArrayList<>();
+    private boolean rejecting;
+
+    @BeforeEach
+    void settings() {
+        AppProperties.Prefetch settings = appProperties.getPrefetch();
+        settings.setMaxInFlight(2);
+        settings.setMinSamples(4);
+        settings.setMinHitRate(0.5);
+        settings.setDisabledForMs(100);
+    }
+
+    private PagePrefetcher prefetcher() {
+        return new PagePrefetcher(appProperties, task -> {
+            if (rejecting) {
+                throw new RejectedExecutionException("Full");
+            }
+            queued.add(task);
+        }, meterRegistry);
+    }
+
+    private static Page<String> page(int number) {
+        return new PageImpl<>(List.of("task"), PageRequest.of(number, PAGE_SIZE), 100L * PAGE_SIZE);
+    }
+
+    private void serve(PagePrefetcher prefetcher, Object query, int... numbers) {
+        for (int number : numbers) {
+            prefetcher.pageServed(query, page(number), loaded::add);
+        }
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("page.prefetch").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void sequentialPagingPrefetchesTheNextPage() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        serve(prefetcher, "project 1", 0, 1);
+        assertEquals(1, queued.size());
+        runQueued();
+        assertEquals(List.of(PageRequest.of(2, PAGE_SIZE)), loaded);
+        assertEquals(1, count("issued"));
+
+        serve(prefetcher, "project 1", 2);
+        assertEquals(1, count("used"));
+        // Page 3 follows page 2 in turn
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void randomPagingPrefetchesNothing() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        serve(prefetcher, "project 1", 3, 7, 2, 0, 5);
+
+        assertTrue(queued.isEmpty());
+        assertEquals(0, count("issued"));
+    }
+
+    @Test
+    void listingsArePagedSeparately() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        serve(prefetcher, "project 1", 0);
+        serve(prefetcher, "project 2", 1);
+
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void lastPageHasNothingToPrefetch() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        serve(prefetcher, "project 1", 98, 99);
+
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void inFlightPrefetchesAreLimitedByTheBudget() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        serve(prefetcher, "project 1", 0, 1);
+        serve(prefetcher, "project 2", 0, 1);
+        serve(prefetcher, "project 3", 0, 1);
+        assertEquals(2, queued.size());
+        assertEquals(1, count("skipped_budget"));
+
+        // Finished prefetches give their budget back
+        runQueued();
+        serve(prefetcher, "project 3", 2);
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void rejectedPrefetchGivesItsBudgetBack() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        rejecting = true;
+        serve(prefetcher, "project 1", 0, 1);
+        serve(prefetcher, "project 2", 0, 1);
+        serve(prefetcher, "project 3", 0, 1);
+        assertEquals(3, count("rejected"));
+
+        rejecting = false;
+        serve(prefetcher, "project 1", 2);
+        serve(prefetcher, "project 2", 2);
+        assertEquals(2, queued.size());
+        assertEquals(0, count("skipped_budget"));
+    }
+
+    @Test
+    void failedPrefetchIsNotCountedAsUsed() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        prefetcher.pageServed("project 1", page(0), pageable -> {
+        });
+        prefetcher.pageServed("project 1", page(1), pageable -> {
+            throw new IllegalStateException("Database down");
+        });
+        runQueued();
+        serve(prefetcher, "project 1", 2);
+
+        assertEquals(1, count("failed"));
+        assertEquals(0, count("used"));
+    }
+
+    @Test
+    void lowHitRateDisablesPrefetchingThenProbesAgain() throws InterruptedException {
+        PagePrefetcher prefetcher = prefetcher();
+
+        prefetcher.recordOutcome(true);
+        prefetcher.recordOutcome(false);
+        prefetcher.recordOutcome(false);
+        assertTrue(prefetcher.isActive());
+        prefetcher.recordOutcome(false);
+        assertFalse(prefetcher.isActive());
+
+        serve(prefetcher, "project 1", 0, 1);
+        assertTrue(queued.isEmpty());
+        assertEquals(1, count("skipped_disabled"));
+
+        Thread.sleep(150);
+        assertTrue(prefetcher.isActive());
+        serve(prefetcher, "project 1", 2);
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void enoughHitsKeepPrefetchingOn() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        for (int i = 0; i < 10; i++) {
+            prefetcher.recordOutcome(i % 2 == 0);
+        }
+
+        assertTrue(prefetcher.isActive());
+    }
+
+    @Test
+    void hitRateIsCheckedPerWindowOfSamples() {
+        PagePrefetcher prefetcher = prefetcher();
+
+        // A full window of hits, then three misses: not a full window yet
+        for (int i = 0; i < 4; i++) {
+            prefetcher.recordOutcome(true);
+        }
+        for (int i = 0; i < 3; i++) {
+            prefetcher.recordOutcome(false);
+        }
+        assertTrue(prefetcher.isActive());
+
+        prefetcher.recordOutcome(false);
+        assertFalse(prefetcher.isActive());
+    }
+}
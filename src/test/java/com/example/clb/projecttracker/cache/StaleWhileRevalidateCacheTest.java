@@ -0,0 +1,136 @@
+package com.example.clb.projecttracker.cache;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the cache on a hand-advanced ticker, with background refreshes queued until the test runs them.
+ */
+class StaleWhileRevalidateCacheTest {
+
+    private static final Duration FRESH_FOR = Duration.ofSeconds(10);
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(60);
+    private static final String KEY = "summary";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache("test", Caffeine.newBuilder().buildAsync(),
+            true, new CacheKeyPopularity(new AppProperties()), Duration.ofSeconds(5), meterRegistry,
+            FRESH_FOR, MAX_STALENESS, refreshes::add, nanos::get);
+
+    // Each load returns the next version of the value
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String get() {
+        return cache.get(KEY, () -> "v" + loads.incrementAndGet());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runRefreshes() {
+        List<Runnable> queued = new ArrayList<>(refreshes);
+        refreshes.clear();
+        queued.forEach(Runnable::run);
+    }
+
+    private double staleServed() {
+        return meterRegistry.get("cache.stale.served").counter().count();
+    }
+
+    @Test
+    void freshValueIsServedWithoutRefresh() {
+        assertEquals("v1", get());
+        advance(FRESH_FOR.minusSeconds(1));
+
+        assertEquals("v1", get());
+        assertEquals(1, loads.get());
+        assertEquals(List.of(), refreshes);
+    }
+
+    @Test
+    void staleValueIsServedWithinMaxStalenessAndRefreshedInBackground() {
+        assertEquals("v1", get());
+        advance(FRESH_FOR.plus(MAX_STALENESS).minusSeconds(1));
+
+        assertEquals("v1", get());
+        assertEquals("v1", get());
+        assertEquals(2, staleServed());
+        assertEquals(1, refreshes.size(), "one refresh per stale value");
+
+        runRefreshes();
+
+        assertEquals("v2", get());
+        assertEquals(2, loads.get());
+        assertEquals(List.of(), refreshes);
+    }
+
+    @Test
+    void valueBeyondMaxStalenessIsLoadedInForeground() {
+        assertEquals("v1", get());
+        advance(FRESH_FOR.plus(MAX_STALENESS).plusSeconds(1));
+
+        assertEquals("v2", get());
+        assertEquals(0, staleServed());
+        assertEquals(List.of(), refreshes);
+    }
+
+    @Test
+    void evictedValueIsServedStaleUntilRefreshed() {
+        assertEquals("v1", get());
+
+        cache.evict(KEY);
+
+        assertEquals("v1", get());
+        assertEquals(1, staleServed());
+        runRefreshes();
+        assertEquals("v2", get());
+    }
+
+    @Test
+    void refreshOverlappingWriteIsNotTakenAsFresh() {
+        assertEquals("v1", get());
+        advance(FRESH_FOR.plusSeconds(1));
+        assertEquals("v1", get());
+
+        // A write lands while the refresh is queued, so what it loads may predate the write
+        cache.evict(KEY);
+        runRefreshes();
+
+        assertEquals("v2", get());
+        assertEquals(1, refreshes.size(), "the overlapping refresh result is stale and refreshed again");
+        runRefreshes();
+
+        assertEquals("v3", get());
+        assertEquals(List.of(), refreshes);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void failedRefreshIsRetriedByTheNextRead() {
+        cache.get(KEY, () -> "v1");
+        advance(FRESH_FOR.plusSeconds(1));
+        cache.get(KEY, () -> {
+            throw new IllegalStateException("database down");
+        });
+
+        runRefreshes();
+
+        assertEquals(1, meterRegistry.get("cache.refreshes").tag("outcome", "failure").counter().count());
+        assertEquals("v1", get());
+        assertEquals(1, refreshes.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.clb.projecttracker.listeners;
+
+import com.example.clb.projecttracker.model.enums.ChangeOperation;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.example.clb.projecttracker.model.enums.ChangeOperation.CREATED;
+import static com.example.clb.projecttracker.model.enums.ChangeOperation.DELETED;
+import static com.example.clb.projecttracker.model.enums.ChangeOperation.UPDATED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChangeLogRecorderTest {
+
+    @Test
+    void createdStaysCreatedThroughUpdates() {
+        assertEquals(CREATED, ChangeLogRecorder.combine(CREATED, UPDATED));
+    }
+
+    @Test
+    void createdThenDeletedLeavesNothing() {
+        assertNull(ChangeLogRecorder.combine(CREATED, DELETED));
+    }
+
+    @Test
+    void updatesStayOneUpdate() {
+        assertEquals(UPDATED, ChangeLogRecorder.combine(UPDATED, UPDATED));
+    }
+
+    @Test
+    void updatedThenDeletedIsDeleted() {
+        assertEquals(DELETED, ChangeLogRecorder.combine(UPDATED, DELETED));
+    }
+
+    // As record() folds the writes of a transaction: a null result drops the entity's entry
+    @Test
+    void foldedWritesOfOneTransaction() {
+        Map<Long, ChangeOperation> changes = new HashMap<>();
+        changes.merge(1L, CREATED, ChangeLogRecorder::combine);
+        changes.merge(1L, UPDATED, ChangeLogRecorder::combine);
+        changes.merge(2L, UPDATED, ChangeLogRecorder::combine);
+        changes.merge(2L, DELETED, ChangeLogRecorder::combine);
+        changes.merge(3L, CREATED, ChangeLogRecorder::combine);
+        changes.merge(3L, UPDATED, ChangeLogRecorder::combine);
+        changes.merge(3L, DELETED, ChangeLogRecorder::combine);
+
+        assertEquals(Map.of(1L, CREATED, 2L, DELETED), changes);
+    }
+}
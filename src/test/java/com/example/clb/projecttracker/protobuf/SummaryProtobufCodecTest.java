@@ -0,0 +1,114 @@
+package com.example.clb.projecttracker.protobuf;
+
+import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.model.enums.ProjectStatus;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SummaryProtobufCodecTest {
+
+    private interface Writer {
+        void write(CodedOutputStream out) throws IOException;
+    }
+
+    private static CodedInputStream encode(Writer writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        writer.write(out);
+        out.flush();
+        return CodedInputStream.newInstance(bytes.toByteArray());
+    }
+
+    @Test
+    void taskSummaryPageRoundTrips() throws IOException {
+        List<TaskSummaryDto> content = List.of(
+                new TaskSummaryDto(41L, "Write the schema", TaskStatus.IN_REVIEW, LocalDate.of(2026, 3, 1),
+                        7L, "Tracker", 3L, "Ada Lovelace — ✓"),
+                // Unassigned, without a due date: the absent fields stay null
+                new TaskSummaryDto(42L, "Review", TaskStatus.CANCELLED, null, 7L, "Tracker", null, null),
+                // Before the epoch, so the day number is negative
+                new TaskSummaryDto(43L, "Archive", TaskStatus.TO_DO, LocalDate.of(1969, 12, 31), 7L, "Tracker", null, null));
+        Page<TaskSummaryDto> page = new PageImpl<>(content, PageRequest.of(2, 3), 10);
+
+        Page<TaskSummaryDto> decoded = SummaryProtobufCodec.readTaskSummaries(
+                encode(out -> SummaryProtobufCodec.writeTaskSummaries(page, out)));
+
+        assertEquals(content, decoded.getContent());
+        assertEquals(2, decoded.getNumber());
+        assertEquals(3, decoded.getSize());
+        assertEquals(10, decoded.getTotalElements());
+        assertEquals(4, decoded.getTotalPages());
+    }
+
+    @Test
+    void projectSummaryPageRoundTrips() throws IOException {
+        List<ProjectSummaryDto> content = List.of(
+                new ProjectSummaryDto(1L, "Tracker", ProjectStatus.ON_HOLD, LocalDate.of(2027, 1, 15), 12),
+                new ProjectSummaryDto(2L, "Empty", ProjectStatus.NOT_STARTED, null, 0));
+        Page<ProjectSummaryDto> page = new PageImpl<>(content, PageRequest.of(0, 20), 2);
+
+        Page<ProjectSummaryDto> decoded = SummaryProtobufCodec.readProjectSummaries(
+                encode(out -> SummaryProtobufCodec.writeProjectSummaries(page, out)));
+
+        assertEquals(content, decoded.getContent());
+        assertEquals(0, decoded.getNumber());
+        assertEquals(20, decoded.getSize());
+        assertEquals(2, decoded.getTotalElements());
+    }
+
+    @Test
+    void everyStatusRoundTrips() throws IOException {
+        List<TaskSummaryDto> tasks = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            tasks.add(TaskSummaryDto.builder().id((long) status.ordinal() + 1).status(status).build());
+        }
+        List<ProjectSummaryDto> projects = new ArrayList<>();
+        for (ProjectStatus status : ProjectStatus.values()) {
+            projects.add(ProjectSummaryDto.builder().id((long) status.ordinal() + 1).status(status).build());
+        }
+
+        assertEquals(tasks, SummaryProtobufCodec.readTaskSummaries(
+                encode(out -> SummaryProtobufCodec.writeTaskSummaries(tasks, out))).getContent());
+        assertEquals(projects, SummaryProtobufCodec.readProjectSummaries(
+                encode(out -> SummaryProtobufCodec.writeProjectSummaries(projects, out))).getContent());
+    }
+
+    @Test
+    void listIsReadAsUnpagedPage() throws IOException {
+        List<TaskSummaryDto> content = List.of(TaskSummaryDto.builder().id(1L).title("Only").status(TaskStatus.TO_DO).build());
+
+        Page<TaskSummaryDto> decoded = SummaryProtobufCodec.readTaskSummaries(
+                encode(out -> SummaryProtobufCodec.writeTaskSummaries(content, out)));
+
+        assertEquals(content, decoded.getContent());
+        assertFalse(decoded.getPageable().isPaged());
+    }
+
+    @Test
+    void emptyPageKeepsItsPaging() throws IOException {
+        Page<TaskSummaryDto> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+
+        Page<TaskSummaryDto> decoded = SummaryProtobufCodec.readTaskSummaries(
+                encode(out -> SummaryProtobufCodec.writeTaskSummaries(page, out)));
+
+        assertTrue(decoded.getContent().isEmpty());
+        assertEquals(20, decoded.getSize());
+        assertEquals(0, decoded.getTotalElements());
+    }
+}
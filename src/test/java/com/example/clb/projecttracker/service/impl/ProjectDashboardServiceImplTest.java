@@ -0,0 +1,160 @@
+package com.example.clb.projecttracker.service.impl;
+
+import com.example.clb.projecttracker.config.AppProperties;
+import com.example.clb.projecttracker.config.AsyncConfig;
+import com.example.clb.projecttracker.dto.ProjectDashboardDto;
+import com.example.clb.projecttracker.dto.ProjectDto;
+import com.example.clb.projecttracker.dto.ProjectSummaryDto;
+import com.example.clb.projecttracker.dto.TaskStatusCountDto;
+import com.example.clb.projecttracker.dto.TaskSummaryDto;
+import com.example.clb.projecttracker.exception.ResourceNotFoundException;
+import com.example.clb.projecttracker.model.enums.TaskStatus;
+import com.example.clb.projecttracker.service.ProjectService;
+import com.example.clb.projecttracker.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectDashboardServiceImplTest {
+
+    private static final long PROJECT_ID = 7L;
+    private static final Pageable TASK_PAGE = PageRequest.of(0, 20);
+
+    private final ProjectService projectService = mock(ProjectService.class);
+    private final TaskService taskService = mock(TaskService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    // Holds back the parts that should still be running at the deadline
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ProjectDto project = new ProjectDto();
+    private final ProjectSummaryDto summary = ProjectSummaryDto.builder().id(PROJECT_ID).taskCount(1).build();
+    private final List<TaskStatusCountDto> statusCounts = List.of(new TaskStatusCountDto(TaskStatus.TO_DO, 1L));
+    private final Page<TaskSummaryDto> tasks = new PageImpl<>(
+            List.of(TaskSummaryDto.builder().id(1L).projectId(PROJECT_ID).build()), TASK_PAGE, 1);
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void parts() {
+        project.setId(PROJECT_ID);
+        project.setName("Dashboard");
+        appProperties.getDashboard().setPartTimeoutMs(200);
+        when(projectService.getProjectById(PROJECT_ID)).thenReturn(project);
+        when(projectService.getProjectSummary(PROJECT_ID)).thenReturn(summary);
+        when(taskService.getTaskCountsByStatusForProject(PROJECT_ID)).thenReturn(statusCounts);
+        when(taskService.getTaskSummariesByProjectId(PROJECT_ID, TASK_PAGE)).thenReturn(tasks);
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    // The executor as configured for the application, with the pool of the test
+    private ProjectDashboardServiceImpl service(int poolSize, int queueCapacity) {
+        appProperties.getDashboard().setPoolSize(poolSize);
+        appProperties.getDashboard().setQueueCapacity(queueCapacity);
+        executor = new AsyncConfig().dashboardExecutor(appProperties);
+        executor.initialize();
+        return new ProjectDashboardServiceImpl(projectService, taskService, executor, appProperties, meterRegistry);
+    }
+
+    private <T> T blocked(T value) throws InterruptedException {
+        release.await();
+        return value;
+    }
+
+    private double parts(String part, String outcome) {
+        return meterRegistry.get("project.dashboard.parts").tag("part", part).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void allPartsAreReturned() {
+        ProjectDashboardDto dashboard = service(4, 10).getProjectDashboard(PROJECT_ID, TASK_PAGE);
+
+        assertTrue(dashboard.isComplete(), dashboard.getMissingParts()::toString);
+        assertEquals(project, dashboard.getProject());
+        assertEquals(summary, dashboard.getSummary());
+        assertEquals(statusCounts, dashboard.getStatusCounts());
+        assertEquals(tasks, dashboard.getTasks());
+        assertEquals(1, parts("tasks", "ok"));
+    }
+
+    @Test
+    void failedPartIsLeftOut() {
+        when(taskService.getTaskCountsByStatusForProject(PROJECT_ID)).thenThrow(new IllegalStateException("Query failed"));
+
+        ProjectDashboardDto dashboard = service(4, 10).getProjectDashboard(PROJECT_ID, TASK_PAGE);
+
+        assertEquals(Map.of("statusCounts", "error"), dashboard.getMissingParts());
+        assertNull(dashboard.getStatusCounts());
+        assertEquals(project, dashboard.getProject());
+        assertEquals(summary, dashboard.getSummary());
+        assertEquals(tasks, dashboard.getTasks());
+        assertEquals(1, parts("statusCounts", "error"));
+    }
+
+    @Test
+    void slowPartTimesOutWithoutHoldingTheOthers() {
+        when(projectService.getProjectSummary(PROJECT_ID)).thenAnswer(invocation -> blocked(summary));
+
+        long start = System.nanoTime();
+        ProjectDashboardDto dashboard = service(4, 10).getProjectDashboard(PROJECT_ID, TASK_PAGE);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(Map.of("summary", "timeout"), dashboard.getMissingParts());
+        assertNull(dashboard.getSummary());
+        assertEquals(project, dashboard.getProject());
+        assertEquals(statusCounts, dashboard.getStatusCounts());
+        assertEquals(tasks, dashboard.getTasks());
+        // One deadline for all parts
+        assertTrue(elapsedMs >= 200 && elapsedMs < 1000, () -> elapsedMs + " ms");
+        assertEquals(1, parts("summary", "timeout"));
+    }
+
+    @Test
+    void partsRejectedByAFullPoolAreLeftOut() {
+        when(projectService.getProjectById(PROJECT_ID)).thenAnswer(invocation -> blocked(project));
+        when(projectService.getProjectSummary(PROJECT_ID)).thenAnswer(invocation -> blocked(summary));
+
+        // Both threads are held by the first two parts, and there is no queue: the AbortPolicy rejects the rest
+        ProjectDashboardDto dashboard = service(2, 0).getProjectDashboard(PROJECT_ID, TASK_PAGE);
+
+        assertEquals(Map.of("project", "timeout", "summary", "timeout", "statusCounts", "rejected", "tasks", "rejected"),
+                dashboard.getMissingParts());
+        assertEquals(1, parts("statusCounts", "rejected"));
+        assertEquals(1, parts("tasks", "rejected"));
+    }
+
+    @Test
+    void missingProjectIsNotFound() {
+        ResourceNotFoundException notFound = new ResourceNotFoundException("Project", "id", PROJECT_ID);
+        when(projectService.getProjectById(PROJECT_ID)).thenThrow(notFound);
+
+        ProjectDashboardServiceImpl service = service(4, 10);
+
+        assertEquals(notFound, assertThrows(ResourceNotFoundException.class,
+                () -> service.getProjectDashboard(PROJECT_ID, TASK_PAGE)));
+    }
+}
@@ -0,0 +1,13 @@
+-- Copy of the tasks table keyed by an IDENTITY column, for the "before" run of TaskInsertBenchmarkTest
+CREATE TABLE IF NOT EXISTS identity_tasks (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title      VARCHAR(150) NOT NULL,
+    status     VARCHAR(255) NOT NULL,
+    due_date   DATE,
+    project_id BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version    BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_identity_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_identity_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
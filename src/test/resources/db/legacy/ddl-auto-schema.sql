@@ -0,0 +1,74 @@
+-- Schema as ddl-auto=update created it before Flyway took over: IDENTITY ids, no optimistic locking columns.
+-- Used by LegacySchemaMigrationTest, which loads it into an empty database before Flyway baselines and migrates it.
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(100) NOT NULL,
+    description TEXT,
+    deadline    DATE         NOT NULL,
+    status      VARCHAR(255) NOT NULL
+        CHECK (status IN ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'ON_HOLD', 'CANCELLED')),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_projects_name UNIQUE (name)
+);
+
+CREATE TABLE developers (
+    id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name   VARCHAR(100) NOT NULL,
+    email  VARCHAR(100) NOT NULL,
+    skills VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_developers_email UNIQUE (email)
+);
+
+CREATE TABLE tasks (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title        VARCHAR(150) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL
+        CHECK (status IN ('TO_DO', 'IN_PROGRESS', 'BLOCKED', 'IN_REVIEW', 'COMPLETED', 'CANCELLED')),
+    due_date     DATE,
+    project_id   BIGINT       NOT NULL,
+    developer_id BIGINT,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_tasks_developer FOREIGN KEY (developer_id) REFERENCES developers (id)
+);
+
+CREATE TABLE roles (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(20)
+        CHECK (name IN ('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_DEVELOPER', 'ROLE_CONTRACTOR')),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username    VARCHAR(50),
+    email       VARCHAR(120),
+    password    VARCHAR(120),
+    provider    VARCHAR(255) NOT NULL CHECK (provider IN ('LOCAL', 'GOOGLE', 'GITHUB')),
+    provider_id VARCHAR(255),
+    active      BOOLEAN      NOT NULL,
+    approved    BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT  NOT NULL,
+    role_id INTEGER NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+-- Ids far above what the H2 sequences of V2 (which start at 1) hand out while the test runs
+INSERT INTO projects (id, name, deadline, status) VALUES (1000001, 'Legacy project', DATE '2030-01-01', 'IN_PROGRESS');
+INSERT INTO developers (id, name, email) VALUES (1000001, 'Legacy developer', 'legacy@example.com');
+INSERT INTO tasks (id, title, status, project_id, developer_id, created_at, updated_at)
+VALUES (1000001, 'Legacy task', 'TO_DO', 1000001, 1000001, TIMESTAMP '2024-01-01 00:00:00', TIMESTAMP '2024-01-01 00:00:00');